@@ -4,17 +4,332 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Setter
 @ConfigurationProperties(prefix = "app")
 public class AppProperties {
 
     private final Jwt jwt = new Jwt();
+    private final Idempotency idempotency = new Idempotency();
+    private final RateLimit rateLimit = new RateLimit();
+    private final Audit audit = new Audit();
+    private final Outbox outbox = new Outbox();
+    private final PendingSla pendingSla = new PendingSla();
+    private final ReadReplicas readReplicas = new ReadReplicas();
+    private final Archive archive = new Archive();
+    private final Search search = new Search();
+    private final RequestTiming requestTiming = new RequestTiming();
+    private final Logging logging = new Logging();
+    private final Tenancy tenancy = new Tenancy();
+    private final PendingInbox pendingInbox = new PendingInbox();
+    private final Registration registration = new Registration();
+    private final Provisioning provisioning = new Provisioning();
+    private final Calendar calendar = new Calendar();
+    private final Reports reports = new Reports();
+    private final Deadlines deadlines = new Deadlines();
+    private final LeaveCache leaveCache = new LeaveCache();
+    private final Seed seed = new Seed();
 
     @Getter
     @Setter
     public static class Jwt {
         private String secret;
         private long expirationMs;
+        private long refreshExpirationMs = 1_209_600_000L;
+        private final Revocation revocation = new Revocation();
+
+        @Getter
+        @Setter
+        public static class Revocation {
+            private Duration syncInterval = Duration.ofSeconds(5);
+            private Duration pruneInterval = Duration.ofMinutes(10);
+            private int batchSize = 1000;
+            private int expectedEntries = 100_000;
+            private double falsePositiveRate = 0.01;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Idempotency {
+        private boolean enabled = true;
+        private String store = "memory";
+        private Duration ttl = Duration.ofHours(24);
+        private int maxEntries = 10_000;
+        private int maxEntriesPerTenant = 2_000;
+        private Duration cleanupInterval = Duration.ofMinutes(5);
+        private List<String> paths = List.of("/api/leaves", "/api/leaves/batch", "/api/auth/register",
+                "/api/reports");
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+        private boolean enabled = true;
+        private int maxBuckets = 100_000;
+        private Duration evictionInterval = Duration.ofMinutes(1);
+        private final Limit authIp = new Limit(30, 30);
+        private final Limit authUsername = new Limit(10, 5);
+        private final Limit api = new Limit(120, 600);
+        private final Limit tenant = new Limit(1_200, 6_000);
+
+        @Getter
+        @Setter
+        public static class Limit {
+            private int capacity;
+            private int refillPerMinute;
+
+            public Limit(int capacity, int refillPerMinute) {
+                this.capacity = capacity;
+                this.refillPerMinute = refillPerMinute;
+            }
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Audit {
+        private boolean enabled = true;
+        private Duration pollInterval = Duration.ofSeconds(1);
+        private int batchSize = 500;
+        private int maxBatchesPerRun = 20;
+        private long backlogWarnThreshold = 50_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Outbox {
+        private Duration pollInterval = Duration.ofSeconds(1);
+        private int batchSize = 200;
+        private int maxBatchesPerRun = 10;
+        private Duration retention = Duration.ofDays(7);
+        private Duration pruneInterval = Duration.ofMinutes(10);
+        private Duration gapTimeout = Duration.ofMinutes(5);
+        private final Retry retry = new Retry();
+        private final Webhook webhook = new Webhook();
+        private final File file = new File();
+        private final Memory memory = new Memory();
+
+        @Getter
+        @Setter
+        public static class Retry {
+            private Duration initialBackoff = Duration.ofSeconds(1);
+            private Duration maxBackoff = Duration.ofMinutes(5);
+        }
+
+        @Getter
+        @Setter
+        public static class Webhook {
+            private boolean enabled;
+            private String url;
+            private Duration timeout = Duration.ofSeconds(5);
+        }
+
+        @Getter
+        @Setter
+        public static class File {
+            private boolean enabled;
+            private String path = "outbox/events.ndjson";
+        }
+
+        @Getter
+        @Setter
+        public static class Memory {
+            private boolean enabled;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class PendingSla {
+        private boolean enabled = true;
+        private Duration escalateAfter = Duration.ofDays(3);
+        private Duration expireAfter = Duration.ofDays(14);
+        private boolean expireWhenStarted = true;
+        private int chunkSize = 500;
+        private Duration interval = Duration.ofMinutes(15);
+        private Duration initialDelay = Duration.ofMinutes(1);
+        private Duration lockTtl = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class ReadReplicas {
+        private boolean enabled;
+        private List<Node> nodes = new ArrayList<>();
+        private int maxPoolSize = 10;
+        private Duration healthCheckInterval = Duration.ofSeconds(10);
+        private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+        @Getter
+        @Setter
+        public static class Node {
+            private String url;
+            private String username;
+            private String password;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Archive {
+        private boolean enabled = true;
+        private Period after = Period.ofYears(1);
+        private int chunkSize = 1000;
+        private String cron = "0 30 2 * * *";
+        private Duration lockTtl = Duration.ofHours(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Search {
+        private boolean enabled = true;
+        private String indexPath = "";
+        private Duration pollInterval = Duration.ofSeconds(1);
+        private int batchSize = 500;
+        private int maxBatchesPerRun = 20;
+        private int maxResultWindow = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class RequestTiming {
+        private boolean enabled = true;
+        private Duration slowThreshold = Duration.ofMillis(500);
+        private int topSize = 20;
+        private Duration window = Duration.ofMinutes(15);
+    }
+
+    @Getter
+    @Setter
+    public static class Logging {
+        private Duration dedupWindow = Duration.ofMinutes(1);
+        private int dedupMaxKeys = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Tenancy {
+        private int maxConcurrentRequests = 6;
+        private Duration maxQueueWait = Duration.ofMillis(50);
+    }
+
+    @Getter
+    @Setter
+    public static class PendingInbox {
+        private Duration pollInterval = Duration.ofSeconds(1);
+        private int batchSize = 500;
+        private int maxBatchesPerRun = 20;
+    }
+
+    @Getter
+    @Setter
+    public static class Registration {
+        private Duration syncInterval = Duration.ofSeconds(5);
+        private int batchSize = 1000;
+        private int expectedAccounts = 100_000;
+        private double falsePositiveRate = 0.01;
+    }
+
+    @Getter
+    @Setter
+    public static class Provisioning {
+        private int windowSize = 5_000;
+        private int batchSize = 500;
+        private int maxJsonRows = 1_000;
+        private int hashingThreads;
+        private int hashingQueueCapacity = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Calendar {
+        private Duration maxAge = Duration.ofMinutes(10);
+        private int maxFeeds = 50_000;
+        private Period history = Period.ofDays(90);
+        private Duration ownerCheckInterval = Duration.ofMinutes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Reports {
+        private String directory = "";
+        private int workers = 2;
+        private int queueCapacity = 50;
+        private int maxActivePerOrganization = 3;
+        private Duration resultTtl = Duration.ofHours(24);
+        private Duration heartbeatInterval = Duration.ofSeconds(30);
+        private Duration leaseTimeout = Duration.ofMinutes(5);
+        private Duration cleanupInterval = Duration.ofMinutes(5);
+        private int fetchSize = 1_000;
+        private int chunkSize = 64 * 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class Deadlines {
+        private boolean enabled = true;
+        private Duration defaultTimeout = Duration.ofSeconds(10);
+        private String header = "X-Request-Timeout";
+        private List<Endpoint> endpoints = new ArrayList<>();
+
+        @Getter
+        @Setter
+        public static class Endpoint {
+            private String method;
+            private String path;
+            private Duration timeout;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class LeaveCache {
+        private boolean enabled = true;
+        private Duration freshFor = Duration.ofSeconds(5);
+        private Duration staleWhileRevalidate = Duration.ofSeconds(30);
+        private Duration staleIfError = Duration.ofMinutes(15);
+        private int maxEntries = 50_000;
+        private int maxEntriesPerTenant = 1_000;
+        private int maxListSize = 5_000;
+        private int refreshThreads = 2;
+        private int refreshQueueCapacity = 100;
+        private Duration refreshTimeout = Duration.ofSeconds(10);
+        private Duration pollInterval = Duration.ofSeconds(1);
+        private int batchSize = 500;
+        private int maxBatchesPerRun = 20;
+        private final Breaker breaker = new Breaker();
+
+        @Getter
+        @Setter
+        public static class Breaker {
+            private int failureThreshold = 5;
+            private Duration openDuration = Duration.ofSeconds(30);
+            private Duration slowCallThreshold = Duration.ofSeconds(2);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Seed {
+        private long seed = 42;
+        private String organizationPrefix = "seed";
+        private int organizations = 10;
+        private int usersPerOrganization = 10_000;
+        private int leavesPerUser = 24;
+        private int maxLeavesPerUser = 200;
+        private int managerSpan = 8;
+        private Period history = Period.ofYears(3);
+        private LocalDate anchorDate;
+        private String password = "Seed@12345";
+        private int batchSize = 5_000;
+        private boolean archive = true;
+        private boolean exitWhenDone;
     }
 }
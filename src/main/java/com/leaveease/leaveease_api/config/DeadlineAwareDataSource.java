@@ -0,0 +1,55 @@
+package com.leaveease.leaveease_api.config;
+
+import com.leaveease.leaveease_api.web.RequestDeadline;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waits for a pooled connection no longer than the current {@link RequestDeadline} allows. Hikari
+ * otherwise blocks a request for its full {@code connectionTimeout} when the pool is exhausted,
+ * long after the client has given up. A request whose deadline has passed, or passes while it
+ * waits, gets a {@link SQLTimeoutException}, which surfaces as a deadline-exceeded response.
+ * Threads without a deadline wait as the pool is configured to.
+ */
+public class DeadlineAwareDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final HikariDataSource pool;
+
+    public DeadlineAwareDataSource(HikariDataSource pool) {
+        super(pool);
+        this.pool = pool;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Long remaining = RequestDeadline.remainingNanos();
+        if (remaining == null) {
+            return pool.getConnection();
+        }
+        if (remaining <= 0) {
+            throw new SQLTimeoutException("Request deadline passed before a database connection was requested");
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(remaining + 999_999L);
+        // The pool is created by the first getConnection(); until then it has nothing to wait for.
+        if (!(pool.getHikariPoolMXBean() instanceof HikariPool started) || millis >= pool.getConnectionTimeout()) {
+            return pool.getConnection();
+        }
+        try {
+            return started.getConnection(millis);
+        } catch (SQLTransientConnectionException e) {
+            throw new SQLTimeoutException("Request deadline passed while waiting for a database connection", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.close();
+    }
+}
@@ -0,0 +1,33 @@
+package com.leaveease.leaveease_api.config;
+
+import com.leaveease.leaveease_api.web.RequestDeadline;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the timeout of every transaction started by a request at the time left before its
+ * {@link RequestDeadline}. Spring hands the remaining time to each JPA query and JDBC statement
+ * of the transaction as a query timeout, so a slow database cancels the statement instead of
+ * holding the request thread. A request whose deadline has already passed fails before it takes
+ * a connection; the wait for a pooled connection itself is bounded by
+ * {@link DeadlineAwareDataSource}.
+ */
+public class DeadlineAwareTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int timeout = super.determineTimeout(definition);
+        Long remaining = RequestDeadline.remainingNanos();
+        if (remaining == null) {
+            return timeout;
+        }
+        if (remaining <= 0) {
+            throw new TransactionTimedOutException("Request deadline passed before the transaction started");
+        }
+        int seconds = (int) Math.min(Integer.MAX_VALUE, TimeUnit.NANOSECONDS.toSeconds(remaining + 999_999_999L));
+        return timeout == TransactionDefinition.TIMEOUT_DEFAULT ? seconds : Math.min(timeout, seconds);
+    }
+}
@@ -0,0 +1,86 @@
+package com.leaveease.leaveease_api.config;
+
+import com.leaveease.leaveease_api.service.ReadYourWritesTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured data source with one that routes {@code @Transactional(readOnly = true)}
+ * work to read replicas. Only active when {@code app.read-replicas.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    /**
+     * The pool Boot would have built, including the {@code spring.datasource.hikari.*} settings it
+     * binds onto its own pool.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             AppProperties appProperties,
+                                                             ReadYourWritesTracker readYourWritesTracker,
+                                                             MeterRegistry meterRegistry) {
+        AppProperties.ReadReplicas config = appProperties.getReadReplicas();
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < config.getNodes().size(); i++) {
+            AppProperties.ReadReplicas.Node node = config.getNodes().get(i);
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(node.getUrl())
+                    .username(node.getUsername())
+                    .password(node.getPassword())
+                    .build();
+            replica.setPoolName("replica-" + i);
+            replica.setMaximumPoolSize(config.getMaxPoolSize());
+            replica.setReadOnly(true);
+            replicas.add(new DeadlineAwareDataSource(replica));
+        }
+
+        routingDataSource = new ReplicaRoutingDataSource(
+                new DeadlineAwareDataSource(primaryDataSource), replicas, readYourWritesTracker);
+        Gauge.builder("leaveease.datasource.replicas.healthy", routingDataSource, ReplicaRoutingDataSource::healthyReplicaCount)
+                .description("Read replicas currently receiving read-only transactions")
+                .register(meterRegistry);
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Scheduled(fixedDelayString = "${app.read-replicas.health-check-interval:PT10S}")
+    public void checkReplicaHealth() {
+        if (routingDataSource != null) {
+            routingDataSource.checkReplicaHealth(2);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.leaveease.leaveease_api.config;
+
+import com.leaveease.leaveease_api.service.ReadYourWritesTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections for read-only transactions to a healthy replica (round robin) and everything
+ * else to the primary. Must sit behind a {@code LazyConnectionDataSourceProxy} so that the
+ * read-only flag of the transaction is known when the physical connection is requested. A replica
+ * that times out on the request deadline stays healthy and the request fails instead of retrying
+ * on the primary with no time left.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWritesTracker readYourWritesTracker) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = selectReplica();
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLTimeoutException e) {
+                throw e;
+            } catch (SQLException e) {
+                markUnhealthy(replica, e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Replica replica = selectReplica();
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection(username, password);
+            } catch (SQLTimeoutException e) {
+                throw e;
+            } catch (SQLException e) {
+                markUnhealthy(replica, e);
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * @return the data source the current thread would be routed to
+     */
+    public DataSource currentTarget() {
+        Replica replica = selectReplica();
+        return replica != null ? replica.dataSource : primary;
+    }
+
+    public void checkReplicaHealth(int timeoutSeconds) {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(timeoutSeconds);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                log.info("Read replica {} is now {}", replicas.indexOf(replica), healthy ? "healthy" : "unhealthy");
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    public long healthyReplicaCount() {
+        return replicas.stream().filter(r -> r.healthy).count();
+    }
+
+    private Replica selectReplica() {
+        if (replicas.isEmpty()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || mustReadOwnWrites()) {
+            return null;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica candidate = replicas.get((start + i) % size);
+            if (candidate.healthy) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private boolean mustReadOwnWrites() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && readYourWritesTracker.isWithinWindow(authentication.getName());
+    }
+
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void markUnhealthy(Replica replica, SQLException e) {
+        replica.healthy = false;
+        log.warn("Read replica {} failed, falling back to primary: {}", replicas.indexOf(replica), e.getMessage());
+    }
+
+    private static final class Replica {
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
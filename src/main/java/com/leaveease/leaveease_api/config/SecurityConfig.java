@@ -1,6 +1,8 @@
 package com.leaveease.leaveease_api.config;
 
 import com.leaveease.leaveease_api.security.JwtAuthenticationFilter;
+import com.leaveease.leaveease_api.security.RateLimitFilter;
+import com.leaveease.leaveease_api.security.TenantBulkheadFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -30,6 +32,8 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final TenantBulkheadFilter tenantBulkheadFilter;
 
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
@@ -57,14 +61,18 @@ public class SecurityConfig {
             .headers(headers -> headers.frameOptions(frame -> frame.sameOrigin()))
             .authorizeHttpRequests(auth -> auth
                     .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
-                    .requestMatchers("/api/auth/register", "/api/auth/login").permitAll()
+                    .requestMatchers("/api/auth/register", "/api/auth/login", "/api/auth/refresh", "/api/auth/availability").permitAll()
+                    .requestMatchers(HttpMethod.GET, "/api/calendar/feeds/*").permitAll()
                     .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
-                    .requestMatchers("/h2-console/**", "/actuator/**").permitAll()
+                    .requestMatchers("/h2-console/**", "/actuator/health/**").permitAll()
+                    .requestMatchers("/actuator/**").hasRole("ADMIN")
                     .requestMatchers("/error").permitAll()
                     .anyRequest().authenticated()
             )
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+            .addFilterAfter(tenantBulkheadFilter, RateLimitFilter.class);
 
         log.info("SecurityFilterChain built successfully");
         return http.build();
@@ -0,0 +1,38 @@
+package com.leaveease.leaveease_api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.transaction.autoconfigure.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Replaces Boot's JPA transaction manager with {@link DeadlineAwareTransactionManager}, keeping
+ * the {@code spring.transaction.*} customizations Boot would have applied, and wraps Boot's
+ * connection pool in a {@link DeadlineAwareDataSource}. With read replicas enabled
+ * {@link ReadReplicaConfig} wraps each of its pools instead.
+ */
+@Configuration
+public class TransactionConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> customizers) {
+        DeadlineAwareTransactionManager transactionManager = new DeadlineAwareTransactionManager();
+        customizers.ifAvailable(customizer -> customizer.customize(transactionManager));
+        return transactionManager;
+    }
+
+    @Bean
+    public static BeanPostProcessor deadlineAwareDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return "dataSource".equals(beanName) && bean instanceof HikariDataSource pool
+                        ? new DeadlineAwareDataSource(pool)
+                        : bean;
+            }
+        };
+    }
+}
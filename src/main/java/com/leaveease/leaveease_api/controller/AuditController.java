@@ -0,0 +1,48 @@
+package com.leaveease.leaveease_api.controller;
+
+import com.leaveease.leaveease_api.dto.AuditLogResponseDto;
+import com.leaveease.leaveease_api.dto.PagedResponse;
+import com.leaveease.leaveease_api.security.TenantPrincipal;
+import com.leaveease.leaveease_api.service.AuditService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/audit")
+@RequiredArgsConstructor
+@Tag(name = "Audit", description = "Read-only audit trail of leave request lifecycle events")
+public class AuditController {
+
+    private final AuditService auditService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Search the audit log",
+               description = "Returns audit entries of the caller's organization newest first, optionally filtered by leave request or acting user. "
+                       + "Entries are written asynchronously and may lag the originating change by a few seconds.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page of audit entries returned"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Not authorized — requires ADMIN role")
+    })
+    public ResponseEntity<PagedResponse<AuditLogResponseDto>> search(
+            @RequestParam(required = false) Long leaveRequestId,
+            @RequestParam(required = false) String actor,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            Authentication authentication) {
+
+        return ResponseEntity.ok(auditService.search(
+                TenantPrincipal.of(authentication).organizationId(), leaveRequestId, actor, page, size));
+    }
+}
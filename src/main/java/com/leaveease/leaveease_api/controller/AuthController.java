@@ -1,27 +1,42 @@
 package com.leaveease.leaveease_api.controller;
 
 import com.leaveease.leaveease_api.dto.AuthResponse;
+import com.leaveease.leaveease_api.dto.AvailabilityResponse;
 import com.leaveease.leaveease_api.dto.LoginRequest;
+import com.leaveease.leaveease_api.dto.RefreshTokenRequest;
 import com.leaveease.leaveease_api.dto.RegisterRequest;
-import com.leaveease.leaveease_api.entity.Role;
 import com.leaveease.leaveease_api.entity.User;
+import com.leaveease.leaveease_api.exception.RateLimitExceededException;
 import com.leaveease.leaveease_api.repository.UserRepository;
 import com.leaveease.leaveease_api.security.JwtUtil;
+import com.leaveease.leaveease_api.security.RateLimiter;
+import com.leaveease.leaveease_api.security.TokenRevocationService;
+import com.leaveease.leaveease_api.service.AccountAvailabilityService;
+import com.leaveease.leaveease_api.service.OrganizationService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -33,39 +48,63 @@ public class AuthController {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
+    private final RateLimiter rateLimiter;
+    private final TokenRevocationService tokenRevocationService;
+    private final OrganizationService organizationService;
+    private final AccountAvailabilityService accountAvailabilityService;
 
+    /**
+     * Opens a new organization with the caller as its admin. Employees and further admins are
+     * added by that admin through {@code POST /api/users/bulk}.
+     */
     @PostMapping("/register")
     public ResponseEntity<?> register(@Valid @RequestBody RegisterRequest request) {
-        if (userRepository.existsByUsername(request.getUsername())) {
-            return ResponseEntity.badRequest().body(Map.of("error", "Username already taken"));
-        }
-        if (userRepository.existsByEmail(request.getEmail())) {
-            return ResponseEntity.badRequest().body(Map.of("error", "Email already registered"));
-        }
-
-        Role assignedRole = request.getRole() != null ? request.getRole() : Role.EMPLOYEE;
+        checkAttemptBudget(request.getUsername());
 
         User user = User.builder()
                 .username(request.getUsername())
                 .email(request.getEmail())
                 .password(passwordEncoder.encode(request.getPassword()))
-                .role(assignedRole)
                 .build();
 
-        userRepository.save(user);
-        log.info("User registered: {}", user.getUsername());
+        try {
+            organizationService.registerOrganization(request.getOrganization(), user);
+        } catch (DataIntegrityViolationException e) {
+            String constraint = violatedConstraint(e);
+            if (constraint.contains(User.USERNAME_CONSTRAINT)) {
+                return ResponseEntity.badRequest().body(Map.of("error", "Username already taken"));
+            }
+            if (constraint.contains(User.EMAIL_CONSTRAINT)) {
+                return ResponseEntity.badRequest().body(Map.of("error", "Email already registered"));
+            }
+            throw e;
+        }
+        accountAvailabilityService.remember(user.getUsername(), user.getEmail());
+        log.info("Organization {} registered by {}", request.getOrganization(), user.getUsername());
 
-        String token = jwtUtil.generateToken(user.getUsername(), user.getRole().name());
+        return ResponseEntity.status(HttpStatus.CREATED).body(issueTokens(user));
+    }
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(AuthResponse.builder()
-                .token(token)
-                .username(user.getUsername())
-                .role(user.getRole().name())
-                .build());
+    /**
+     * Called by the signup form as the user types, so a name nobody has is answered from memory.
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<?> availability(@RequestParam(required = false) String username,
+                                          @RequestParam(required = false) String email) {
+        if (username == null && email == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "username or email is required"));
+        }
+        return ResponseEntity.ok(new AvailabilityResponse(
+                username,
+                username != null ? accountAvailabilityService.isUsernameAvailable(username) : null,
+                email,
+                email != null ? accountAvailabilityService.isEmailAvailable(email) : null));
     }
 
     @PostMapping("/login")
     public ResponseEntity<?> login(@Valid @RequestBody LoginRequest request) {
+        checkAttemptBudget(request.getUsername());
+
         try {
             authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword()));
@@ -73,18 +112,105 @@ public class AuthController {
             User user = userRepository.findByUsername(request.getUsername())
                     .orElseThrow();
 
-            String token = jwtUtil.generateToken(user.getUsername(), user.getRole().name());
-            log.info("User logged in: {}", user.getUsername());
+            log.debug("User logged in: {}", user.getUsername());
 
-            return ResponseEntity.ok(AuthResponse.builder()
-                    .token(token)
-                    .username(user.getUsername())
-                    .role(user.getRole().name())
-                    .build());
+            return ResponseEntity.ok(issueTokens(user));
 
         } catch (AuthenticationException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", "Invalid username or password"));
         }
     }
+
+    /**
+     * Exchanges a refresh token for a new access/refresh pair. Refresh tokens are single-use: the
+     * presented one is revoked, and presenting it again is rejected. The user is re-read here, so
+     * role changes and deleted accounts take effect at the next refresh.
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        Optional<Claims> claims = parseRefreshToken(request.getRefreshToken());
+        if (claims.isEmpty()) {
+            return invalidRefreshToken();
+        }
+        checkAttemptBudget(claims.get().getSubject());
+
+        if (!tokenRevocationService.revoke(claims.get().getId(), claims.get().getExpiration().toInstant())) {
+            log.warn("Refresh token reused for user: {}", claims.get().getSubject());
+            return invalidRefreshToken();
+        }
+
+        return userRepository.findByUsername(claims.get().getSubject())
+                .<ResponseEntity<?>>map(user -> ResponseEntity.ok(issueTokens(user)))
+                .orElseGet(this::invalidRefreshToken);
+    }
+
+    /**
+     * Revokes the access token used for this call and, if given, the refresh token of the session.
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(HttpServletRequest httpRequest,
+                                       @RequestBody(required = false) RefreshTokenRequest request) {
+        String authHeader = httpRequest.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            Claims access = jwtUtil.parse(authHeader.substring(7));
+            tokenRevocationService.revoke(access.getId(), access.getExpiration().toInstant());
+        }
+        if (request != null && request.getRefreshToken() != null) {
+            parseRefreshToken(request.getRefreshToken())
+                    .filter(refresh -> refresh.getSubject().equals(httpRequest.getUserPrincipal().getName()))
+                    .ifPresent(refresh -> tokenRevocationService.revoke(
+                            refresh.getId(), refresh.getExpiration().toInstant()));
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    private AuthResponse issueTokens(User user) {
+        return AuthResponse.builder()
+                .token(jwtUtil.generateAccessToken(
+                        user.getUsername(), user.getRole().name(), user.getOrganization().getId()))
+                .refreshToken(jwtUtil.generateRefreshToken(
+                        user.getUsername(), user.getRole().name(), user.getOrganization().getId()))
+                .expiresIn(jwtUtil.getExpirationSeconds())
+                .username(user.getUsername())
+                .role(user.getRole().name())
+                .build();
+    }
+
+    private Optional<Claims> parseRefreshToken(String token) {
+        try {
+            Claims claims = jwtUtil.parse(token);
+            return JwtUtil.REFRESH_TOKEN.equals(claims.get(JwtUtil.TOKEN_TYPE_CLAIM, String.class))
+                    ? Optional.of(claims)
+                    : Optional.empty();
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private ResponseEntity<?> invalidRefreshToken() {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(Map.of("error", "Invalid or expired refresh token"));
+    }
+
+    /**
+     * Name of the unique constraint behind {@code e}, lower-cased, or an empty string if the driver
+     * did not report one. Some databases decorate the name (H2 adds schema and index suffixes), so
+     * callers match with {@code contains}.
+     */
+    private static String violatedConstraint(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        return "";
+    }
+
+    private void checkAttemptBudget(String username) {
+        long retryAfter = rateLimiter.tryAcquire(RateLimiter.Budget.AUTH_USERNAME, username.toLowerCase(Locale.ROOT));
+        if (retryAfter > 0) {
+            throw new RateLimitExceededException("Too many attempts for this account, try again later", retryAfter);
+        }
+    }
 }
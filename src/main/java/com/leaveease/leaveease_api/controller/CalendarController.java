@@ -0,0 +1,105 @@
+package com.leaveease.leaveease_api.controller;
+
+import com.leaveease.leaveease_api.dto.CalendarFeedLinks;
+import com.leaveease.leaveease_api.entity.Role;
+import com.leaveease.leaveease_api.entity.User;
+import com.leaveease.leaveease_api.exception.ResourceNotFoundException;
+import com.leaveease.leaveease_api.repository.UserRepository;
+import com.leaveease.leaveease_api.service.CalendarFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/calendar")
+@RequiredArgsConstructor
+@Tag(name = "Calendar", description = "iCalendar feeds of approved leave for calendar clients")
+public class CalendarController {
+
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+    private final CalendarFeedService calendarFeedService;
+    private final UserRepository userRepository;
+
+    @GetMapping("/feeds")
+    @Operation(summary = "Get my calendar feed URLs",
+               description = "Returns subscription URLs for the caller's approved leave and, for admins, for the whole "
+                       + "organization. The URLs carry a signed token instead of requiring a login, so treat them "
+                       + "as secrets.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Feed URLs returned"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated")
+    })
+    public ResponseEntity<CalendarFeedLinks> getFeedLinks(Authentication authentication) {
+        return ResponseEntity.ok(links(currentUser(authentication)));
+    }
+
+    @PostMapping("/feeds/rotate")
+    @Operation(summary = "Rotate my calendar feed URLs",
+               description = "Revokes every feed URL handed out to the caller so far and returns new ones. Use it "
+                       + "when a URL has leaked.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Old URLs revoked, new feed URLs returned"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated")
+    })
+    public ResponseEntity<CalendarFeedLinks> rotateFeedLinks(Authentication authentication) {
+        calendarFeedService.rotate(currentUser(authentication).getId());
+        return ResponseEntity.ok(links(currentUser(authentication)));
+    }
+
+    @GetMapping("/feeds/{token}.ics")
+    @Operation(summary = "Download a calendar feed",
+               description = "Public endpoint polled by calendar clients. Served from memory with ETag and "
+                       + "Last-Modified, so conditional requests are answered with 304 Not Modified.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "iCalendar feed returned"),
+            @ApiResponse(responseCode = "304", description = "Feed unchanged since the client's copy"),
+            @ApiResponse(responseCode = "404", description = "Unknown or tampered feed token")
+    })
+    public ResponseEntity<byte[]> getFeed(@PathVariable String token) {
+        CalendarFeedService.FeedKey key = calendarFeedService.resolve(token)
+                .orElseThrow(() -> new ResourceNotFoundException("Calendar feed not found"));
+        CalendarFeedService.RenderedFeed feed = calendarFeedService.render(key);
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(feed.etag())
+                .lastModified(feed.lastModified())
+                .body(feed.body());
+    }
+
+    private User currentUser(Authentication authentication) {
+        return userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + authentication.getName()));
+    }
+
+    private CalendarFeedLinks links(User user) {
+        String personal = feedUrl(new CalendarFeedService.FeedKey(CalendarFeedService.Scope.USER, user.getId()), user);
+        String organization = user.getRole() == Role.ADMIN
+                ? feedUrl(new CalendarFeedService.FeedKey(CalendarFeedService.Scope.ORGANIZATION,
+                        user.getOrganization().getId()), user)
+                : null;
+        return new CalendarFeedLinks(personal, organization);
+    }
+
+    private String feedUrl(CalendarFeedService.FeedKey key, User owner) {
+        return ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/calendar/feeds/{token}.ics")
+                .buildAndExpand(calendarFeedService.tokenFor(key, owner))
+                .toUriString();
+    }
+}
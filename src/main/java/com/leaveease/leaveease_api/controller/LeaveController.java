@@ -1,8 +1,17 @@
 package com.leaveease.leaveease_api.controller;
 
+import com.leaveease.leaveease_api.dto.LeaveBatchCreateDto;
+import com.leaveease.leaveease_api.dto.LeaveField;
 import com.leaveease.leaveease_api.dto.LeaveRequestCreateDto;
 import com.leaveease.leaveease_api.dto.LeaveRequestResponseDto;
+import com.leaveease.leaveease_api.dto.LeaveSearchCriteria;
+import com.leaveease.leaveease_api.dto.LeaveSearchResponseDto;
+import com.leaveease.leaveease_api.dto.PagedResponse;
+import com.leaveease.leaveease_api.dto.PendingInboxSummary;
 import com.leaveease.leaveease_api.entity.LeaveStatus;
+import com.leaveease.leaveease_api.entity.LeaveType;
+import com.leaveease.leaveease_api.security.TenantPrincipal;
+import com.leaveease.leaveease_api.service.LeaveListCache;
 import com.leaveease.leaveease_api.service.LeaveService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,12 +19,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -24,7 +36,10 @@ import java.util.List;
 @Tag(name = "Leave Management", description = "Endpoints for creating, viewing, and managing leave requests")
 public class LeaveController {
 
+    private static final String STALE_HEADER = "X-Data-Stale";
+
     private final LeaveService leaveService;
+    private final LeaveListCache leaveListCache;
 
     @PostMapping
     @PreAuthorize("hasRole('EMPLOYEE')")
@@ -44,41 +59,174 @@ public class LeaveController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('EMPLOYEE')")
+    @Operation(summary = "Submit several leave ranges at once",
+               description = "Creates up to 100 leave requests in one transaction, e.g. every Friday of a month. The "
+                       + "ranges must not overlap each other or any approved or pending leave; if any range is "
+                       + "rejected, none is created.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "All leave requests created, in submission order"),
+            @ApiResponse(responseCode = "400", description = "Invalid input, date range error, or an overlap; nothing was created"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Not authorized — requires EMPLOYEE role")
+    })
+    public ResponseEntity<List<LeaveRequestResponseDto>> createLeaves(
+            @Valid @RequestBody LeaveBatchCreateDto dto,
+            Authentication authentication) {
+
+        List<LeaveRequestResponseDto> response = leaveService.createLeaves(dto.getLeaves(), authentication.getName());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @GetMapping("/my")
     @PreAuthorize("hasRole('EMPLOYEE')")
     @Operation(summary = "View my leave requests",
-               description = "Returns all leave requests submitted by the currently authenticated employee, sorted newest first.")
+               description = "Returns the leave requests submitted by the currently authenticated employee, sorted newest first. "
+                       + "Optional from/to dates restrict the result to leaves overlapping that range; archived history "
+                       + "is only read when the range reaches back past the archive horizon. "
+                       + "fields=id,status,... returns only those properties and reads only those columns. "
+                       + "Without fields the list is cached; a cached list past its freshness is flagged with "
+                       + "X-Data-Stale and Age.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "List of leave requests returned"),
+            @ApiResponse(responseCode = "400", description = "Unknown name in fields"),
             @ApiResponse(responseCode = "401", description = "Not authenticated"),
-            @ApiResponse(responseCode = "403", description = "Not authorized — requires EMPLOYEE role")
+            @ApiResponse(responseCode = "403", description = "Not authorized — requires EMPLOYEE role"),
+            @ApiResponse(responseCode = "503", description = "Database unavailable and nothing cached")
     })
-    public ResponseEntity<List<LeaveRequestResponseDto>> getMyLeaves(Authentication authentication) {
-        return ResponseEntity.ok(leaveService.getMyLeaves(authentication.getName()));
+    public ResponseEntity<List<?>> getMyLeaves(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String fields,
+            Authentication authentication) {
+        if (fields != null) {
+            return ResponseEntity.ok(leaveService.getMyLeaves(
+                    authentication.getName(), from, to, LeaveField.parse(fields)));
+        }
+        return cached(leaveListCache.myLeaves(
+                TenantPrincipal.of(authentication).organizationId(), authentication.getName(), from, to));
     }
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "View all leave requests",
-               description = "Admins can view all leave requests across all employees.")
+               description = "Admins can view all leave requests of their organization, optionally restricted to leaves "
+                       + "overlapping the from/to date range. fields=id,status,... returns only those properties. "
+                       + "Without fields the list is cached like GET /api/leaves/my.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "List of all leave requests returned"),
+            @ApiResponse(responseCode = "400", description = "Unknown name in fields"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Not authorized — requires ADMIN role"),
+            @ApiResponse(responseCode = "503", description = "Database unavailable and nothing cached")
+    })
+    public ResponseEntity<List<?>> getAllLeaves(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String fields,
+            Authentication authentication) {
+        long organizationId = TenantPrincipal.of(authentication).organizationId();
+        if (fields != null) {
+            return ResponseEntity.ok(leaveService.getAllLeaves(organizationId, from, to, LeaveField.parse(fields)));
+        }
+        return cached(leaveListCache.allLeaves(organizationId, authentication.getName(), from, to));
+    }
+
+    @GetMapping("/pending")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "View my approval queue",
+               description = "Pending leave requests of everyone who reports to the caller, directly or indirectly, "
+                       + "oldest first.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page of pending leave requests returned"),
             @ApiResponse(responseCode = "401", description = "Not authenticated"),
             @ApiResponse(responseCode = "403", description = "Not authorized — requires ADMIN role")
     })
-    public ResponseEntity<List<LeaveRequestResponseDto>> getAllLeaves() {
-        return ResponseEntity.ok(leaveService.getAllLeaves());
+    public ResponseEntity<PagedResponse<LeaveRequestResponseDto>> getPendingQueue(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            Authentication authentication) {
+        return ResponseEntity.ok(leaveService.getPendingQueue(authentication.getName(), page, size));
+    }
+
+    @GetMapping("/inbox")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "View the organization's pending inbox",
+               description = "Every pending leave request in the caller's organization, oldest first. Served from an "
+                       + "in-memory index without touching the database; changes made on other nodes appear within "
+                       + "one poll interval.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page of pending leave requests returned"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Not authorized — requires ADMIN role")
+    })
+    public ResponseEntity<PagedResponse<LeaveRequestResponseDto>> getInbox(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            Authentication authentication) {
+        long organizationId = TenantPrincipal.of(authentication).organizationId();
+        return ResponseEntity.ok(leaveService.getInbox(organizationId, page, size));
+    }
+
+    @GetMapping("/inbox/summary")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Count pending leave requests",
+               description = "Number of pending leave requests in the caller's organization and when the oldest one was "
+                       + "submitted. Served from the same in-memory index as the inbox.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pending count returned"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Not authorized — requires ADMIN role")
+    })
+    public ResponseEntity<PendingInboxSummary> getInboxSummary(Authentication authentication) {
+        return ResponseEntity.ok(leaveService.getInboxSummary(TenantPrincipal.of(authentication).organizationId()));
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Search leave requests",
+               description = "Full-text search over reason and username (q, supports \"phrases\", -exclusions and prefix*), "
+                       + "filtered by username, leaveType, status and the from/to date window. Sorted by relevance when q "
+                       + "is given, newest first otherwise. Facet counts by leaveType and status cover the whole result set.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page of matching leave requests with facet counts"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter value or result window too deep"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Not authorized — requires ADMIN role")
+    })
+    public ResponseEntity<LeaveSearchResponseDto> searchLeaves(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) LeaveType leaveType,
+            @RequestParam(required = false) LeaveStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        LeaveSearchCriteria criteria = LeaveSearchCriteria.builder()
+                .organizationId(TenantPrincipal.of(authentication).organizationId())
+                .query(q)
+                .username(username)
+                .leaveType(leaveType)
+                .status(status)
+                .from(from)
+                .to(to)
+                .build();
+        return ResponseEntity.ok(leaveService.search(criteria, page, size));
     }
 
     @PutMapping("/{id}/approve")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Approve a leave request",
-               description = "Admins can approve a pending leave request. Only PENDING requests can be approved.")
+               description = "Admins can approve a pending leave request of someone who reports to them, directly or "
+                       + "indirectly, or of a requester without a manager. Only PENDING requests can be approved.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Leave request approved"),
             @ApiResponse(responseCode = "400", description = "Leave request is not in PENDING status"),
             @ApiResponse(responseCode = "401", description = "Not authenticated"),
-            @ApiResponse(responseCode = "403", description = "Not authorized — requires ADMIN role"),
+            @ApiResponse(responseCode = "403", description = "Not authorized — requires ADMIN role and a reporting line to the requester"),
             @ApiResponse(responseCode = "404", description = "Leave request not found")
     })
     public ResponseEntity<LeaveRequestResponseDto> approveLeave(
@@ -91,12 +239,13 @@ public class LeaveController {
     @PutMapping("/{id}/reject")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Reject a leave request",
-               description = "Admins can reject a pending leave request. Only PENDING requests can be rejected.")
+               description = "Admins can reject a pending leave request of someone who reports to them, directly or "
+                       + "indirectly, or of a requester without a manager. Only PENDING requests can be rejected.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Leave request rejected"),
             @ApiResponse(responseCode = "400", description = "Leave request is not in PENDING status"),
             @ApiResponse(responseCode = "401", description = "Not authenticated"),
-            @ApiResponse(responseCode = "403", description = "Not authorized — requires ADMIN role"),
+            @ApiResponse(responseCode = "403", description = "Not authorized — requires ADMIN role and a reporting line to the requester"),
             @ApiResponse(responseCode = "404", description = "Leave request not found")
     })
     public ResponseEntity<LeaveRequestResponseDto> rejectLeave(
@@ -105,4 +254,13 @@ public class LeaveController {
 
         return ResponseEntity.ok(leaveService.updateStatus(id, LeaveStatus.REJECTED, authentication.getName()));
     }
+
+    private static ResponseEntity<List<?>> cached(LeaveListCache.Result result) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (result.stale() != null) {
+            response.header(HttpHeaders.AGE, Long.toString(result.age().toSeconds()))
+                    .header(STALE_HEADER, result.stale());
+        }
+        return response.body(result.leaves());
+    }
 }
@@ -0,0 +1,174 @@
+package com.leaveease.leaveease_api.controller;
+
+import com.leaveease.leaveease_api.dto.ReportJobRequest;
+import com.leaveease.leaveease_api.dto.ReportJobResponse;
+import com.leaveease.leaveease_api.exception.ResourceNotFoundException;
+import com.leaveease.leaveease_api.security.TenantPrincipal;
+import com.leaveease.leaveease_api.service.ReportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+@Tag(name = "Reports", description = "Asynchronous reports over the full leave history")
+public class ReportController {
+
+    private static final String TEXT_CSV = "text/csv;charset=UTF-8";
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ReportJobService reportJobService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Submit a report job",
+               description = "Queues a report over the caller's organization and returns immediately. Poll the "
+                       + "job until it is SUCCEEDED, then download the result. Supports Idempotency-Key.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Job accepted"),
+            @ApiResponse(responseCode = "400", description = "Validation failed or from is after to"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Not authorized — requires ADMIN role"),
+            @ApiResponse(responseCode = "503", description = "Report queue full, or too many reports in progress "
+                    + "for the organization")
+    })
+    public ResponseEntity<ReportJobResponse> submit(@Valid @RequestBody ReportJobRequest request,
+                                                    Authentication authentication) {
+        ReportJobResponse job = reportJobService.submit(
+                TenantPrincipal.of(authentication).organizationId(), authentication.getName(), request);
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .path("/{id}").buildAndExpand(job.id()).toUri())
+                .body(job);
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get a report job",
+               description = "Returns the status of a job. Once finished, expiresAt says when the job and its "
+                       + "result are removed.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Job returned"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Not authorized — requires ADMIN role"),
+            @ApiResponse(responseCode = "404", description = "Unknown or expired job")
+    })
+    public ResponseEntity<ReportJobResponse> get(@PathVariable UUID id, Authentication authentication) {
+        return ResponseEntity.ok(reportJobService.get(TenantPrincipal.of(authentication).organizationId(), id));
+    }
+
+    @GetMapping("/{id}/result")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Download a report",
+               description = "Streams the CSV from disk without buffering it in memory. A single byte range may "
+                       + "be requested with the Range header to resume an interrupted download.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Report returned"),
+            @ApiResponse(responseCode = "206", description = "Requested range returned"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Not authorized — requires ADMIN role"),
+            @ApiResponse(responseCode = "404", description = "Unknown or expired job"),
+            @ApiResponse(responseCode = "409", description = "Job has not succeeded"),
+            @ApiResponse(responseCode = "416", description = "Range outside the report")
+    })
+    public void download(@PathVariable UUID id,
+                         @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader,
+                         Authentication authentication,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        ReportJobService.ReportFile report = reportJobService.result(
+                TenantPrincipal.of(authentication).organizationId(), id);
+        FileChannel file;
+        try {
+            file = FileChannel.open(report.path(), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            throw new ResourceNotFoundException("Report job not found: " + id);
+        }
+        try (file) {
+            long size = file.size();
+            long start = 0;
+            long end = size - 1;
+            HttpRange range = singleRange(rangeHeader);
+            if (range != null) {
+                if (size == 0 || range.getRangeStart(size) >= size) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    return;
+                }
+                start = range.getRangeStart(size);
+                end = range.getRangeEnd(size);
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+            long length = end - start + 1;
+            response.setContentType(TEXT_CSV);
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-store");
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, report.lastModified().toEpochMilli());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.attachment().filename(report.filename()).build().toString());
+            response.setContentLengthLong(length);
+
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                request.setAttribute(SENDFILE_FILENAME, report.path().toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, end + 1);
+                return;
+            }
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long written = file.transferTo(position, remaining, out);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    /**
+     * Returns the requested range, or {@code null} to send the whole file when there is no Range
+     * header, it cannot be parsed, or it asks for several ranges.
+     */
+    private static HttpRange singleRange(String header) {
+        if (header == null) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.getFirst() : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.leaveease.leaveease_api.controller;
+
+import com.leaveease.leaveease_api.dto.BulkRowResult;
+import com.leaveease.leaveease_api.dto.BulkUserRow;
+import com.leaveease.leaveease_api.dto.ManagerAssignmentRequest;
+import com.leaveease.leaveease_api.dto.ReportJobResponse;
+import com.leaveease.leaveease_api.security.TenantPrincipal;
+import com.leaveease.leaveease_api.service.HierarchyService;
+import com.leaveease.leaveease_api.service.ReportJobService;
+import com.leaveease.leaveease_api.service.UserProvisioningService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+@Tag(name = "Users", description = "Provisioning and reporting lines within an organization")
+public class UserController {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    private final HierarchyService hierarchyService;
+    private final UserProvisioningService userProvisioningService;
+    private final ReportJobService reportJobService;
+    private final JsonMapper jsonMapper;
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Provision users from a JSON array",
+               description = "Creates every valid row as a user of the caller's organization. All rows are validated "
+                       + "before any is created; invalid rows and rows whose username or email is taken are reported "
+                       + "as REJECTED and skipped. The response lists one result per row followed by the totals.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Per-row results returned"),
+            @ApiResponse(responseCode = "400", description = "Malformed body or more rows than app.provisioning.max-json-rows"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Not authorized — requires ADMIN role")
+    })
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+            mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = BulkUserRow.class))))
+    public void provisionJson(HttpServletRequest request,
+                              HttpServletResponse response,
+                              Authentication authentication) throws IOException {
+        List<BulkUserRow> rows = userProvisioningService.readJsonRows(request.getInputStream());
+        ResultWriter writer = new ResultWriter(response);
+        UserProvisioningService.Summary summary = userProvisioningService.provision(
+                TenantPrincipal.of(authentication).organizationId(), rows, writer);
+        writer.finish(summary);
+    }
+
+    @PostMapping(value = "/bulk", consumes = TEXT_CSV)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Provision users from a CSV file",
+               description = "Stores a UTF-8 CSV file with a header row naming username, email, password and "
+                       + "optionally role, and provisions it as a USER_PROVISIONING report job. Poll the job under "
+                       + "/api/reports/{id}, then download one row,username,status,error line per row from its "
+                       + "result. Row numbers are line numbers in the file.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Job accepted"),
+            @ApiResponse(responseCode = "400", description = "Empty file or header without the required columns"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Not authorized — requires ADMIN role"),
+            @ApiResponse(responseCode = "503", description = "Report queue full, or too many jobs in progress "
+                    + "for the organization")
+    })
+    public ResponseEntity<ReportJobResponse> provisionCsv(HttpServletRequest request,
+                                                          Authentication authentication) throws IOException {
+        ReportJobResponse job = reportJobService.submitProvisioning(
+                TenantPrincipal.of(authentication).organizationId(), authentication.getName(), request.getInputStream());
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/api/reports/{id}").buildAndExpand(job.id()).toUri())
+                .body(job);
+    }
+
+    @PutMapping("/{username}/manager")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Set a user's manager",
+               description = "Makes managerUsername the manager of the user, or removes the manager when it is null. "
+                       + "Managers approve the requests of everyone below them. Both users must belong to the "
+                       + "caller's organization, and a user cannot report to someone in their own subtree.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Reporting line updated"),
+            @ApiResponse(responseCode = "400", description = "The change would create a cycle"),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Not authorized — requires ADMIN role"),
+            @ApiResponse(responseCode = "404", description = "User or manager not found")
+    })
+    public ResponseEntity<Void> setManager(
+            @PathVariable String username,
+            @RequestBody ManagerAssignmentRequest request,
+            Authentication authentication) {
+
+        hierarchyService.setManager(authentication.getName(), username, request.getManagerUsername());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Writes {@code {"results":[...],"created":n,"rejected":m}} incrementally. The response is only
+     * started by the first result, so validation errors raised before that still become a problem
+     * response; a failure after it truncates the body.
+     */
+    private final class ResultWriter implements Consumer<BulkRowResult> {
+
+        private static final int FLUSH_EVERY = 500;
+
+        private final HttpServletResponse response;
+        private OutputStream out;
+        private int written;
+
+        ResultWriter(HttpServletResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void accept(BulkRowResult result) {
+            try {
+                if (out == null) {
+                    start();
+                } else {
+                    out.write(',');
+                }
+                out.write(jsonMapper.writeValueAsBytes(result));
+                if (++written % FLUSH_EVERY == 0) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish(UserProvisioningService.Summary summary) throws IOException {
+            if (out == null) {
+                start();
+            }
+            out.write(("],\"created\":" + summary.created() + ",\"rejected\":" + summary.rejected() + "}")
+                    .getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+
+        private void start() throws IOException {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            out = response.getOutputStream();
+            out.write("{\"results\":[".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.leaveease.leaveease_api.dto;
+
+import com.leaveease.leaveease_api.entity.LeaveEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class AuditLogResponseDto {
+
+    private Long id;
+    private LeaveEventType eventType;
+    private Long leaveRequestId;
+    private String actorUsername;
+    private String subjectUsername;
+    private String payload;
+    private LocalDateTime occurredAt;
+    private LocalDateTime recordedAt;
+}
@@ -9,6 +9,8 @@ import lombok.Data;
 @AllArgsConstructor
 public class AuthResponse {
     private String token;
+    private String refreshToken;
+    private long expiresIn;
     private String username;
     private String role;
 }
@@ -0,0 +1,7 @@
+package com.leaveease.leaveease_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AvailabilityResponse(String username, Boolean usernameAvailable, String email, Boolean emailAvailable) {
+}
@@ -0,0 +1,20 @@
+package com.leaveease.leaveease_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkRowResult(int row, String username, Status status, String error) {
+
+    public enum Status {
+        CREATED,
+        REJECTED
+    }
+
+    public static BulkRowResult created(int row, String username) {
+        return new BulkRowResult(row, username, Status.CREATED, null);
+    }
+
+    public static BulkRowResult rejected(int row, String username, String error) {
+        return new BulkRowResult(row, username, Status.REJECTED, error);
+    }
+}
@@ -0,0 +1,13 @@
+package com.leaveease.leaveease_api.dto;
+
+import com.leaveease.leaveease_api.entity.Role;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record BulkUserRow(
+        @NotBlank @Size(min = 3, max = 50) String username,
+        @NotBlank @Email String email,
+        @NotBlank @Size(min = 6, max = 100) String password,
+        Role role) {
+}
@@ -0,0 +1,16 @@
+package com.leaveease.leaveease_api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class LeaveBatchCreateDto {
+
+    @NotEmpty(message = "At least one leave range is required")
+    @Size(max = 100, message = "At most 100 leave ranges can be submitted at once")
+    private List<@Valid LeaveRequestCreateDto> leaves;
+}
@@ -0,0 +1,56 @@
+package com.leaveease.leaveease_api.dto;
+
+import com.leaveease.leaveease_api.exception.InvalidLeaveRequestException;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Fields of {@link LeaveRequestResponseDto} that can be requested individually with {@code ?fields=}.
+ */
+public enum LeaveField {
+    ID("id"),
+    USERNAME("username"),
+    LEAVE_TYPE("leaveType"),
+    START_DATE("startDate"),
+    END_DATE("endDate"),
+    REASON("reason"),
+    STATUS("status"),
+    APPROVED_BY_USERNAME("approvedByUsername"),
+    CREATED_AT("createdAt");
+
+    private final String jsonName;
+
+    LeaveField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    public String jsonName() {
+        return jsonName;
+    }
+
+    public static Set<LeaveField> parse(String fields) {
+        Set<LeaveField> parsed = EnumSet.noneOf(LeaveField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.strip();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            parsed.add(fromJsonName(trimmed));
+        }
+        if (parsed.isEmpty()) {
+            throw new InvalidLeaveRequestException("fields must name at least one field");
+        }
+        return parsed;
+    }
+
+    private static LeaveField fromJsonName(String name) {
+        for (LeaveField field : values()) {
+            if (field.jsonName.equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        throw new InvalidLeaveRequestException("Unknown field '" + name + "'. Allowed: "
+                + String.join(", ", EnumSet.allOf(LeaveField.class).stream().map(LeaveField::jsonName).toList()));
+    }
+}
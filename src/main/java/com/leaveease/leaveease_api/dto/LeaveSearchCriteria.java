@@ -0,0 +1,23 @@
+package com.leaveease.leaveease_api.dto;
+
+import com.leaveease.leaveease_api.entity.LeaveStatus;
+import com.leaveease.leaveease_api.entity.LeaveType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class LeaveSearchCriteria {
+
+    private Long organizationId;
+    private String query;
+    private String username;
+    private LeaveType leaveType;
+    private LeaveStatus status;
+    private LocalDate from;
+    private LocalDate to;
+}
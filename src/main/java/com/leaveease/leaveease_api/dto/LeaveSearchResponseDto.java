@@ -0,0 +1,21 @@
+package com.leaveease.leaveease_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class LeaveSearchResponseDto {
+
+    private List<LeaveRequestResponseDto> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private Map<String, Map<String, Long>> facets;
+}
@@ -0,0 +1,12 @@
+package com.leaveease.leaveease_api.dto;
+
+import lombok.Data;
+
+@Data
+public class ManagerAssignmentRequest {
+
+    /**
+     * Username of the new manager, or {@code null} to remove the current one.
+     */
+    private String managerUsername;
+}
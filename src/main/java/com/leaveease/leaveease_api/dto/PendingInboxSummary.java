@@ -0,0 +1,6 @@
+package com.leaveease.leaveease_api.dto;
+
+import java.time.LocalDateTime;
+
+public record PendingInboxSummary(long pending, LocalDateTime oldestCreatedAt) {
+}
@@ -0,0 +1,17 @@
+package com.leaveease.leaveease_api.dto;
+
+import com.leaveease.leaveease_api.exception.ProblemType;
+
+import java.time.Instant;
+
+/**
+ * RFC 7807 problem details body ({@code application/problem+json}) with a {@code timestamp} extension member.
+ */
+public record ProblemResponse(String type, String title, int status, String detail, String instance,
+                              Instant timestamp) {
+
+    public static ProblemResponse of(ProblemType problemType, String detail, String instance) {
+        return new ProblemResponse(problemType.type(), problemType.title(), problemType.status().value(),
+                detail, instance, Instant.now());
+    }
+}
@@ -0,0 +1,11 @@
+package com.leaveease.leaveease_api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class RefreshTokenRequest {
+
+    @NotBlank
+    private String refreshToken;
+}
@@ -1,8 +1,8 @@
 package com.leaveease.leaveease_api.dto;
 
-import com.leaveease.leaveease_api.entity.Role;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 
@@ -21,5 +21,7 @@ public class RegisterRequest {
     @Size(min = 6, max = 100)
     private String password;
 
-    private Role role;
+    @NotBlank
+    @Pattern(regexp = "[a-z0-9][a-z0-9-]{1,63}", message = "must be 2-64 lowercase letters, digits or dashes")
+    private String organization;
 }
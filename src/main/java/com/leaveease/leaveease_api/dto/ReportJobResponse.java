@@ -0,0 +1,24 @@
+package com.leaveease.leaveease_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ReportJobResponse(
+        UUID id,
+        ReportType type,
+        LocalDate from,
+        LocalDate to,
+        boolean includeArchived,
+        ReportJobStatus status,
+        Instant submittedAt,
+        Instant completedAt,
+        Long rows,
+        Long sizeBytes,
+        String error,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,8 @@
+package com.leaveease.leaveease_api.dto;
+
+public enum ReportJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
@@ -0,0 +1,10 @@
+package com.leaveease.leaveease_api.dto;
+
+public enum ReportType {
+    /** Every leave request overlapping the period, one row per request. */
+    LEAVE_REQUESTS,
+    /** Approved leave days inside the period per employee and leave type. */
+    LEAVE_DAYS_BY_USER,
+    /** Per-row results of a CSV upload to {@code POST /api/users/bulk}; not submitted through /api/reports. */
+    USER_PROVISIONING
+}
@@ -0,0 +1,64 @@
+package com.leaveease.leaveease_api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Closed leave request moved out of {@code leave_requests} by the archiver. Keeps the original id
+ * and timestamps; rows are never updated once archived.
+ */
+@Entity
+@Table(name = "leave_requests_archive", indexes = {
+        @Index(name = "idx_leave_archive_user_created", columnList = "user_id, createdAt"),
+        @Index(name = "idx_leave_archive_org_created", columnList = "organization_id, createdAt"),
+        @Index(name = "idx_leave_archive_org_start_date", columnList = "organization_id, startDate")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedLeaveRequest {
+
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "organization_id", nullable = false)
+    private Organization organization;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private LeaveType leaveType;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private LocalDate endDate;
+
+    private String reason;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private LeaveStatus status;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "approved_by_id")
+    private User approvedBy;
+
+    private LocalDateTime escalatedAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,51 @@
+package com.leaveease.leaveease_api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "audit_log", indexes = {
+        @Index(name = "idx_audit_org_id", columnList = "organizationId, id"),
+        @Index(name = "idx_audit_leave_request", columnList = "leaveRequestId, id"),
+        @Index(name = "idx_audit_actor", columnList = "actorUsername, id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditLogEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, updatable = false)
+    private Long eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private LeaveEventType eventType;
+
+    @Column(nullable = false, updatable = false)
+    private Long organizationId;
+
+    @Column(nullable = false, updatable = false)
+    private Long leaveRequestId;
+
+    @Column(nullable = false, updatable = false)
+    private String actorUsername;
+
+    @Column(nullable = false, updatable = false)
+    private String subjectUsername;
+
+    @Column(nullable = false, updatable = false, length = 2000)
+    private String payload;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime recordedAt;
+}
@@ -0,0 +1,41 @@
+package com.leaveease.leaveease_api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "idempotency_keys",
+       indexes = @Index(name = "idx_idempotency_expires_at", columnList = "expiresAt"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "idempotency_key", unique = true, nullable = false, length = 400)
+    private String key;
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    private Integer responseStatus;
+
+    private String contentType;
+
+    @Lob
+    private byte[] responseBody;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    public boolean isCompleted() {
+        return responseStatus != null;
+    }
+}
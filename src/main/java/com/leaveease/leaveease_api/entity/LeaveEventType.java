@@ -0,0 +1,9 @@
+package com.leaveease.leaveease_api.entity;
+
+public enum LeaveEventType {
+    CREATED,
+    APPROVED,
+    REJECTED,
+    EXPIRED,
+    ESCALATED
+}
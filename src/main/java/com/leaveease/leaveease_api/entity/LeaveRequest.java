@@ -10,7 +10,13 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "leave_requests")
+@Table(name = "leave_requests", indexes = {
+        @Index(name = "idx_leave_status_id", columnList = "status, id"),
+        @Index(name = "idx_leave_user_created", columnList = "user_id, createdAt"),
+        @Index(name = "idx_leave_user_status", columnList = "user_id, status"),
+        @Index(name = "idx_leave_org_created", columnList = "organization_id, createdAt"),
+        @Index(name = "idx_leave_org_start_date", columnList = "organization_id, startDate")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,6 +28,10 @@ public class LeaveRequest {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "organization_id", nullable = false)
+    private Organization organization;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -50,6 +60,8 @@ public class LeaveRequest {
     @JoinColumn(name = "approved_by_id")
     private User approvedBy;
 
+    private LocalDateTime escalatedAt;
+
     @CreationTimestamp
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -3,5 +3,6 @@ package com.leaveease.leaveease_api.entity;
 public enum LeaveStatus {
     PENDING,
     APPROVED,
-    REJECTED
+    REJECTED,
+    EXPIRED
 }
@@ -0,0 +1,36 @@
+package com.leaveease.leaveease_api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position of one background consumer in the outbox: every event with an id up to
+ * {@code lastEventId} has been handled by that consumer, except the ids listed in {@code gaps}
+ * (see {@link com.leaveease.leaveease_api.util.IdCursor}), which may still be committed.
+ */
+@Entity
+@Table(name = "outbox_cursors")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxCursor {
+
+    @Id
+    @Column(length = 64)
+    private String consumer;
+
+    @Column(nullable = false)
+    private long lastEventId;
+
+    @Column(length = 10_000)
+    private String gaps;
+
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+}
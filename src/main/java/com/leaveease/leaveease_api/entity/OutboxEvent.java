@@ -0,0 +1,42 @@
+package com.leaveease.leaveease_api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private LeaveEventType eventType;
+
+    @Column(nullable = false)
+    private Long organizationId;
+
+    @Column(nullable = false)
+    private Long leaveRequestId;
+
+    @Column(nullable = false)
+    private String actorUsername;
+
+    @Column(nullable = false)
+    private String subjectUsername;
+
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,75 @@
+package com.leaveease.leaveease_api.entity;
+
+import com.leaveease.leaveease_api.dto.ReportJobStatus;
+import com.leaveease.leaveease_api.dto.ReportType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A report job as every node sees it. The worker that runs it lives on the node that accepted it,
+ * recorded as {@link #owner}, which renews {@link #heartbeatAt} while the job is queued or running;
+ * the result file sits under {@code app.reports.directory} and is named after the job id.
+ */
+@Entity
+@Table(name = "report_jobs",
+       indexes = {
+               @Index(name = "idx_report_jobs_org_status", columnList = "organizationId, status"),
+               @Index(name = "idx_report_jobs_completed_at", columnList = "completedAt")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportJob {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private Long organizationId;
+
+    @Column(nullable = false)
+    private String requestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private ReportType type;
+
+    private LocalDate fromDate;
+
+    private LocalDate toDate;
+
+    private boolean includeArchived;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ReportJobStatus status;
+
+    @Column(nullable = false)
+    private Instant submittedAt;
+
+    private Instant completedAt;
+
+    private Long rowCount;
+
+    private Long sizeBytes;
+
+    private String error;
+
+    @Column(length = 36)
+    private String owner;
+
+    private Instant heartbeatAt;
+
+    @Version
+    private Long version;
+
+    public boolean isActive() {
+        return status == ReportJobStatus.QUEUED || status == ReportJobStatus.RUNNING;
+    }
+}
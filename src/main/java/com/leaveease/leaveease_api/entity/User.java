@@ -6,13 +6,19 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users",
+       uniqueConstraints = {
+               @UniqueConstraint(name = User.USERNAME_CONSTRAINT, columnNames = "username"),
+               @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email")
+       },
+       indexes = @Index(name = "idx_users_org_id", columnList = "organization_id, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,20 +26,33 @@ import java.time.LocalDateTime;
 @Builder
 public class User {
 
+    public static final String USERNAME_CONSTRAINT = "uk_users_username";
+    public static final String EMAIL_CONSTRAINT = "uk_users_email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @NotBlank
     @Size(min = 3, max = 50)
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String username;
 
     @NotBlank
     @Email
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String email;
 
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "organization_id", nullable = false)
+    private Organization organization;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "manager_id")
+    private User manager;
+
     @JsonIgnore
     @NotBlank
     @Column(nullable = false)
@@ -44,6 +63,15 @@ public class User {
     @Builder.Default
     private Role role = Role.EMPLOYEE;
 
+    /**
+     * Part of every calendar feed token issued to this user; bumping it revokes them all.
+     */
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @Builder.Default
+    private int feedVersion = 0;
+
     @CreationTimestamp
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,40 @@
+package com.leaveease.leaveease_api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Closure table of the reporting lines: one row per (manager, report) pair at any distance,
+ * including a depth-0 row per user. "Everyone below X" is then a single indexed lookup on
+ * {@code ancestor_id}. Maintained by {@code HierarchyService}.
+ */
+@Entity
+@Table(name = "user_hierarchy",
+       indexes = @Index(name = "idx_user_hierarchy_descendant", columnList = "descendant_id, ancestor_id"))
+@IdClass(UserHierarchy.Key.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserHierarchy {
+
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
@@ -0,0 +1,12 @@
+package com.leaveease.leaveease_api.exception;
+
+public class DatabaseUnavailableException extends DomainException {
+    public DatabaseUnavailableException(String message) {
+        super(message);
+    }
+
+    @Override
+    public ProblemType getProblemType() {
+        return ProblemType.DATABASE_UNAVAILABLE;
+    }
+}
@@ -0,0 +1,15 @@
+package com.leaveease.leaveease_api.exception;
+
+/**
+ * Base for expected business outcomes (overlaps, invalid input, missing resources, rate limits).
+ * These are routine results rather than faults, so no stack trace is captured and the exception
+ * is not suppressible; the message is all that reaches the client.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+
+    public abstract ProblemType getProblemType();
+}
@@ -1,48 +1,62 @@
 package com.leaveease.leaveease_api.exception;
 
-import org.springframework.http.HttpStatus;
+import com.leaveease.leaveease_api.dto.ProblemResponse;
+import com.leaveease.leaveease_api.web.RequestDeadline;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.time.LocalDateTime;
-import java.util.LinkedHashMap;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
-    @ExceptionHandler(ResourceNotFoundException.class)
-    public ResponseEntity<Map<String, Object>> handleNotFound(ResourceNotFoundException ex) {
-        return buildResponse(HttpStatus.NOT_FOUND, ex.getMessage());
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ProblemResponse> handleDomain(DomainException ex, HttpServletRequest request) {
+        return problem(ex.getProblemType(), ex.getMessage(), request);
     }
 
-    @ExceptionHandler(LeaveOverlapException.class)
-    public ResponseEntity<Map<String, Object>> handleOverlap(LeaveOverlapException ex) {
-        return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ProblemResponse> handleRateLimit(RateLimitExceededException ex, HttpServletRequest request) {
+        return ResponseEntity.status(ex.getProblemType().status())
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(ProblemResponse.of(ex.getProblemType(), ex.getMessage(), request.getRequestURI()));
     }
 
-    @ExceptionHandler(InvalidLeaveRequestException.class)
-    public ResponseEntity<Map<String, Object>> handleInvalidRequest(InvalidLeaveRequestException ex) {
-        return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    /**
+     * A transaction that outlived its timeout, which for requests is capped at their deadline, or a
+     * statement the database cancelled for the same reason.
+     */
+    @ExceptionHandler({TransactionTimedOutException.class, QueryTimeoutException.class})
+    public ResponseEntity<ProblemResponse> handleDeadline(RuntimeException ex, HttpServletRequest request) {
+        request.setAttribute(RequestDeadline.EXPIRED_ATTRIBUTE,
+                ex instanceof QueryTimeoutException ? "query" : "transaction");
+        return ResponseEntity.status(ProblemType.DEADLINE_EXCEEDED.status())
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ProblemResponse.of(ProblemType.DEADLINE_EXCEEDED,
+                        "The request did not complete within its deadline", request.getRequestURI()));
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Map<String, Object>> handleValidation(MethodArgumentNotValidException ex) {
+    public ResponseEntity<ProblemResponse> handleValidation(MethodArgumentNotValidException ex,
+                                                            HttpServletRequest request) {
         String errors = ex.getBindingResult().getFieldErrors().stream()
                 .map(fe -> fe.getField() + ": " + fe.getDefaultMessage())
                 .collect(Collectors.joining("; "));
-        return buildResponse(HttpStatus.BAD_REQUEST, errors);
+        return problem(ProblemType.VALIDATION_FAILED, errors, request);
     }
 
-    private ResponseEntity<Map<String, Object>> buildResponse(HttpStatus status, String message) {
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("timestamp", LocalDateTime.now().toString());
-        body.put("status", status.value());
-        body.put("error", status.getReasonPhrase());
-        body.put("message", message);
-        return ResponseEntity.status(status).body(body);
+    private ResponseEntity<ProblemResponse> problem(ProblemType type, String detail, HttpServletRequest request) {
+        return ResponseEntity.status(type.status())
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(ProblemResponse.of(type, detail, request.getRequestURI()));
     }
 }
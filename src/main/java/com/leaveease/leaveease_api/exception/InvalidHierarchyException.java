@@ -0,0 +1,12 @@
+package com.leaveease.leaveease_api.exception;
+
+public class InvalidHierarchyException extends DomainException {
+    public InvalidHierarchyException(String message) {
+        super(message);
+    }
+
+    @Override
+    public ProblemType getProblemType() {
+        return ProblemType.INVALID_HIERARCHY;
+    }
+}
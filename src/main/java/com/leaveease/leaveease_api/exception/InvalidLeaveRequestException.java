@@ -1,7 +1,12 @@
 package com.leaveease.leaveease_api.exception;
 
-public class InvalidLeaveRequestException extends RuntimeException {
+public class InvalidLeaveRequestException extends DomainException {
     public InvalidLeaveRequestException(String message) {
         super(message);
     }
+
+    @Override
+    public ProblemType getProblemType() {
+        return ProblemType.INVALID_LEAVE_REQUEST;
+    }
 }
@@ -0,0 +1,12 @@
+package com.leaveease.leaveease_api.exception;
+
+public class InvalidProvisioningRequestException extends DomainException {
+    public InvalidProvisioningRequestException(String message) {
+        super(message);
+    }
+
+    @Override
+    public ProblemType getProblemType() {
+        return ProblemType.INVALID_PROVISIONING_REQUEST;
+    }
+}
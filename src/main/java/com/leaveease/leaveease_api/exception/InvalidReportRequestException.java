@@ -0,0 +1,12 @@
+package com.leaveease.leaveease_api.exception;
+
+public class InvalidReportRequestException extends DomainException {
+    public InvalidReportRequestException(String message) {
+        super(message);
+    }
+
+    @Override
+    public ProblemType getProblemType() {
+        return ProblemType.INVALID_REPORT_REQUEST;
+    }
+}
@@ -1,7 +1,12 @@
 package com.leaveease.leaveease_api.exception;
 
-public class LeaveOverlapException extends RuntimeException {
+public class LeaveOverlapException extends DomainException {
     public LeaveOverlapException(String message) {
         super(message);
     }
+
+    @Override
+    public ProblemType getProblemType() {
+        return ProblemType.LEAVE_OVERLAP;
+    }
 }
@@ -0,0 +1,12 @@
+package com.leaveease.leaveease_api.exception;
+
+public class NotAnApproverException extends DomainException {
+    public NotAnApproverException(String message) {
+        super(message);
+    }
+
+    @Override
+    public ProblemType getProblemType() {
+        return ProblemType.NOT_AN_APPROVER;
+    }
+}
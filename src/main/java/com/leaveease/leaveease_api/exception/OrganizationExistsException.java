@@ -0,0 +1,12 @@
+package com.leaveease.leaveease_api.exception;
+
+public class OrganizationExistsException extends DomainException {
+    public OrganizationExistsException(String message) {
+        super(message);
+    }
+
+    @Override
+    public ProblemType getProblemType() {
+        return ProblemType.ORGANIZATION_EXISTS;
+    }
+}
@@ -0,0 +1,46 @@
+package com.leaveease.leaveease_api.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * The fixed part of an RFC 7807 problem: a type URI, title and status shared by every occurrence.
+ */
+public record ProblemType(String type, String title, HttpStatus status) {
+
+    public static final ProblemType NOT_FOUND =
+            new ProblemType("/problems/not-found", "Resource not found", HttpStatus.NOT_FOUND);
+    public static final ProblemType LEAVE_OVERLAP =
+            new ProblemType("/problems/leave-overlap", "Overlapping leave request", HttpStatus.BAD_REQUEST);
+    public static final ProblemType INVALID_LEAVE_REQUEST =
+            new ProblemType("/problems/invalid-leave-request", "Invalid leave request", HttpStatus.BAD_REQUEST);
+    public static final ProblemType INVALID_HIERARCHY =
+            new ProblemType("/problems/invalid-hierarchy", "Invalid reporting line", HttpStatus.BAD_REQUEST);
+    public static final ProblemType NOT_AN_APPROVER =
+            new ProblemType("/problems/not-an-approver", "Not an approver for this request", HttpStatus.FORBIDDEN);
+    public static final ProblemType ORGANIZATION_EXISTS =
+            new ProblemType("/problems/organization-exists", "Organization already exists", HttpStatus.CONFLICT);
+    public static final ProblemType INVALID_PROVISIONING_REQUEST =
+            new ProblemType("/problems/invalid-provisioning-request", "Invalid provisioning request", HttpStatus.BAD_REQUEST);
+    public static final ProblemType INVALID_REPORT_REQUEST =
+            new ProblemType("/problems/invalid-report-request", "Invalid report request", HttpStatus.BAD_REQUEST);
+    public static final ProblemType REPORT_NOT_READY =
+            new ProblemType("/problems/report-not-ready", "Report not ready", HttpStatus.CONFLICT);
+    public static final ProblemType REPORT_QUEUE_FULL =
+            new ProblemType("/problems/report-queue-full", "Report queue full", HttpStatus.SERVICE_UNAVAILABLE);
+    public static final ProblemType DEADLINE_EXCEEDED =
+            new ProblemType("/problems/deadline-exceeded", "Deadline exceeded", HttpStatus.SERVICE_UNAVAILABLE);
+    public static final ProblemType DATABASE_UNAVAILABLE =
+            new ProblemType("/problems/database-unavailable", "Database unavailable", HttpStatus.SERVICE_UNAVAILABLE);
+    public static final ProblemType INVALID_IDEMPOTENCY_KEY =
+            new ProblemType("/problems/invalid-idempotency-key", "Invalid idempotency key", HttpStatus.BAD_REQUEST);
+    public static final ProblemType IDEMPOTENCY_KEY_REUSED =
+            new ProblemType("/problems/idempotency-key-reused", "Idempotency key reused", HttpStatus.UNPROCESSABLE_CONTENT);
+    public static final ProblemType REQUEST_IN_PROGRESS =
+            new ProblemType("/problems/request-in-progress", "Request still in progress", HttpStatus.CONFLICT);
+    public static final ProblemType TENANT_BUSY =
+            new ProblemType("/problems/tenant-busy", "Organization busy", HttpStatus.SERVICE_UNAVAILABLE);
+    public static final ProblemType RATE_LIMITED =
+            new ProblemType("/problems/rate-limited", "Too many requests", HttpStatus.TOO_MANY_REQUESTS);
+    public static final ProblemType VALIDATION_FAILED =
+            new ProblemType("/problems/validation-failed", "Validation failed", HttpStatus.BAD_REQUEST);
+}
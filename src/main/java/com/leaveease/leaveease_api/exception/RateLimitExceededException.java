@@ -0,0 +1,19 @@
+package com.leaveease.leaveease_api.exception;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends DomainException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public ProblemType getProblemType() {
+        return ProblemType.RATE_LIMITED;
+    }
+}
@@ -0,0 +1,12 @@
+package com.leaveease.leaveease_api.exception;
+
+public class ReportNotReadyException extends DomainException {
+    public ReportNotReadyException(String message) {
+        super(message);
+    }
+
+    @Override
+    public ProblemType getProblemType() {
+        return ProblemType.REPORT_NOT_READY;
+    }
+}
@@ -0,0 +1,12 @@
+package com.leaveease.leaveease_api.exception;
+
+public class ReportQueueFullException extends DomainException {
+    public ReportQueueFullException(String message) {
+        super(message);
+    }
+
+    @Override
+    public ProblemType getProblemType() {
+        return ProblemType.REPORT_QUEUE_FULL;
+    }
+}
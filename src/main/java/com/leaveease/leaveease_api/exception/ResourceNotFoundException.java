@@ -1,7 +1,12 @@
 package com.leaveease.leaveease_api.exception;
 
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends DomainException {
     public ResourceNotFoundException(String message) {
         super(message);
     }
+
+    @Override
+    public ProblemType getProblemType() {
+        return ProblemType.NOT_FOUND;
+    }
 }
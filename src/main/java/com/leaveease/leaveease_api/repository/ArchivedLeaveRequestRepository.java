@@ -0,0 +1,37 @@
+package com.leaveease.leaveease_api.repository;
+
+import com.leaveease.leaveease_api.entity.ArchivedLeaveRequest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ArchivedLeaveRequestRepository extends JpaRepository<ArchivedLeaveRequest, Long> {
+
+    List<ArchivedLeaveRequest> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    List<ArchivedLeaveRequest> findByOrganizationId(Long organizationId);
+
+    @Query("""
+            SELECT a FROM ArchivedLeaveRequest a
+            WHERE a.user.id = :userId
+              AND a.endDate >= :from
+              AND a.startDate <= :to
+            ORDER BY a.createdAt DESC
+            """)
+    List<ArchivedLeaveRequest> findByUserIdInRange(@Param("userId") Long userId,
+                                                   @Param("from") LocalDate from,
+                                                   @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT a FROM ArchivedLeaveRequest a
+            WHERE a.organization.id = :organizationId
+              AND a.endDate >= :from
+              AND a.startDate <= :to
+            """)
+    List<ArchivedLeaveRequest> findInRange(@Param("organizationId") Long organizationId,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
+}
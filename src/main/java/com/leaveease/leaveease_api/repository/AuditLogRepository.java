@@ -0,0 +1,23 @@
+package com.leaveease.leaveease_api.repository;
+
+import com.leaveease.leaveease_api.entity.AuditLogEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AuditLogRepository extends JpaRepository<AuditLogEntry, Long> {
+
+    @Query("""
+            SELECT a FROM AuditLogEntry a
+            WHERE a.organizationId = :organizationId
+              AND (:leaveRequestId IS NULL OR a.leaveRequestId = :leaveRequestId)
+              AND (:actor IS NULL OR a.actorUsername = :actor)
+            ORDER BY a.id DESC
+            """)
+    Page<AuditLogEntry> search(@Param("organizationId") Long organizationId,
+                               @Param("leaveRequestId") Long leaveRequestId,
+                               @Param("actor") String actor,
+                               Pageable pageable);
+}
@@ -0,0 +1,85 @@
+package com.leaveease.leaveease_api.repository;
+
+import com.leaveease.leaveease_api.dto.LeaveField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sparse-fieldset reads over {@code LeaveRequest} and {@code ArchivedLeaveRequest}: only the requested
+ * columns are selected, and the users table is only joined when a username is asked for.
+ */
+@Repository
+public class LeaveProjectionQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public List<Map<String, Object>> find(Class<?> entityType,
+                                          Set<LeaveField> fields,
+                                          long organizationId,
+                                          Long userId,
+                                          LocalDate from,
+                                          LocalDate to,
+                                          boolean newestFirst) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<?> root = query.from(entityType);
+
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (LeaveField field : fields) {
+            selections.add(path(root, field).alias(field.jsonName()));
+        }
+        query.select(cb.tuple(selections));
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("organization").get("id"), organizationId));
+        if (userId != null) {
+            predicates.add(cb.equal(root.get("user").get("id"), userId));
+        }
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("endDate"), from));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("startDate"), to));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        if (newestFirst) {
+            query.orderBy(cb.desc(root.get("createdAt")));
+        }
+
+        List<Tuple> tuples = entityManager.createQuery(query).getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>(fields.size() * 2);
+            for (LeaveField field : fields) {
+                row.put(field.jsonName(), tuple.get(field.jsonName()));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private Path<?> path(Root<?> root, LeaveField field) {
+        return switch (field) {
+            case ID -> root.get("id");
+            case USERNAME -> root.join("user").get("username");
+            case LEAVE_TYPE -> root.get("leaveType");
+            case START_DATE -> root.get("startDate");
+            case END_DATE -> root.get("endDate");
+            case REASON -> root.get("reason");
+            case STATUS -> root.get("status");
+            case APPROVED_BY_USERNAME -> root.join("approvedBy", JoinType.LEFT).get("username");
+            case CREATED_AT -> root.get("createdAt");
+        };
+    }
+}
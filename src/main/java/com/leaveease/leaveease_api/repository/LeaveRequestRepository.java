@@ -2,11 +2,17 @@ package com.leaveease.leaveease_api.repository;
 
 import com.leaveease.leaveease_api.entity.LeaveRequest;
 import com.leaveease.leaveease_api.entity.LeaveStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +26,77 @@ public interface LeaveRequestRepository extends JpaRepository<LeaveRequest, Long
 
     List<LeaveRequest> findByStatus(LeaveStatus status);
 
+    List<LeaveRequest> findByOrganizationId(Long organizationId);
+
+    Optional<LeaveRequest> findByIdAndOrganizationId(Long id, Long organizationId);
+
+    @Query("""
+            SELECT lr FROM LeaveRequest lr
+            WHERE lr.user.id = :userId
+              AND lr.endDate >= :from
+              AND lr.startDate <= :to
+            ORDER BY lr.createdAt DESC
+            """)
+    List<LeaveRequest> findByUserIdInRange(@Param("userId") Long userId,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT lr FROM LeaveRequest lr
+            WHERE lr.organization.id = :organizationId
+              AND lr.endDate >= :from
+              AND lr.startDate <= :to
+            """)
+    List<LeaveRequest> findInRange(@Param("organizationId") Long organizationId,
+                                   @Param("from") LocalDate from,
+                                   @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT lr.id FROM LeaveRequest lr
+            WHERE lr.status IN (:statuses)
+              AND lr.endDate < :endedBefore
+              AND lr.id > :afterId
+            ORDER BY lr.id
+            """)
+    List<Long> findArchivableIds(@Param("statuses") List<LeaveStatus> statuses,
+                                 @Param("endedBefore") LocalDate endedBefore,
+                                 @Param("afterId") Long afterId,
+                                 Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT lr FROM LeaveRequest lr JOIN FETCH lr.user
+            WHERE lr.status = com.leaveease.leaveease_api.entity.LeaveStatus.PENDING
+              AND lr.id > :afterId
+              AND ((lr.escalatedAt IS NULL AND lr.createdAt < :escalateBefore)
+                   OR lr.createdAt < :expireBefore
+                   OR lr.startDate < :startedBefore)
+            ORDER BY lr.id
+            """)
+    List<LeaveRequest> lockStalePendingChunk(@Param("afterId") Long afterId,
+                                             @Param("escalateBefore") LocalDateTime escalateBefore,
+                                             @Param("expireBefore") LocalDateTime expireBefore,
+                                             @Param("startedBefore") LocalDate startedBefore,
+                                             Limit limit);
+
+    @Query(value = """
+            SELECT lr FROM LeaveRequest lr
+            JOIN FETCH lr.user
+            JOIN UserHierarchy h ON h.descendantId = lr.user.id
+            WHERE h.ancestorId = :managerId
+              AND h.depth > 0
+              AND lr.status = com.leaveease.leaveease_api.entity.LeaveStatus.PENDING
+            ORDER BY lr.createdAt, lr.id
+            """,
+           countQuery = """
+            SELECT COUNT(lr) FROM LeaveRequest lr
+            JOIN UserHierarchy h ON h.descendantId = lr.user.id
+            WHERE h.ancestorId = :managerId
+              AND h.depth > 0
+              AND lr.status = com.leaveease.leaveease_api.entity.LeaveStatus.PENDING
+            """)
+    Page<LeaveRequest> findPendingInSubtree(@Param("managerId") Long managerId, Pageable pageable);
+
     @Query("""
             SELECT COUNT(lr) > 0 FROM LeaveRequest lr
             WHERE lr.user.id = :userId
@@ -31,4 +108,34 @@ public interface LeaveRequestRepository extends JpaRepository<LeaveRequest, Long
                           @Param("startDate") LocalDate startDate,
                           @Param("endDate") LocalDate endDate,
                           @Param("statuses") List<LeaveStatus> statuses);
+
+    @Query("""
+            SELECT lr FROM LeaveRequest lr
+            WHERE lr.user.id = :userId
+              AND lr.status IN (:statuses)
+              AND lr.startDate <= :endDate
+              AND lr.endDate >= :startDate
+            ORDER BY lr.startDate
+            """)
+    List<LeaveRequest> findOverlapping(@Param("userId") Long userId,
+                                       @Param("startDate") LocalDate startDate,
+                                       @Param("endDate") LocalDate endDate,
+                                       @Param("statuses") List<LeaveStatus> statuses);
+
+    @Query("""
+            SELECT lr FROM LeaveRequest lr JOIN FETCH lr.user
+            WHERE lr.user.id = :userId
+              AND lr.status = com.leaveease.leaveease_api.entity.LeaveStatus.APPROVED
+              AND lr.endDate >= :since
+            """)
+    List<LeaveRequest> findApprovedForUserSince(@Param("userId") Long userId, @Param("since") LocalDate since);
+
+    @Query("""
+            SELECT lr FROM LeaveRequest lr JOIN FETCH lr.user
+            WHERE lr.organization.id = :organizationId
+              AND lr.status = com.leaveease.leaveease_api.entity.LeaveStatus.APPROVED
+              AND lr.endDate >= :since
+            """)
+    List<LeaveRequest> findApprovedForOrganizationSince(@Param("organizationId") Long organizationId,
+                                                        @Param("since") LocalDate since);
 }
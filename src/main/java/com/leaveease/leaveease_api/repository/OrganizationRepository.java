@@ -0,0 +1,19 @@
+package com.leaveease.leaveease_api.repository;
+
+import com.leaveease.leaveease_api.entity.Organization;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface OrganizationRepository extends JpaRepository<Organization, Long> {
+
+    Optional<Organization> findBySlug(String slug);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Organization o WHERE o.id = :id")
+    Optional<Organization> lockById(@Param("id") Long id);
+}
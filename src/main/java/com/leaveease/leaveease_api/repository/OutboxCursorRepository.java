@@ -0,0 +1,17 @@
+package com.leaveease.leaveease_api.repository;
+
+import com.leaveease.leaveease_api.entity.OutboxCursor;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface OutboxCursorRepository extends JpaRepository<OutboxCursor, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM OutboxCursor c WHERE c.consumer = :consumer")
+    Optional<OutboxCursor> findForUpdate(@Param("consumer") String consumer);
+}
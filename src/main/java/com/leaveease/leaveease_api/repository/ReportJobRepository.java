@@ -0,0 +1,48 @@
+package com.leaveease.leaveease_api.repository;
+
+import com.leaveease.leaveease_api.dto.ReportJobStatus;
+import com.leaveease.leaveease_api.entity.ReportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ReportJobRepository extends JpaRepository<ReportJob, UUID> {
+
+    Optional<ReportJob> findByIdAndOrganizationId(UUID id, Long organizationId);
+
+    long countByOrganizationIdAndStatusIn(Long organizationId, Collection<ReportJobStatus> statuses);
+
+    List<ReportJob> findByCompletedAtBefore(Instant cutoff);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.heartbeatAt = :now WHERE j.owner = :owner AND j.status IN :statuses")
+    int renewLeases(@Param("owner") String owner,
+                    @Param("statuses") Collection<ReportJobStatus> statuses,
+                    @Param("now") Instant now);
+
+    /**
+     * Fails jobs in {@code statuses} whose lease was last renewed before {@code cutoff}. Bumps the
+     * version, so the owner saving a result for such a job afterwards fails instead of reviving it.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE ReportJob j
+            SET j.status = :failed, j.error = :error, j.completedAt = :now, j.version = COALESCE(j.version, 0) + 1
+            WHERE j.status IN :statuses AND COALESCE(j.heartbeatAt, j.submittedAt) < :cutoff
+            """)
+    int failExpiredLeases(@Param("statuses") Collection<ReportJobStatus> statuses,
+                          @Param("cutoff") Instant cutoff,
+                          @Param("failed") ReportJobStatus failed,
+                          @Param("error") String error,
+                          @Param("now") Instant now);
+}
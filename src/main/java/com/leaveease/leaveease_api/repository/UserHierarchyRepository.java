@@ -0,0 +1,17 @@
+package com.leaveease.leaveease_api.repository;
+
+import com.leaveease.leaveease_api.entity.UserHierarchy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserHierarchyRepository extends JpaRepository<UserHierarchy, UserHierarchy.Key> {
+
+    @Query("""
+            SELECT COUNT(h) > 0 FROM UserHierarchy h
+            WHERE h.ancestorId = :ancestorId
+              AND h.descendantId = :descendantId
+              AND h.depth > 0
+            """)
+    boolean isAncestor(@Param("ancestorId") Long ancestorId, @Param("descendantId") Long descendantId);
+}
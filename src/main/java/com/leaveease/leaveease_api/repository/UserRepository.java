@@ -2,6 +2,10 @@ package com.leaveease.leaveease_api.repository;
 
 import com.leaveease.leaveease_api.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -9,9 +13,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByUsername(String username);
 
+    Optional<User> findByUsernameAndOrganizationId(String username, Long organizationId);
+
     Optional<User> findByEmail(String email);
 
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.feedVersion = u.feedVersion + 1 WHERE u.id = :id")
+    int rotateFeedVersion(@Param("id") Long id);
 }
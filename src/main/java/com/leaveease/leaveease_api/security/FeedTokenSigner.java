@@ -0,0 +1,72 @@
+package com.leaveease.leaveease_api.security;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import io.jsonwebtoken.io.Decoders;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Signs the subjects of calendar feed URLs. Calendar clients cannot send an Authorization header,
+ * so the URL itself is the credential: {@code base64url(subject).base64url(hmac)}. The HMAC is keyed
+ * with the JWT secret, so rotating that secret invalidates every subscribed feed URL; revoking the
+ * URLs of a single user is up to the subject, see {@code CalendarFeedService}.
+ */
+@Component
+public class FeedTokenSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String CONTEXT = "calendar-feed:";
+    private static final int SIGNATURE_BYTES = 16;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+
+    public FeedTokenSigner(AppProperties appProperties) {
+        this.key = new SecretKeySpec(Decoders.BASE64.decode(appProperties.getJwt().getSecret()), ALGORITHM);
+    }
+
+    public String sign(String subject) {
+        byte[] payload = subject.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(signature(payload));
+    }
+
+    /**
+     * @return the signed subject, or empty if the token is malformed or its signature does not match
+     */
+    public Optional<String> verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return Optional.empty();
+        }
+        try {
+            byte[] payload = DECODER.decode(token.substring(0, dot));
+            byte[] presented = DECODER.decode(token.substring(dot + 1));
+            return MessageDigest.isEqual(presented, signature(payload))
+                    ? Optional.of(new String(payload, StandardCharsets.UTF_8))
+                    : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] signature(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(CONTEXT.getBytes(StandardCharsets.UTF_8));
+            return Arrays.copyOf(mac.doFinal(payload), SIGNATURE_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+}
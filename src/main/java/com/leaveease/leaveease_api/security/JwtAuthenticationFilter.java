@@ -1,29 +1,48 @@
 package com.leaveease.leaveease_api.security;
 
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.util.ThrottledLogger;
+import com.leaveease.leaveease_api.web.RequestTiming;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
+/**
+ * Authenticates from the access token alone: username and role come from the signed claims and
+ * revocation is an in-memory lookup, so no user query is made per request. Role changes and
+ * deleted accounts take effect when the short-lived access token is next refreshed. Failures are
+ * logged at most once per reason per {@code app.logging.dedup-window}, since expired or forged
+ * tokens can arrive on every request.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
+    private final ThrottledLogger failureLog;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil,
+                                   TokenRevocationService tokenRevocationService,
+                                   AppProperties properties) {
+        this.jwtUtil = jwtUtil;
+        this.tokenRevocationService = tokenRevocationService;
+        AppProperties.Logging logging = properties.getLogging();
+        this.failureLog = new ThrottledLogger(log, logging.getDedupWindow(), logging.getDedupMaxKeys());
+    }
 
     @Override
     protected void doFilterInternal(
@@ -40,22 +59,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String token = authHeader.substring(7);
+        long startedAt = System.nanoTime();
 
         try {
-            String username = jwtUtil.extractUsername(token);
-
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            Claims claims = jwtUtil.parse(token);
+            String username = claims.getSubject();
+            String role = claims.get(JwtUtil.ROLE_CLAIM, String.class);
+            Long organizationId = claims.get(JwtUtil.ORGANIZATION_CLAIM, Long.class);
 
-                if (jwtUtil.isTokenValid(token, userDetails)) {
-                    var authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
+            if (!JwtUtil.ACCESS_TOKEN.equals(claims.get(JwtUtil.TOKEN_TYPE_CLAIM, String.class))) {
+                failureLog.warn("not-access-token", "JWT authentication failed: not an access token");
+            } else if (tokenRevocationService.isRevoked(claims.getId())) {
+                failureLog.warn("revoked", "JWT authentication failed: token has been revoked");
+            } else if (username != null && role != null && organizationId != null
+                    && SecurityContextHolder.getContext().getAuthentication() == null) {
+                var authToken = new UsernamePasswordAuthenticationToken(
+                        new TenantPrincipal(username, organizationId), null,
+                        List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         } catch (Exception e) {
-            log.warn("JWT authentication failed: {}", e.getMessage());
+            failureLog.warn(e.getClass().getName(), "JWT authentication failed: {}", e.getMessage());
+        }
+
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.addAuth(System.nanoTime() - startedAt);
         }
 
         filterChain.doFilter(request, response);
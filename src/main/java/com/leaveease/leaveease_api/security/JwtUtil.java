@@ -5,62 +5,66 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
 
-    private final String secret;
+    public static final String TOKEN_TYPE_CLAIM = "typ";
+    public static final String ROLE_CLAIM = "role";
+    public static final String ORGANIZATION_CLAIM = "org";
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
+
+    private final SecretKey signingKey;
     private final long expirationMs;
+    private final long refreshExpirationMs;
 
     public JwtUtil(AppProperties appProperties) {
-        this.secret = appProperties.getJwt().getSecret();
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(appProperties.getJwt().getSecret()));
         this.expirationMs = appProperties.getJwt().getExpirationMs();
+        this.refreshExpirationMs = appProperties.getJwt().getRefreshExpirationMs();
     }
 
-    public String generateToken(String username, String role) {
-        return Jwts.builder()
-                .subject(username)
-                .claims(Map.of("role", role))
-                .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + expirationMs))
-                .signWith(getSigningKey())
-                .compact();
-    }
-
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    public String generateAccessToken(String username, String role, long organizationId) {
+        return generate(username, role, organizationId, ACCESS_TOKEN, expirationMs);
     }
 
-    public String extractRole(String token) {
-        return extractClaim(token, claims -> claims.get("role", String.class));
+    public String generateRefreshToken(String username, String role, long organizationId) {
+        return generate(username, role, organizationId, REFRESH_TOKEN, refreshExpirationMs);
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+    public long getExpirationSeconds() {
+        return expirationMs / 1000;
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractClaim(token, Claims::getExpiration).before(new Date());
-    }
-
-    private <T> T extractClaim(String token, Function<Claims, T> resolver) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
+    /**
+     * Verifies the signature and expiry and returns the claims.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public Claims parse(String token) {
+        return Jwts.parser()
+                .verifyWith(signingKey)
                 .build()
                 .parseSignedClaims(token)
                 .getPayload();
-        return resolver.apply(claims);
     }
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    private String generate(String username, String role, long organizationId, String type, long ttlMs) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(username)
+                .claims(Map.of(ROLE_CLAIM, role, ORGANIZATION_CLAIM, organizationId, TOKEN_TYPE_CLAIM, type))
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + ttlMs))
+                .signWith(signingKey)
+                .compact();
     }
 }
@@ -0,0 +1,74 @@
+package com.leaveease.leaveease_api.security;
+
+import com.leaveease.leaveease_api.exception.ProblemType;
+import com.leaveease.leaveease_api.web.ProblemResponseWriter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Applies the per-IP budget to the public auth endpoints, and the per-subject and then the
+ * per-organization budget to authenticated API calls, so one busy tenant cannot use up the
+ * capacity of the others. The availability check is called on every keystroke of the signup form,
+ * so it is charged to the general per-IP API budget instead of the much smaller auth budget.
+ * Registered directly after {@link JwtAuthenticationFilter}.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String AVAILABILITY_PATH = "/api/auth/availability";
+
+    private final RateLimiter rateLimiter;
+    private final ProblemResponseWriter problemResponseWriter;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimiter.isEnabled()
+                || "OPTIONS".equals(request.getMethod())
+                || !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        long retryAfter;
+        if (path.startsWith("/api/auth/") && !path.equals(AVAILABILITY_PATH)) {
+            retryAfter = rateLimiter.tryAcquire(RateLimiter.Budget.AUTH_IP, request.getRemoteAddr());
+        } else {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            String subject = authentication != null && !(authentication instanceof AnonymousAuthenticationToken)
+                    ? authentication.getName()
+                    : request.getRemoteAddr();
+            retryAfter = rateLimiter.tryAcquire(RateLimiter.Budget.API, subject);
+            Long organizationId = TenantPrincipal.currentOrganizationId();
+            if (retryAfter == 0 && organizationId != null) {
+                retryAfter = rateLimiter.tryAcquire(RateLimiter.Budget.TENANT, organizationId.toString());
+            }
+        }
+
+        if (retryAfter > 0) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+            problemResponseWriter.write(request, response, ProblemType.RATE_LIMITED,
+                    "Too many requests, try again in " + retryAfter + " seconds");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
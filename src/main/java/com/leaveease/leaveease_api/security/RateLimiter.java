@@ -0,0 +1,148 @@
+package com.leaveease.leaveease_api.security;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.util.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-key token buckets, split over independent stripes so that eviction and the size cap of one
+ * stripe never contend with lookups on another. A key that arrives while its stripe is full first
+ * has the stripe drop its idle buckets (at most once per {@link #SWEEP_INTERVAL_NANOS}); if the stripe
+ * is still full, the key shares the stripe's overflow bucket for its budget, which keeps memory
+ * bounded under key-spraying attacks without giving sprayed logins the larger API allowance.
+ */
+@Component
+public class RateLimiter {
+
+    public enum Budget {
+        AUTH_IP,
+        AUTH_USERNAME,
+        API,
+        TENANT
+    }
+
+    private static final int STRIPES = 16;
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final AppProperties.RateLimit config;
+    private final int maxBucketsPerStripe;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final Counter rejected;
+
+    public RateLimiter(AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.config = appProperties.getRateLimit();
+        this.maxBucketsPerStripe = Math.max(1, config.getMaxBuckets() / STRIPES);
+        long now = System.nanoTime();
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(overflowBuckets(now), now - SWEEP_INTERVAL_NANOS);
+        }
+        this.rejected = Counter.builder("leaveease.ratelimit.rejected")
+                .description("Requests rejected by the rate limiter")
+                .register(meterRegistry);
+        Gauge.builder("leaveease.ratelimit.buckets", this, RateLimiter::bucketCount)
+                .description("Token buckets currently held in memory")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * @return {@code 0} if the call may proceed, otherwise the number of seconds the caller should wait
+     */
+    public long tryAcquire(Budget budget, String key) {
+        if (!config.isEnabled() || key == null) {
+            return 0;
+        }
+        String bucketKey = budget.name() + ':' + key;
+        Stripe stripe = stripes[(bucketKey.hashCode() & 0x7fffffff) % STRIPES];
+        long now = System.nanoTime();
+
+        TokenBucket bucket = stripe.buckets.get(bucketKey);
+        if (bucket == null) {
+            if (stripe.buckets.size() >= maxBucketsPerStripe) {
+                stripe.sweep(now);
+            }
+            if (stripe.buckets.size() >= maxBucketsPerStripe) {
+                bucket = stripe.overflow[budget.ordinal()];
+            } else {
+                AppProperties.RateLimit.Limit limit = limitFor(budget);
+                bucket = stripe.buckets.computeIfAbsent(bucketKey,
+                        k -> new TokenBucket(limit.getCapacity(), limit.getRefillPerMinute(), now));
+            }
+        }
+
+        long waitNanos = bucket.tryConsume(now);
+        if (waitNanos == 0) {
+            return 0;
+        }
+        rejected.increment();
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval:PT1M}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        for (Stripe stripe : stripes) {
+            stripe.buckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+    }
+
+    int bucketCount() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            count += stripe.buckets.size();
+        }
+        return count;
+    }
+
+    private AppProperties.RateLimit.Limit limitFor(Budget budget) {
+        return switch (budget) {
+            case AUTH_IP -> config.getAuthIp();
+            case AUTH_USERNAME -> config.getAuthUsername();
+            case API -> config.getApi();
+            case TENANT -> config.getTenant();
+        };
+    }
+
+    private TokenBucket[] overflowBuckets(long now) {
+        Budget[] budgets = Budget.values();
+        TokenBucket[] overflow = new TokenBucket[budgets.length];
+        for (Budget budget : budgets) {
+            AppProperties.RateLimit.Limit limit = limitFor(budget);
+            overflow[budget.ordinal()] = new TokenBucket(limit.getCapacity(), limit.getRefillPerMinute(), now);
+        }
+        return overflow;
+    }
+
+    private static final class Stripe {
+        private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final TokenBucket[] overflow;
+        private final AtomicLong lastSweep;
+
+        private Stripe(TokenBucket[] overflow, long lastSweep) {
+            this.overflow = overflow;
+            this.lastSweep = new AtomicLong(lastSweep);
+        }
+
+        /**
+         * Drops idle buckets, unless another caller did so within the last sweep interval.
+         */
+        private void sweep(long now) {
+            long last = lastSweep.get();
+            if (now - last < SWEEP_INTERVAL_NANOS || !lastSweep.compareAndSet(last, now)) {
+                return;
+            }
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+    }
+}
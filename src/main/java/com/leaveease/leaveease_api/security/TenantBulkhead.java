@@ -0,0 +1,55 @@
+package com.leaveease.leaveease_api.security;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of requests one organization can have in flight, and with it the share of the
+ * connection pool its queries can hold, so a burst from one tenant cannot queue everyone else
+ * behind it for connections.
+ */
+@Component
+public class TenantBulkhead {
+
+    private final ConcurrentMap<Long, Semaphore> permits = new ConcurrentHashMap<>();
+    private final int maxConcurrentRequests;
+    private final long maxQueueWaitNanos;
+    private final Counter rejected;
+
+    public TenantBulkhead(AppProperties appProperties, MeterRegistry meterRegistry) {
+        AppProperties.Tenancy config = appProperties.getTenancy();
+        this.maxConcurrentRequests = config.getMaxConcurrentRequests();
+        this.maxQueueWaitNanos = config.getMaxQueueWait().toNanos();
+        this.rejected = Counter.builder("leaveease.tenancy.bulkhead.rejected")
+                .description("Requests rejected because their organization had too many requests in flight")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return maxConcurrentRequests > 0;
+    }
+
+    /**
+     * Waits up to {@code app.tenancy.max-queue-wait} for a slot. A {@code true} result must be paired
+     * with {@link #exit(long)}.
+     */
+    public boolean tryEnter(long organizationId) throws InterruptedException {
+        Semaphore semaphore = permits.computeIfAbsent(organizationId, id -> new Semaphore(maxConcurrentRequests));
+        if (semaphore.tryAcquire() || semaphore.tryAcquire(maxQueueWaitNanos, TimeUnit.NANOSECONDS)) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    public void exit(long organizationId) {
+        permits.get(organizationId).release();
+    }
+}
@@ -0,0 +1,66 @@
+package com.leaveease.leaveease_api.security;
+
+import com.leaveease.leaveease_api.exception.ProblemType;
+import com.leaveease.leaveease_api.web.ProblemResponseWriter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Runs authenticated API calls inside their organization's {@link TenantBulkhead}. Registered
+ * directly after {@link RateLimitFilter}.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantBulkheadFilter extends OncePerRequestFilter {
+
+    private final TenantBulkhead tenantBulkhead;
+    private final ProblemResponseWriter problemResponseWriter;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !tenantBulkhead.isEnabled()
+                || !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Long organizationId = TenantPrincipal.currentOrganizationId();
+        if (organizationId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean entered;
+        try {
+            entered = tenantBulkhead.tryEnter(organizationId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            entered = false;
+        }
+        if (!entered) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            problemResponseWriter.write(request, response, ProblemType.TENANT_BUSY,
+                    "Too many concurrent requests for this organization");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            tenantBulkhead.exit(organizationId);
+        }
+    }
+}
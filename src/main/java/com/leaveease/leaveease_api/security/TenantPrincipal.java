@@ -0,0 +1,35 @@
+package com.leaveease.leaveease_api.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.Principal;
+
+/**
+ * Authenticated caller as read from the access token. {@link #getName()} is the username, so
+ * {@code Authentication.getName()} keeps working for code that only needs that.
+ */
+public record TenantPrincipal(String username, long organizationId) implements Principal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public static TenantPrincipal of(Authentication authentication) {
+        if (authentication != null && authentication.getPrincipal() instanceof TenantPrincipal principal) {
+            return principal;
+        }
+        throw new IllegalStateException("No tenant-scoped authentication");
+    }
+
+    /**
+     * Organization of the caller on this thread, or {@code null} for anonymous requests.
+     */
+    public static Long currentOrganizationId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof TenantPrincipal principal
+                ? principal.organizationId()
+                : null;
+    }
+}
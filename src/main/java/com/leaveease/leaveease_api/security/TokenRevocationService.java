@@ -0,0 +1,145 @@
+package com.leaveease.leaveease_api.security;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.entity.RevokedToken;
+import com.leaveease.leaveease_api.repository.RevokedTokenRepository;
+import com.leaveease.leaveease_api.util.BloomFilter;
+import com.leaveease.leaveease_api.util.IdCursor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deny-list of revoked token ids ({@code jti}). Every node keeps the unexpired entries in memory behind a
+ * Bloom filter, so the check on each request is a few bit probes and almost never a map lookup. The
+ * {@code revoked_tokens} table is the shared source of truth: other nodes pick up new rows on the next
+ * sync, and entries are dropped everywhere once the token they name has expired anyway. Rows are tailed
+ * with an {@link IdCursor}, so a revocation committed after a higher id was read is still picked up.
+ */
+@Slf4j
+@Component
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final AppProperties.Jwt.Revocation config;
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final Counter falsePositives;
+    private final IdCursor cursor;
+    private volatile BloomFilter bloomFilter;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  AppProperties appProperties,
+                                  MeterRegistry meterRegistry) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.config = appProperties.getJwt().getRevocation();
+        this.cursor = new IdCursor(0, appProperties.getOutbox().getGapTimeout().toMillis());
+        this.bloomFilter = new BloomFilter(config.getExpectedEntries(), config.getFalsePositiveRate());
+        this.falsePositives = Counter.builder("leaveease.auth.revocation.false-positives")
+                .description("Bloom filter hits that the exact deny-list did not confirm")
+                .register(meterRegistry);
+        Gauge.builder("leaveease.auth.revocation.entries", revoked, Map::size)
+                .description("Unexpired revoked token ids held in memory")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void load() {
+        sync();
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        if (revoked.containsKey(jti)) {
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Revokes a token id until {@code expiresAt}.
+     *
+     * @return {@code false} if the id had already been revoked (by this or another node)
+     */
+    public boolean revoke(String jti, Instant expiresAt) {
+        if (isRevoked(jti)) {
+            return false;
+        }
+        try {
+            revokedTokenRepository.saveAndFlush(RevokedToken.builder()
+                    .jti(jti)
+                    .expiresAt(expiresAt)
+                    .revokedAt(Instant.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            remember(jti, expiresAt);
+            return false;
+        }
+        remember(jti, expiresAt);
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.sync-interval:PT5S}")
+    public synchronized void sync() {
+        Instant now = Instant.now();
+        cursor.expire(now.toEpochMilli());
+        if (cursor.hasGaps()) {
+            apply(revokedTokenRepository.findByIdIn(cursor.gaps()), now);
+        }
+        List<RevokedToken> batch;
+        do {
+            batch = revokedTokenRepository.findByIdGreaterThanOrderByIdAsc(
+                    cursor.position(), Limit.of(config.getBatchSize()));
+            apply(batch, now);
+        } while (batch.size() == config.getBatchSize());
+    }
+
+    private void apply(List<RevokedToken> tokens, Instant now) {
+        for (RevokedToken token : tokens) {
+            if (token.getExpiresAt().isAfter(now)) {
+                remember(token.getJti(), token.getExpiresAt());
+            }
+        }
+        cursor.advance(tokens.stream().map(RevokedToken::getId).toList(), now.toEpochMilli());
+    }
+
+    /**
+     * Drops expired entries and rebuilds the filter from what is left, since a Bloom filter cannot
+     * forget; sized so that it stays near the target false-positive rate until the next prune.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.prune-interval:PT10M}")
+    public void prune() {
+        Instant now = Instant.now();
+        synchronized (revoked) {
+            revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+            BloomFilter rebuilt = new BloomFilter(
+                    Math.max(config.getExpectedEntries(), revoked.size() * 2), config.getFalsePositiveRate());
+            revoked.keySet().forEach(rebuilt::put);
+            bloomFilter = rebuilt;
+        }
+        int deleted = revokedTokenRepository.deleteExpired(now);
+        if (deleted > 0) {
+            log.debug("Pruned {} expired token revocations", deleted);
+        }
+    }
+
+    private void remember(String jti, Instant expiresAt) {
+        synchronized (revoked) {
+            revoked.put(jti, expiresAt);
+            bloomFilter.put(jti);
+        }
+    }
+}
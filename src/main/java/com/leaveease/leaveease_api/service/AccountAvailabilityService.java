@@ -0,0 +1,173 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.entity.User;
+import com.leaveease.leaveease_api.repository.UserRepository;
+import com.leaveease.leaveease_api.util.BloomFilter;
+import com.leaveease.leaveease_api.util.IdCursor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Answers "is this username / email taken?" for the signup form. Taken names are kept in Bloom
+ * filters, so the common case of a name nobody has is answered without a query; a filter hit is
+ * confirmed against the database. Accounts registered on other nodes are picked up by tailing
+ * {@code users} with an {@link IdCursor}, so an account whose transaction commits after a higher id
+ * was read is not missed, which would make the filter answer "free" for a taken name. Registration
+ * itself does not depend on this: the unique constraints decide.
+ */
+@Slf4j
+@Service
+public class AccountAvailabilityService {
+
+    private static final String SELECT_AFTER = "SELECT id, username, email FROM users WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String SELECT_MAX_ID = "SELECT COALESCE(MAX(id), 0) FROM users";
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final AppProperties.Registration config;
+    private final long gapTimeoutMillis;
+    private final Counter definitelyFree;
+    private final Counter confirmedTaken;
+    private final Counter falsePositives;
+    private volatile Filters filters;
+    private IdCursor cursor;
+
+    public AccountAvailabilityService(UserRepository userRepository,
+                                      JdbcTemplate jdbcTemplate,
+                                      AppProperties appProperties,
+                                      MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = appProperties.getRegistration();
+        this.gapTimeoutMillis = appProperties.getOutbox().getGapTimeout().toMillis();
+        this.cursor = new IdCursor(0, gapTimeoutMillis);
+        this.filters = new Filters(config.getExpectedAccounts(), config.getFalsePositiveRate());
+        this.definitelyFree = checks(meterRegistry, "free");
+        this.confirmedTaken = checks(meterRegistry, "taken");
+        this.falsePositives = checks(meterRegistry, "false-positive");
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("leaveease.auth.availability.checks")
+                .description("Username and email availability checks by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void load() {
+        sync();
+    }
+
+    public boolean isUsernameAvailable(String username) {
+        if (!filters.usernames.mightContain(username)) {
+            definitelyFree.increment();
+            return true;
+        }
+        return confirm(userRepository.existsByUsername(username));
+    }
+
+    public boolean isEmailAvailable(String email) {
+        if (!filters.emails.mightContain(email)) {
+            definitelyFree.increment();
+            return true;
+        }
+        return confirm(userRepository.existsByEmail(email));
+    }
+
+    /**
+     * Records an account registered on this node, so it is reported as taken before the next sync.
+     */
+    public void remember(String username, String email) {
+        Filters current = filters;
+        current.usernames.put(username);
+        current.emails.put(email);
+    }
+
+    /**
+     * Adds accounts created since the last sync. Once the filters hold more accounts than they were
+     * sized for, they are rebuilt from the whole table at twice the size to keep the false-positive
+     * rate near the target. If the table now ends before the cursor (a restored database), they are
+     * rebuilt at the current size.
+     */
+    @Scheduled(fixedDelayString = "${app.registration.sync-interval:PT5S}")
+    public synchronized void sync() {
+        Long maxId = jdbcTemplate.queryForObject(SELECT_MAX_ID, Long.class);
+        if (maxId != null && maxId < cursor.position()) {
+            rebuild(filters.capacity);
+            return;
+        }
+        int added = tail(filters, cursor);
+        if (filters.count > filters.capacity) {
+            rebuild(filters.capacity * 2);
+        } else if (added > 0) {
+            log.debug("Added {} accounts to the availability filters", added);
+        }
+    }
+
+    private void rebuild(int capacity) {
+        Filters rebuilt = new Filters(capacity, config.getFalsePositiveRate());
+        IdCursor rescan = new IdCursor(0, gapTimeoutMillis);
+        tail(rebuilt, rescan);
+        filters = rebuilt;
+        cursor = rescan;
+        log.info("Rebuilt account availability filters for {} accounts", rebuilt.count);
+    }
+
+    private int tail(Filters target, IdCursor from) {
+        long now = System.currentTimeMillis();
+        from.expire(now);
+        int added = 0;
+        if (from.hasGaps()) {
+            List<Long> ids = new ArrayList<>();
+            for (User user : userRepository.findAllById(from.gaps())) {
+                target.usernames.put(user.getUsername());
+                target.emails.put(user.getEmail());
+                ids.add(user.getId());
+            }
+            from.advance(ids, now);
+            added += ids.size();
+        }
+        List<Long> ids;
+        do {
+            ids = new ArrayList<>();
+            for (var row : jdbcTemplate.queryForList(SELECT_AFTER, from.position(), config.getBatchSize())) {
+                target.usernames.put((String) row.get("username"));
+                target.emails.put((String) row.get("email"));
+                ids.add(((Number) row.get("id")).longValue());
+            }
+            from.advance(ids, now);
+            added += ids.size();
+        } while (ids.size() == config.getBatchSize());
+        target.count += added;
+        return added;
+    }
+
+    private boolean confirm(boolean taken) {
+        (taken ? confirmedTaken : falsePositives).increment();
+        return !taken;
+    }
+
+    private static final class Filters {
+
+        private final BloomFilter usernames;
+        private final BloomFilter emails;
+        private final int capacity;
+        private int count;
+
+        Filters(int capacity, double falsePositiveRate) {
+            this.usernames = new BloomFilter(capacity, falsePositiveRate);
+            this.emails = new BloomFilter(capacity, falsePositiveRate);
+            this.capacity = capacity;
+        }
+    }
+}
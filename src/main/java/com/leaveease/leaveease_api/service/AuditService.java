@@ -0,0 +1,39 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.dto.AuditLogResponseDto;
+import com.leaveease.leaveease_api.dto.PagedResponse;
+import com.leaveease.leaveease_api.entity.AuditLogEntry;
+import com.leaveease.leaveease_api.repository.AuditLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class AuditService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final AuditLogRepository auditLogRepository;
+
+    @Transactional(readOnly = true)
+    public PagedResponse<AuditLogResponseDto> search(long organizationId, Long leaveRequestId, String actor,
+                                                     int page, int size) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        return PagedResponse.of(auditLogRepository.search(organizationId, leaveRequestId, actor, pageRequest), this::toResponseDto);
+    }
+
+    private AuditLogResponseDto toResponseDto(AuditLogEntry entry) {
+        return AuditLogResponseDto.builder()
+                .id(entry.getId())
+                .eventType(entry.getEventType())
+                .leaveRequestId(entry.getLeaveRequestId())
+                .actorUsername(entry.getActorUsername())
+                .subjectUsername(entry.getSubjectUsername())
+                .payload(entry.getPayload())
+                .occurredAt(entry.getOccurredAt())
+                .recordedAt(entry.getRecordedAt())
+                .build();
+    }
+}
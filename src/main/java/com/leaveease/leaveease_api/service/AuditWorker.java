@@ -0,0 +1,101 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.entity.OutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Copies outbox events into the append-only {@code audit_log} table in JDBC batches, off the
+ * request path. Each run handles at most {@code max-batches-per-run} batches; whatever is left
+ * shows up in the {@code leaveease.audit.backlog} gauge.
+ */
+@Slf4j
+@Component
+public class AuditWorker {
+
+    static final String CONSUMER = "audit";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_log (event_id, event_type, organization_id, leave_request_id, actor_username,
+                                   subject_username, payload, occurred_at, recorded_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final OutboxCursorService cursorService;
+    private final JdbcTemplate jdbcTemplate;
+    private final AppProperties.Audit config;
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter recorded;
+    private final Timer batchTimer;
+    private volatile boolean cursorReady;
+
+    public AuditWorker(OutboxCursorService cursorService,
+                       JdbcTemplate jdbcTemplate,
+                       AppProperties appProperties,
+                       MeterRegistry meterRegistry) {
+        this.cursorService = cursorService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = appProperties.getAudit();
+        this.recorded = Counter.builder("leaveease.audit.recorded")
+                .description("Audit entries appended to audit_log")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("leaveease.audit.batch")
+                .description("Time to append one batch of audit entries")
+                .register(meterRegistry);
+        Gauge.builder("leaveease.audit.backlog", backlog, AtomicLong::get)
+                .description("Outbox events not yet written to audit_log")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.audit.poll-interval:PT1S}")
+    public void drain() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        if (!cursorReady) {
+            cursorService.ensureCursor(CONSUMER);
+            cursorReady = true;
+        }
+
+        for (int i = 0; i < config.getMaxBatchesPerRun(); i++) {
+            int handled = batchTimer.record(() -> cursorService.consumeBatch(CONSUMER, config.getBatchSize(), this::append));
+            recorded.increment(handled);
+            if (handled < config.getBatchSize()) {
+                break;
+            }
+        }
+
+        long pending = cursorService.lag(CONSUMER);
+        backlog.set(pending);
+        if (pending > config.getBacklogWarnThreshold()) {
+            log.warn("Audit log is {} events behind the outbox", pending);
+        }
+    }
+
+    private void append(List<OutboxEvent> events) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setLong(1, event.getId());
+            ps.setString(2, event.getEventType().name());
+            ps.setLong(3, event.getOrganizationId());
+            ps.setLong(4, event.getLeaveRequestId());
+            ps.setString(5, event.getActorUsername());
+            ps.setString(6, event.getSubjectUsername());
+            ps.setString(7, event.getPayload());
+            ps.setTimestamp(8, Timestamp.valueOf(event.getOccurredAt()));
+            ps.setTimestamp(9, now);
+        });
+    }
+}
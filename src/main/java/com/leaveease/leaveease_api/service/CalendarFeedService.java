@@ -0,0 +1,280 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.entity.LeaveEventType;
+import com.leaveease.leaveease_api.entity.LeaveRequest;
+import com.leaveease.leaveease_api.entity.Role;
+import com.leaveease.leaveease_api.entity.User;
+import com.leaveease.leaveease_api.exception.ResourceNotFoundException;
+import com.leaveease.leaveease_api.repository.LeaveRequestRepository;
+import com.leaveease.leaveease_api.repository.OrganizationRepository;
+import com.leaveease.leaveease_api.repository.UserRepository;
+import com.leaveease.leaveease_api.security.FeedTokenSigner;
+import com.leaveease.leaveease_api.util.BoundedTtlCache;
+import com.leaveease.leaveease_api.util.ICalendar;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Renders iCalendar feeds of approved leave, one per employee and one per organization, and keeps
+ * the rendered bytes in memory so the polls of calendar clients are answered without a query.
+ * Each cached feed also keeps its events, so an approval on this node splices one event into the
+ * affected feeds instead of re-reading them. Approvals on other nodes and leave that ages out of
+ * the window are picked up when a feed is re-read after {@code app.calendar.max-age}.
+ * <p>
+ * Feed URLs are signed for the user they were handed to and carry that user's feed version, which
+ * is checked against the database at most every {@code app.calendar.owner-check-interval}.
+ */
+@Service
+public class CalendarFeedService {
+
+    private static final String PRODUCT_ID = "-//LeaveEase//Leave calendar//EN";
+
+    public enum Scope {
+        USER('u'),
+        ORGANIZATION('o');
+
+        private final char prefix;
+
+        Scope(char prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    public record FeedKey(Scope scope, long id) {
+    }
+
+    public record RenderedFeed(byte[] body, String etag, Instant lastModified) {
+    }
+
+    private record Feed(String name, NavigableMap<Long, String> events, RenderedFeed rendered, long loadedAt) {
+    }
+
+    private record FeedOwner(long organizationId, Role role, int feedVersion) {
+    }
+
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final UserRepository userRepository;
+    private final OrganizationRepository organizationRepository;
+    private final FeedTokenSigner feedTokenSigner;
+    private final AppProperties.Calendar config;
+    private final BoundedTtlCache<FeedKey, Feed> feeds;
+    private final BoundedTtlCache<Long, FeedOwner> owners;
+    private final AtomicLong approvals = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public CalendarFeedService(LeaveRequestRepository leaveRequestRepository,
+                               UserRepository userRepository,
+                               OrganizationRepository organizationRepository,
+                               FeedTokenSigner feedTokenSigner,
+                               AppProperties appProperties,
+                               MeterRegistry meterRegistry) {
+        this.leaveRequestRepository = leaveRequestRepository;
+        this.userRepository = userRepository;
+        this.organizationRepository = organizationRepository;
+        this.feedTokenSigner = feedTokenSigner;
+        this.config = appProperties.getCalendar();
+        this.feeds = new BoundedTtlCache<>(config.getMaxFeeds(), config.getMaxAge());
+        this.owners = new BoundedTtlCache<>(config.getMaxFeeds(), config.getOwnerCheckInterval());
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        Gauge.builder("leaveease.calendar.feeds.cached", feeds, BoundedTtlCache::size)
+                .description("Rendered calendar feeds held in memory")
+                .register(meterRegistry);
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("leaveease.calendar.feed.requests")
+                .description("Calendar feed requests by cache result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Signs a feed URL token for {@code key} on behalf of {@code owner}. The token names its owner
+     * and the owner's current feed version, so {@link #rotate(long)} revokes it and an
+     * organization feed stops resolving once its owner is no longer an admin there.
+     */
+    public String tokenFor(FeedKey key, User owner) {
+        return feedTokenSigner.sign(key.scope().prefix + ":" + key.id() + ":" + owner.getId() + ":" + owner.getFeedVersion());
+    }
+
+    public Optional<FeedKey> resolve(String token) {
+        return feedTokenSigner.verify(token).flatMap(subject -> {
+            String[] parts = subject.split(":");
+            if (parts.length != 4 || parts[0].length() != 1) {
+                return Optional.empty();
+            }
+            Scope scope = null;
+            for (Scope candidate : Scope.values()) {
+                if (parts[0].charAt(0) == candidate.prefix) {
+                    scope = candidate;
+                }
+            }
+            if (scope == null) {
+                return Optional.empty();
+            }
+            long id;
+            long ownerId;
+            int version;
+            try {
+                id = Long.parseLong(parts[1]);
+                ownerId = Long.parseLong(parts[2]);
+                version = Integer.parseInt(parts[3]);
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+            FeedOwner owner = owner(ownerId);
+            if (owner == null || owner.feedVersion() != version) {
+                return Optional.empty();
+            }
+            boolean allowed = scope == Scope.USER
+                    ? id == ownerId
+                    : owner.role() == Role.ADMIN && owner.organizationId() == id;
+            return allowed ? Optional.of(new FeedKey(scope, id)) : Optional.empty();
+        });
+    }
+
+    /**
+     * Revokes every feed URL handed out to {@code userId}; URLs issued afterwards carry the new version.
+     * Other nodes notice once their copy of the owner is older than {@code app.calendar.owner-check-interval}.
+     */
+    public void rotate(long userId) {
+        userRepository.rotateFeedVersion(userId);
+        owners.remove(userId);
+    }
+
+    private FeedOwner owner(long userId) {
+        FeedOwner cached = owners.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        FeedOwner loaded = userRepository.findById(userId)
+                .map(user -> new FeedOwner(user.getOrganization().getId(), user.getRole(), user.getFeedVersion()))
+                .orElse(null);
+        if (loaded != null) {
+            owners.put(userId, loaded);
+        }
+        return loaded;
+    }
+
+    public RenderedFeed render(FeedKey key) {
+        Feed cached = feeds.get(key);
+        if (cached != null && System.currentTimeMillis() - cached.loadedAt() < config.getMaxAge().toMillis()) {
+            hits.increment();
+            return cached.rendered();
+        }
+        misses.increment();
+        long seenApprovals = approvals.get();
+        Feed loaded = load(key);
+        if (approvals.get() == seenApprovals) {
+            feeds.put(key, loaded);
+        }
+        return loaded.rendered();
+    }
+
+    @TransactionalEventListener
+    public void onLeaveEvent(LeaveLifecycleEvent event) {
+        if (event.type() != LeaveEventType.APPROVED) {
+            return;
+        }
+        approvals.incrementAndGet();
+        LeaveRequest leave = event.leaveRequest();
+        splice(new FeedKey(Scope.USER, leave.getUser().getId()), leave);
+        splice(new FeedKey(Scope.ORGANIZATION, leave.getOrganization().getId()), leave);
+    }
+
+    private synchronized void splice(FeedKey key, LeaveRequest leave) {
+        Feed cached = feeds.get(key);
+        if (cached == null) {
+            return;
+        }
+        NavigableMap<Long, String> events = new TreeMap<>(cached.events());
+        events.put(leave.getId(), event(key.scope(), leave));
+        feeds.put(key, new Feed(cached.name(), events, render(cached.name(), events), cached.loadedAt()));
+    }
+
+    private Feed load(FeedKey key) {
+        LocalDate since = LocalDate.now().minus(config.getHistory());
+        String name;
+        List<LeaveRequest> leaves;
+        if (key.scope() == Scope.USER) {
+            name = "Leave: " + userRepository.findById(key.id())
+                    .orElseThrow(() -> new ResourceNotFoundException("Calendar feed not found"))
+                    .getUsername();
+            leaves = leaveRequestRepository.findApprovedForUserSince(key.id(), since);
+        } else {
+            name = "Leave: " + organizationRepository.findById(key.id())
+                    .orElseThrow(() -> new ResourceNotFoundException("Calendar feed not found"))
+                    .getName();
+            leaves = leaveRequestRepository.findApprovedForOrganizationSince(key.id(), since);
+        }
+        NavigableMap<Long, String> events = new TreeMap<>();
+        for (LeaveRequest leave : leaves) {
+            events.put(leave.getId(), event(key.scope(), leave));
+        }
+        return new Feed(name, events, render(name, events), System.currentTimeMillis());
+    }
+
+    private static String event(Scope scope, LeaveRequest leave) {
+        String type = leave.getLeaveType().name().charAt(0) + leave.getLeaveType().name().substring(1).toLowerCase(Locale.ROOT);
+        StringBuilder out = new StringBuilder(256);
+        ICalendar.appendLine(out, "BEGIN", "VEVENT");
+        ICalendar.appendLine(out, "UID", "leave-" + leave.getId() + "@leaveease");
+        ICalendar.appendLine(out, "DTSTAMP", ICalendar.dateTime(stamp(leave.getUpdatedAt())));
+        ICalendar.appendLine(out, "DTSTART;VALUE=DATE", ICalendar.date(leave.getStartDate()));
+        ICalendar.appendLine(out, "DTEND;VALUE=DATE", ICalendar.date(leave.getEndDate().plusDays(1)));
+        if (scope == Scope.USER) {
+            ICalendar.appendLine(out, "SUMMARY", ICalendar.escape(type + " leave"));
+            if (leave.getReason() != null && !leave.getReason().isBlank()) {
+                ICalendar.appendLine(out, "DESCRIPTION", ICalendar.escape(leave.getReason()));
+            }
+        } else {
+            ICalendar.appendLine(out, "SUMMARY", ICalendar.escape(leave.getUser().getUsername() + ": " + type + " leave"));
+        }
+        ICalendar.appendLine(out, "END", "VEVENT");
+        return out.toString();
+    }
+
+    private static Instant stamp(LocalDateTime updatedAt) {
+        return updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault()).toInstant() : Instant.now();
+    }
+
+    private static RenderedFeed render(String name, NavigableMap<Long, String> events) {
+        StringBuilder out = new StringBuilder(256 + events.size() * 256);
+        ICalendar.appendLine(out, "BEGIN", "VCALENDAR");
+        ICalendar.appendLine(out, "VERSION", "2.0");
+        ICalendar.appendLine(out, "PRODID", PRODUCT_ID);
+        ICalendar.appendLine(out, "CALSCALE", "GREGORIAN");
+        ICalendar.appendLine(out, "METHOD", "PUBLISH");
+        ICalendar.appendLine(out, "X-WR-CALNAME", ICalendar.escape(name));
+        events.values().forEach(out::append);
+        ICalendar.appendLine(out, "END", "VCALENDAR");
+        byte[] body = out.toString().getBytes(StandardCharsets.UTF_8);
+        return new RenderedFeed(body, etag(body), Instant.now().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 12) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Destination for relayed outbox events. Delivery is at-least-once for every event whose
+ * transaction commits within {@code app.outbox.gap-timeout} of taking its id. A batch that throws
+ * is retried in full, and a batch may be delivered again, possibly by another node, if the cursor
+ * cannot be moved after it succeeded; implementations and their consumers must tolerate duplicates
+ * (use the event {@code id}). An event that committed late arrives after events with higher ids.
+ */
+public interface EventSink {
+
+    String name();
+
+    void publish(List<OutboxEvent> events);
+
+    static String envelope(OutboxEvent event) {
+        return "{\"id\":" + event.getId()
+                + ",\"type\":\"" + event.getEventType().name() + "\""
+                + ",\"occurredAt\":\"" + event.getOccurredAt() + "\""
+                + ",\"data\":" + event.getPayload() + "}";
+    }
+}
@@ -0,0 +1,96 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.entity.User;
+import com.leaveease.leaveease_api.exception.InvalidHierarchyException;
+import com.leaveease.leaveease_api.exception.ResourceNotFoundException;
+import com.leaveease.leaveease_api.repository.OrganizationRepository;
+import com.leaveease.leaveease_api.repository.UserHierarchyRepository;
+import com.leaveease.leaveease_api.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains the reporting lines ({@code users.manager_id}) together with their closure table
+ * ({@code user_hierarchy}). Moving a user rewrites only the paths between the user's subtree and
+ * its old and new ancestors; the rest of the table is untouched. Changes within one organization
+ * are serialized on its row, so concurrent moves cannot produce a cycle or stale paths.
+ */
+@Service
+@RequiredArgsConstructor
+public class HierarchyService {
+
+    private static final String INSERT_SELF_SQL = """
+            INSERT INTO user_hierarchy (ancestor_id, descendant_id, depth)
+            SELECT :userId, :userId, 0
+            WHERE NOT EXISTS (SELECT 1 FROM user_hierarchy WHERE ancestor_id = :userId AND descendant_id = :userId)
+            """;
+
+    private static final String DETACH_SQL = """
+            DELETE FROM user_hierarchy
+            WHERE descendant_id IN (SELECT descendant_id FROM user_hierarchy WHERE ancestor_id = :userId)
+              AND ancestor_id IN (SELECT ancestor_id FROM user_hierarchy WHERE descendant_id = :userId AND depth > 0)
+            """;
+
+    private static final String ATTACH_SQL = """
+            INSERT INTO user_hierarchy (ancestor_id, descendant_id, depth)
+            SELECT above.ancestor_id, below.descendant_id, above.depth + below.depth + 1
+            FROM user_hierarchy above, user_hierarchy below
+            WHERE above.descendant_id = :managerId
+              AND below.ancestor_id = :userId
+            """;
+
+    private final UserRepository userRepository;
+    private final UserHierarchyRepository userHierarchyRepository;
+    private final OrganizationRepository organizationRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void addUser(long userId) {
+        jdbcTemplate.update(INSERT_SELF_SQL, new MapSqlParameterSource("userId", userId));
+    }
+
+    /**
+     * Makes {@code managerUsername} (or nobody, if {@code null}) the manager of {@code username}.
+     * Both must belong to the organization of the acting admin.
+     */
+    @Transactional
+    public void setManager(String adminUsername, String username, String managerUsername) {
+        User admin = userRepository.findByUsername(adminUsername)
+                .orElseThrow(() -> new ResourceNotFoundException("Admin user not found: " + adminUsername));
+        Long organizationId = admin.getOrganization().getId();
+        organizationRepository.lockById(organizationId);
+
+        User user = userRepository.findByUsernameAndOrganizationId(username, organizationId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + username));
+        User manager = null;
+        if (managerUsername != null) {
+            manager = userRepository.findByUsernameAndOrganizationId(managerUsername, organizationId)
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found: " + managerUsername));
+            if (manager.getId().equals(user.getId()) || userHierarchyRepository.isAncestor(user.getId(), manager.getId())) {
+                throw new InvalidHierarchyException(
+                        managerUsername + " reports to " + username + " and cannot become their manager");
+            }
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("userId", user.getId());
+        jdbcTemplate.update(INSERT_SELF_SQL, params);
+        jdbcTemplate.update(DETACH_SQL, params);
+        if (manager != null) {
+            jdbcTemplate.update(INSERT_SELF_SQL, new MapSqlParameterSource("userId", manager.getId()));
+            jdbcTemplate.update(ATTACH_SQL, params.addValue("managerId", manager.getId()));
+        }
+        user.setManager(manager);
+    }
+
+    /**
+     * An approver must sit above the requester in the reporting lines. Requesters without a manager
+     * can be approved by any admin of their organization.
+     */
+    @Transactional(readOnly = true)
+    public boolean mayApprove(User approver, User requester) {
+        return requester.getManager() == null || userHierarchyRepository.isAncestor(approver.getId(), requester.getId());
+    }
+}
@@ -0,0 +1,22 @@
+package com.leaveease.leaveease_api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyCleanupJob {
+
+    private final IdempotencyStore idempotencyStore;
+
+    @Scheduled(fixedDelayString = "${app.idempotency.cleanup-interval:PT5M}")
+    public void purgeExpired() {
+        int purged = idempotencyStore.purgeExpired();
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+}
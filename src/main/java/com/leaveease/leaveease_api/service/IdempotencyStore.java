@@ -0,0 +1,23 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.entity.IdempotencyRecord;
+
+/**
+ * Remembers the outcome of write requests carrying an {@code Idempotency-Key} header
+ * so that client retries can be answered without running the request again.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Atomically claims {@code key} for the caller.
+     *
+     * @return {@code null} if the caller now owns the key, otherwise the record already stored under it
+     */
+    IdempotencyRecord reserve(String key, String fingerprint);
+
+    void complete(String key, int status, String contentType, byte[] body);
+
+    void release(String key);
+
+    int purgeExpired();
+}
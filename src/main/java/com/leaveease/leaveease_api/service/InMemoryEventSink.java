@@ -0,0 +1,37 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.entity.OutboxEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps delivered envelopes in memory. Intended for tests and local development.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox.memory", name = "enabled", havingValue = "true")
+public class InMemoryEventSink implements EventSink {
+
+    private final List<String> delivered = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String name() {
+        return "memory";
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        List<String> envelopes = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            envelopes.add(EventSink.envelope(event));
+        }
+        delivered.addAll(envelopes);
+    }
+
+    public List<String> getDelivered() {
+        return List.copyOf(delivered);
+    }
+}
@@ -0,0 +1,113 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.entity.IdempotencyRecord;
+import com.leaveease.leaveease_api.security.TenantPrincipal;
+import com.leaveease.leaveease_api.util.BoundedTtlCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps one bounded cache per organization, so a tenant sending many keys only evicts its own
+ * entries. Anonymous requests (registration) have a partition of their own. At most
+ * {@code max-entries / max-entries-per-tenant} partitions exist, the anonymous one included; an
+ * organization that needs a partition when all are taken evicts the one used least recently, and
+ * partitions left empty by expiry are dropped.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Duration ttl;
+    private final int maxEntriesPerTenant;
+    private final BoundedTtlCache<String, IdempotencyRecord> anonymous;
+    /**
+     * Organization partitions in access order; guarded by itself.
+     */
+    private final LinkedHashMap<Long, BoundedTtlCache<String, IdempotencyRecord>> partitions;
+
+    public InMemoryIdempotencyStore(AppProperties appProperties) {
+        AppProperties.Idempotency config = appProperties.getIdempotency();
+        this.ttl = config.getTtl();
+        this.maxEntriesPerTenant = Math.min(config.getMaxEntriesPerTenant(), config.getMaxEntries());
+        this.anonymous = new BoundedTtlCache<>(maxEntriesPerTenant, ttl);
+        int maxPartitions = Math.max(1, config.getMaxEntries() / maxEntriesPerTenant - 1);
+        this.partitions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, BoundedTtlCache<String, IdempotencyRecord>> eldest) {
+                return size() > maxPartitions;
+            }
+        };
+    }
+
+    @Override
+    public IdempotencyRecord reserve(String key, String fingerprint) {
+        return partition().putIfAbsent(key, IdempotencyRecord.builder()
+                .key(key)
+                .fingerprint(fingerprint)
+                .expiresAt(Instant.now().plus(ttl))
+                .build());
+    }
+
+    /**
+     * Swaps the pending record for a completed copy instead of filling it in, so a replay reading
+     * the entry concurrently sees either the reservation or the whole response.
+     */
+    @Override
+    public void complete(String key, int status, String contentType, byte[] body) {
+        BoundedTtlCache<String, IdempotencyRecord> partition = partition();
+        IdempotencyRecord pending = partition.get(key);
+        if (pending == null) {
+            return;
+        }
+        partition.replace(key, pending, IdempotencyRecord.builder()
+                .key(key)
+                .fingerprint(pending.getFingerprint())
+                .responseStatus(status)
+                .contentType(contentType)
+                .responseBody(body)
+                .expiresAt(pending.getExpiresAt())
+                .build());
+    }
+
+    @Override
+    public void release(String key) {
+        partition().remove(key);
+    }
+
+    @Override
+    public int purgeExpired() {
+        int purged = anonymous.purgeExpired();
+        synchronized (partitions) {
+            Iterator<BoundedTtlCache<String, IdempotencyRecord>> it = partitions.values().iterator();
+            while (it.hasNext()) {
+                BoundedTtlCache<String, IdempotencyRecord> partition = it.next();
+                purged += partition.purgeExpired();
+                if (partition.size() == 0) {
+                    it.remove();
+                }
+            }
+        }
+        return purged;
+    }
+
+    /**
+     * Partition of the calling organization, created (and the least recently used one evicted)
+     * if it has none.
+     */
+    private BoundedTtlCache<String, IdempotencyRecord> partition() {
+        Long organizationId = TenantPrincipal.currentOrganizationId();
+        if (organizationId == null) {
+            return anonymous;
+        }
+        synchronized (partitions) {
+            return partitions.computeIfAbsent(organizationId, id -> new BoundedTtlCache<>(maxEntriesPerTenant, ttl));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.entity.IdempotencyRecord;
+import com.leaveease.leaveease_api.repository.IdempotencyRecordRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(prefix = "app.idempotency", name = "store", havingValue = "database")
+public class JpaIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyRecordRepository repository;
+    private final Duration ttl;
+
+    public JpaIdempotencyStore(IdempotencyRecordRepository repository, AppProperties appProperties) {
+        this.repository = repository;
+        this.ttl = appProperties.getIdempotency().getTtl();
+    }
+
+    @Override
+    public IdempotencyRecord reserve(String key, String fingerprint) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                repository.saveAndFlush(IdempotencyRecord.builder()
+                        .key(key)
+                        .fingerprint(fingerprint)
+                        .expiresAt(Instant.now().plus(ttl))
+                        .build());
+                return null;
+            } catch (DataIntegrityViolationException e) {
+                Optional<IdempotencyRecord> existing = repository.findByKey(key);
+                if (existing.isPresent() && existing.get().getExpiresAt().isAfter(Instant.now())) {
+                    return existing.get();
+                }
+                repository.deleteByKey(key);
+            }
+        }
+        throw new IllegalStateException("Could not reserve idempotency key: " + key);
+    }
+
+    @Override
+    public void complete(String key, int status, String contentType, byte[] body) {
+        repository.findByKey(key).ifPresent(record -> {
+            record.setResponseStatus(status);
+            record.setContentType(contentType);
+            record.setResponseBody(body);
+            repository.save(record);
+        });
+    }
+
+    @Override
+    public void release(String key) {
+        repository.deleteByKey(key);
+    }
+
+    @Override
+    public int purgeExpired() {
+        return repository.deleteExpired(Instant.now());
+    }
+}
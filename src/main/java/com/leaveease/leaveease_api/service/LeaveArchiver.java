@@ -0,0 +1,113 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.entity.LeaveStatus;
+import com.leaveease.leaveease_api.repository.LeaveRequestRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves closed leave requests whose end date lies beyond the archive horizon from
+ * {@code leave_requests} to {@code leave_requests_archive}, one chunk per transaction.
+ */
+@Slf4j
+@Component
+public class LeaveArchiver {
+
+    static final String LOCK_NAME = "leave-archiver";
+
+    static final List<LeaveStatus> CLOSED_STATUSES = List.of(LeaveStatus.APPROVED, LeaveStatus.REJECTED, LeaveStatus.EXPIRED);
+
+    private static final String COLUMNS = "id, organization_id, user_id, leave_type, start_date, end_date, reason, status, "
+            + "approved_by_id, escalated_at, created_at, updated_at";
+
+    private static final String COPY_SQL = "INSERT INTO leave_requests_archive (" + COLUMNS + ", archived_at) "
+            + "SELECT " + COLUMNS + ", :archivedAt FROM leave_requests WHERE id IN (:ids)";
+
+    private static final String DELETE_SQL = "DELETE FROM leave_requests WHERE id IN (:ids)";
+
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final AppProperties.Archive config;
+    private final Counter archived;
+
+    public LeaveArchiver(LeaveRequestRepository leaveRequestRepository,
+                         NamedParameterJdbcTemplate jdbcTemplate,
+                         SchedulerLockService schedulerLockService,
+                         PlatformTransactionManager transactionManager,
+                         AppProperties appProperties,
+                         MeterRegistry meterRegistry) {
+        this.leaveRequestRepository = leaveRequestRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.schedulerLockService = schedulerLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.config = appProperties.getArchive();
+        this.archived = Counter.builder("leaveease.archive.moved")
+                .description("Leave requests moved to the archive table")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Requests that ended before this date may live in the archive rather than the hot table.
+     */
+    public LocalDate horizon() {
+        return LocalDate.now().minus(config.getAfter());
+    }
+
+    @Scheduled(cron = "${app.archive.cron:0 30 2 * * *}")
+    public void archive() {
+        if (!config.isEnabled() || !schedulerLockService.tryAcquire(LOCK_NAME, config.getLockTtl())) {
+            return;
+        }
+        try {
+            int moved = archiveUpTo(horizon());
+            if (moved > 0) {
+                log.info("Archived {} closed leave requests", moved);
+            }
+        } finally {
+            schedulerLockService.release(LOCK_NAME);
+        }
+    }
+
+    private int archiveUpTo(LocalDate endedBefore) {
+        int total = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = leaveRequestRepository.findArchivableIds(
+                    CLOSED_STATUSES, endedBefore, afterId, Limit.of(config.getChunkSize()));
+            if (ids.isEmpty()) {
+                return total;
+            }
+
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("ids", ids)
+                    .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(COPY_SQL, params);
+                jdbcTemplate.update(DELETE_SQL, params);
+            });
+
+            total += ids.size();
+            archived.increment(ids.size());
+            afterId = ids.get(ids.size() - 1);
+            if (ids.size() < config.getChunkSize()) {
+                return total;
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.entity.LeaveEventType;
+import com.leaveease.leaveease_api.entity.LeaveRequest;
+import com.leaveease.leaveease_api.entity.OutboxEvent;
+import com.leaveease.leaveease_api.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes leave lifecycle events to the transactional outbox. Must be called inside the
+ * transaction that changes the leave request so that the event commits or rolls back with it.
+ */
+@Service
+@RequiredArgsConstructor
+public class LeaveEventRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JsonMapper jsonMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(LeaveRequest leave, LeaveEventType type, String actorUsername) {
+        OutboxEvent event = outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(type)
+                .organizationId(leave.getOrganization().getId())
+                .leaveRequestId(leave.getId())
+                .actorUsername(actorUsername)
+                .subjectUsername(leave.getUser().getUsername())
+                .payload(payload(leave, type, actorUsername))
+                .occurredAt(LocalDateTime.now())
+                .build());
+
+        eventPublisher.publishEvent(new LeaveLifecycleEvent(event.getId(), type, leave, actorUsername));
+    }
+
+    private String payload(LeaveRequest leave, LeaveEventType type, String actorUsername) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("event", type.name());
+        payload.put("leaveRequestId", leave.getId());
+        payload.put("username", leave.getUser().getUsername());
+        payload.put("leaveType", leave.getLeaveType().name());
+        payload.put("startDate", leave.getStartDate().toString());
+        payload.put("endDate", leave.getEndDate().toString());
+        payload.put("status", leave.getStatus().name());
+        payload.put("actor", actorUsername);
+        return jsonMapper.writeValueAsString(payload);
+    }
+}
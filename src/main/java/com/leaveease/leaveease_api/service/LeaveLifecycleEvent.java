@@ -0,0 +1,11 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.entity.LeaveEventType;
+import com.leaveease.leaveease_api.entity.LeaveRequest;
+
+/**
+ * In-process notification published alongside every outbox row. Listeners that keep derived
+ * state should use {@code @TransactionalEventListener} so they only see committed changes.
+ */
+public record LeaveLifecycleEvent(long outboxEventId, LeaveEventType type, LeaveRequest leaveRequest, String actorUsername) {
+}
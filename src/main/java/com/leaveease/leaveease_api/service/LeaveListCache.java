@@ -0,0 +1,411 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.dto.LeaveRequestResponseDto;
+import com.leaveease.leaveease_api.entity.OutboxEvent;
+import com.leaveease.leaveease_api.exception.DatabaseUnavailableException;
+import com.leaveease.leaveease_api.repository.OutboxEventRepository;
+import com.leaveease.leaveease_api.util.BoundedTtlCache;
+import com.leaveease.leaveease_api.util.CircuitBreaker;
+import com.leaveease.leaveease_api.util.IdCursor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Stale-while-revalidate cache in front of the leave list reads, partitioned per organization.
+ * <ul>
+ *   <li>Younger than {@code fresh-for}: served as is.</li>
+ *   <li>Up to {@code stale-while-revalidate} older: served as is while one background refresh runs.</li>
+ *   <li>Older, or missing: loaded on the request thread; concurrent requests for the same list wait
+ *       for that one load. If it fails, or the circuit breaker is open, an entry up to
+ *       {@code stale-if-error} old is served instead.</li>
+ * </ul>
+ * Each organization's database calls go through its own circuit breaker, which also counts calls
+ * slower than {@code slow-call-threshold} as failures, so a struggling database is left alone while
+ * stale lists are served, and one organization's slow lists do not shut out the others. At most
+ * {@code max-entries / max-entries-per-tenant} organizations have a partition; another organization
+ * evicts the one read least recently.
+ * <p>
+ * Lifecycle events committed on this node drop the affected lists at once; changes made on other
+ * nodes are picked up by tailing {@code outbox_events} with an in-memory {@link IdCursor}, like
+ * {@link PendingInboxSynchronizer}. Users that {@link ReadYourWritesTracker} saw writing recently
+ * skip the cached copy and read (and refresh) the list from the database.
+ */
+@Slf4j
+@Service
+public class LeaveListCache {
+
+    public static final String REVALIDATING = "revalidating";
+    public static final String DATABASE_ERROR = "database-error";
+    public static final String CIRCUIT_OPEN = "circuit-open";
+
+    /**
+     * @param username owner of a personal list, or {@code null} for the organization-wide list
+     */
+    public record Key(long organizationId, String username, LocalDate from, LocalDate to) {
+    }
+
+    /**
+     * @param stale why a cached list older than {@code fresh-for} was served, or {@code null}
+     */
+    public record Result(List<LeaveRequestResponseDto> leaves, Duration age, String stale) {
+    }
+
+    private record Entry(List<LeaveRequestResponseDto> leaves, long loadedAt) {
+    }
+
+    private static final class Partition {
+        private final BoundedTtlCache<Key, Entry> entries;
+        private final CircuitBreaker breaker;
+        private final AtomicLong generation = new AtomicLong();
+
+        private Partition(int maxEntries, Duration ttl, CircuitBreaker breaker) {
+            this.entries = new BoundedTtlCache<>(maxEntries, ttl);
+            this.breaker = breaker;
+        }
+    }
+
+    private final LeaveService leaveService;
+    private final AppProperties.LeaveCache config;
+    private final Duration retention;
+    /**
+     * Organization partitions in access order; guarded by itself.
+     */
+    private final LinkedHashMap<Long, Partition> partitions;
+    private final ConcurrentMap<Key, CompletableFuture<List<LeaveRequestResponseDto>>> inFlight = new ConcurrentHashMap<>();
+    private final TransactionTemplate refreshTemplate;
+    private final ThreadPoolExecutor refreshPool;
+    private final Map<String, Counter> requests = new HashMap<>();
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxCursorService outboxCursorService;
+    private IdCursor cursor;
+
+    public LeaveListCache(LeaveService leaveService,
+                          PlatformTransactionManager transactionManager,
+                          ReadYourWritesTracker readYourWritesTracker,
+                          OutboxEventRepository outboxEventRepository,
+                          OutboxCursorService outboxCursorService,
+                          AppProperties appProperties,
+                          MeterRegistry meterRegistry) {
+        this.leaveService = leaveService;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxCursorService = outboxCursorService;
+        this.config = appProperties.getLeaveCache();
+        Duration ttl = config.getFreshFor().plus(config.getStaleWhileRevalidate());
+        this.retention = ttl.compareTo(config.getStaleIfError()) > 0 ? ttl : config.getStaleIfError();
+        int maxPartitions = Math.max(1, config.getMaxEntries() / config.getMaxEntriesPerTenant());
+        this.partitions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Partition> eldest) {
+                return size() > maxPartitions;
+            }
+        };
+        this.refreshTemplate = new TransactionTemplate(transactionManager);
+        this.refreshTemplate.setReadOnly(true);
+        this.refreshTemplate.setTimeout((int) Math.max(1, config.getRefreshTimeout().toSeconds()));
+        AtomicInteger threadCount = new AtomicInteger();
+        this.refreshPool = new ThreadPoolExecutor(config.getRefreshThreads(), config.getRefreshThreads(),
+                0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.getRefreshQueueCapacity()),
+                task -> {
+                    Thread thread = new Thread(task, "leave-cache-refresh-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        for (String result : List.of("fresh", REVALIDATING, "miss", "recent-writer", "bypass", DATABASE_ERROR, CIRCUIT_OPEN)) {
+            requests.put(result, Counter.builder("leaveease.leaves.cache.requests")
+                    .description("Leave list reads by cache result")
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("leaveease.leaves.cache.breakers.open", this, LeaveListCache::openBreakers)
+                .description("Organizations whose leave list circuit breaker is open or half open")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshPool.shutdownNow();
+    }
+
+    public Result myLeaves(long organizationId, String username, LocalDate from, LocalDate to) {
+        return read(new Key(organizationId, username, from, to), readYourWritesTracker.isWithinWindow(username),
+                () -> leaveService.getMyLeaves(username, from, to));
+    }
+
+    /**
+     * @param requester caller; a recent writer gets the list from the database
+     */
+    public Result allLeaves(long organizationId, String requester, LocalDate from, LocalDate to) {
+        return read(new Key(organizationId, null, from, to), readYourWritesTracker.isWithinWindow(requester),
+                () -> leaveService.getAllLeaves(organizationId, from, to));
+    }
+
+    public Result read(Key key, Supplier<List<LeaveRequestResponseDto>> loader) {
+        return read(key, false, loader);
+    }
+
+    /**
+     * @param recentWriter skip the cached copy, which may predate the caller's own write when it was
+     *                     committed on another node; the list is still stored for later readers
+     */
+    private Result read(Key key, boolean recentWriter, Supplier<List<LeaveRequestResponseDto>> loader) {
+        Partition partition = partition(key.organizationId());
+        if (!config.isEnabled()) {
+            count("bypass");
+            return new Result(guarded(partition.breaker, loader), Duration.ZERO, null);
+        }
+
+        Entry entry = partition.entries.get(key);
+        long age = entry != null ? System.currentTimeMillis() - entry.loadedAt() : Long.MAX_VALUE;
+        if (!recentWriter && age < config.getFreshFor().toMillis()) {
+            count("fresh");
+            return new Result(entry.leaves(), Duration.ofMillis(age), null);
+        }
+        if (!recentWriter && age < config.getFreshFor().plus(config.getStaleWhileRevalidate()).toMillis()) {
+            count(REVALIDATING);
+            refreshInBackground(partition, key, loader);
+            return new Result(entry.leaves(), Duration.ofMillis(age), REVALIDATING);
+        }
+
+        try {
+            List<LeaveRequestResponseDto> leaves = load(partition, key, loader);
+            count(recentWriter ? "recent-writer" : "miss");
+            return new Result(leaves, Duration.ZERO, null);
+        } catch (RuntimeException e) {
+            if (entry == null || !isDatabaseFailure(e)) {
+                throw e;
+            }
+            String reason = e instanceof DatabaseUnavailableException ? CIRCUIT_OPEN : DATABASE_ERROR;
+            count(reason);
+            return new Result(entry.leaves(), Duration.ofMillis(age), reason);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onLeaveEvent(LeaveLifecycleEvent event) {
+        invalidate(event.leaveRequest().getOrganization().getId(), event.leaveRequest().getUser().getUsername());
+    }
+
+    /**
+     * Drops the lists touched by events committed on any node, including this one, whose lists
+     * {@link #onLeaveEvent} already dropped.
+     */
+    @Scheduled(fixedDelayString = "${app.leave-cache.poll-interval:PT1S}")
+    public synchronized void catchUp() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        if (cursor == null || isStale(cursor.settledPosition())) {
+            restart();
+            return;
+        }
+        long now = System.currentTimeMillis();
+        cursor.expire(now);
+        for (int i = 0; i < config.getMaxBatchesPerRun(); i++) {
+            List<OutboxEvent> events = outboxCursorService.readAfter(cursor, config.getBatchSize());
+            if (events.isEmpty()) {
+                break;
+            }
+            for (OutboxEvent event : events) {
+                invalidate(event.getOrganizationId(), event.getSubjectUsername());
+            }
+            cursor.advance(events.stream().map(OutboxEvent::getId).toList(), now);
+            if (events.size() < config.getBatchSize()) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Starts tailing {@link IdCursor#MAX_GAPS} events back, so events below the head that had not
+     * committed yet are still seen. A cursor that fell behind the pruned outbox may have missed
+     * events, so every cached list is dropped.
+     */
+    private void restart() {
+        if (cursor != null) {
+            for (Partition partition : partitionsSnapshot()) {
+                synchronized (partition) {
+                    partition.generation.incrementAndGet();
+                    partition.entries.clear();
+                }
+            }
+        }
+        Long oldestEvent = outboxEventRepository.findMinId();
+        long start = Math.max(outboxEventRepository.findMaxId() - IdCursor.MAX_GAPS,
+                oldestEvent != null ? oldestEvent - 1 : 0);
+        cursor = new IdCursor(start, outboxCursorService.gapTimeoutMillis());
+    }
+
+    private boolean isStale(long position) {
+        Long oldestEvent = outboxEventRepository.findMinId();
+        return (oldestEvent != null && oldestEvent > position + 1) || outboxEventRepository.findMaxId() < position;
+    }
+
+    private void invalidate(long organizationId, String username) {
+        Partition partition;
+        synchronized (partitions) {
+            partition = partitions.get(organizationId);
+        }
+        if (partition == null) {
+            return;
+        }
+        synchronized (partition) {
+            partition.generation.incrementAndGet();
+            partition.entries.removeIf(key -> key.username() == null || key.username().equals(username));
+        }
+    }
+
+    /**
+     * Loads the list on the calling thread, or waits for the load already running for it.
+     */
+    private List<LeaveRequestResponseDto> load(Partition partition, Key key, Supplier<List<LeaveRequestResponseDto>> loader) {
+        CompletableFuture<List<LeaveRequestResponseDto>> mine = new CompletableFuture<>();
+        CompletableFuture<List<LeaveRequestResponseDto>> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            List<LeaveRequestResponseDto> leaves = store(partition, key, loader);
+            mine.complete(leaves);
+            return leaves;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private void refreshInBackground(Partition partition, Key key, Supplier<List<LeaveRequestResponseDto>> loader) {
+        CompletableFuture<List<LeaveRequestResponseDto>> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, mine) != null) {
+            return;
+        }
+        try {
+            refreshPool.execute(() -> {
+                try {
+                    mine.complete(refreshTemplate.execute(status -> store(partition, key, loader)));
+                } catch (RuntimeException e) {
+                    log.debug("Background refresh of {} failed: {}", key, e.toString());
+                    mine.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, mine);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            mine.completeExceptionally(e);
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private List<LeaveRequestResponseDto> store(Partition partition, Key key, Supplier<List<LeaveRequestResponseDto>> loader) {
+        long generation = partition.generation.get();
+        List<LeaveRequestResponseDto> leaves = List.copyOf(guarded(partition.breaker, loader));
+        if (leaves.size() <= config.getMaxListSize()) {
+            synchronized (partition) {
+                if (partition.generation.get() == generation) {
+                    partition.entries.put(key, new Entry(leaves, System.currentTimeMillis()));
+                }
+            }
+        }
+        return leaves;
+    }
+
+    /**
+     * Runs the loader through the breaker. The outcome is reported in {@code finally}, so a trial
+     * call ending in an {@link Error} still reopens a half-open breaker instead of leaving it stuck.
+     */
+    private List<LeaveRequestResponseDto> guarded(CircuitBreaker breaker, Supplier<List<LeaveRequestResponseDto>> loader) {
+        if (!breaker.tryAcquire()) {
+            throw new DatabaseUnavailableException("Leave lists are temporarily unavailable; try again shortly");
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            List<LeaveRequestResponseDto> leaves = loader.get();
+            failed = System.nanoTime() - start > config.getBreaker().getSlowCallThreshold().toNanos();
+            return leaves;
+        } catch (RuntimeException e) {
+            failed = isDatabaseFailure(e);
+            throw e;
+        } finally {
+            if (failed) {
+                breaker.onFailure();
+            } else {
+                breaker.onSuccess();
+            }
+        }
+    }
+
+    private static List<LeaveRequestResponseDto> await(CompletableFuture<List<LeaveRequestResponseDto>> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isDatabaseFailure(RuntimeException e) {
+        return e instanceof DataAccessException
+                || e instanceof TransactionException
+                || e instanceof DatabaseUnavailableException;
+    }
+
+    /**
+     * Partition of the organization, created (and the least recently read one evicted) if it has none.
+     */
+    private Partition partition(long organizationId) {
+        synchronized (partitions) {
+            return partitions.computeIfAbsent(organizationId, id -> new Partition(config.getMaxEntriesPerTenant(),
+                    retention, new CircuitBreaker(config.getBreaker().getFailureThreshold(),
+                    config.getBreaker().getOpenDuration())));
+        }
+    }
+
+    private List<Partition> partitionsSnapshot() {
+        synchronized (partitions) {
+            return List.copyOf(partitions.values());
+        }
+    }
+
+    private int openBreakers() {
+        int open = 0;
+        for (Partition partition : partitionsSnapshot()) {
+            if (partition.breaker.state() != CircuitBreaker.State.CLOSED) {
+                open++;
+            }
+        }
+        return open;
+    }
+
+    private void count(String result) {
+        requests.get(result).increment();
+    }
+}
@@ -0,0 +1,332 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.dto.LeaveRequestResponseDto;
+import com.leaveease.leaveease_api.dto.LeaveSearchCriteria;
+import com.leaveease.leaveease_api.dto.LeaveSearchResponseDto;
+import com.leaveease.leaveease_api.entity.LeaveStatus;
+import com.leaveease.leaveease_api.entity.LeaveType;
+import com.leaveease.leaveease_api.exception.InvalidLeaveRequestException;
+import com.leaveease.leaveease_api.util.IdCursor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsCollectorManager;
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.LabelAndValue;
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.*;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Embedded Lucene index over leave requests (hot and archived) for full-text search on reason and
+ * username, filters on type, status and date window, and facet counts by type and status. Documents
+ * carry every response field, so a search never touches the database. Kept current by
+ * {@link LeaveSearchIndexer}; its outbox cursor, position and gaps, is stored in the index commit data.
+ */
+@Slf4j
+@Component
+public class LeaveSearchIndex {
+
+    static final String LAST_EVENT_ID = "lastOutboxEventId";
+    static final String OUTBOX_GAPS = "outboxGaps";
+    static final String SCHEMA_VERSION = "schemaVersion";
+
+    /**
+     * Bumped whenever the document layout changes; an index written with another version is rebuilt.
+     */
+    private static final String CURRENT_SCHEMA = "2";
+
+    private static final String ID = "id";
+    private static final String ORGANIZATION = "organizationId";
+    private static final String USERNAME = "username";
+    private static final String USERNAME_TEXT = "usernameText";
+    private static final String LEAVE_TYPE = "leaveType";
+    private static final String START_DATE = "startDate";
+    private static final String END_DATE = "endDate";
+    private static final String REASON = "reason";
+    private static final String STATUS = "status";
+    private static final String APPROVED_BY = "approvedByUsername";
+    private static final String CREATED_AT = "createdAt";
+
+    private static final Sort NEWEST_FIRST = new Sort(new SortField(CREATED_AT, SortField.Type.LONG, true));
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final FacetsConfig facetsConfig = new FacetsConfig();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final int maxResultWindow;
+    private volatile FacetState facetState;
+
+    public LeaveSearchIndex(AppProperties appProperties) throws IOException {
+        String indexPath = appProperties.getSearch().getIndexPath();
+        this.directory = indexPath == null || indexPath.isBlank()
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Path.of(indexPath));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+        this.maxResultWindow = appProperties.getSearch().getMaxResultWindow();
+    }
+
+    /**
+     * Outbox cursor the index reflects, or empty if the index has never been built or was built
+     * with a different document layout.
+     */
+    public Optional<IdCursor> cursor(long gapTimeoutMillis) {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        String lastEventId = null;
+        String gaps = null;
+        String schema = null;
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                switch (entry.getKey()) {
+                    case LAST_EVENT_ID -> lastEventId = entry.getValue();
+                    case OUTBOX_GAPS -> gaps = entry.getValue();
+                    case SCHEMA_VERSION -> schema = entry.getValue();
+                    default -> {
+                    }
+                }
+            }
+        }
+        return lastEventId != null && CURRENT_SCHEMA.equals(schema)
+                ? Optional.of(IdCursor.decode(Long.parseLong(lastEventId), gaps, gapTimeoutMillis))
+                : Optional.empty();
+    }
+
+    public void upsert(long organizationId, LeaveRequestResponseDto leave) throws IOException {
+        writer.updateDocument(new Term(ID, leave.getId().toString()),
+                facetsConfig.build(toDocument(organizationId, leave)));
+    }
+
+    public void delete(long id) throws IOException {
+        writer.deleteDocuments(new Term(ID, Long.toString(id)));
+    }
+
+    public void deleteAll() throws IOException {
+        writer.deleteAll();
+    }
+
+    /**
+     * Makes everything written so far durable and visible to searches, recording the outbox cursor.
+     */
+    public void commit(IdCursor cursor) throws IOException {
+        Map<String, String> commitData = new HashMap<>();
+        commitData.put(LAST_EVENT_ID, Long.toString(cursor.position()));
+        commitData.put(SCHEMA_VERSION, CURRENT_SCHEMA);
+        if (cursor.hasGaps()) {
+            commitData.put(OUTBOX_GAPS, cursor.encodeGaps());
+        }
+        writer.setLiveCommitData(commitData.entrySet());
+        writer.commit();
+        searcherManager.maybeRefresh();
+    }
+
+    public LeaveSearchResponseDto search(LeaveSearchCriteria criteria, int page, int size) {
+        if ((long) (page + 1) * size > maxResultWindow) {
+            throw new InvalidLeaveRequestException(
+                    "Result window too deep: page * size must not exceed " + maxResultWindow);
+        }
+        Query query = toQuery(criteria);
+        boolean byRelevance = criteria.getQuery() != null && !criteria.getQuery().isBlank();
+        int topN = (page + 1) * size;
+
+        IndexSearcher searcher = acquire();
+        try {
+            FacetsCollectorManager.FacetsResult result = byRelevance
+                    ? FacetsCollectorManager.search(searcher, query, topN, new FacetsCollectorManager())
+                    : FacetsCollectorManager.search(searcher, query, topN, NEWEST_FIRST, new FacetsCollectorManager());
+
+            ScoreDoc[] hits = result.topDocs().scoreDocs;
+            StoredFields storedFields = searcher.storedFields();
+            List<LeaveRequestResponseDto> content = new ArrayList<>(size);
+            for (int i = page * size; i < hits.length; i++) {
+                content.add(fromDocument(storedFields.document(hits[i].doc)));
+            }
+
+            long total = 0;
+            for (FacetsCollector.MatchingDocs matching : result.facetsCollector().getMatchingDocs()) {
+                total += matching.totalHits();
+            }
+
+            return LeaveSearchResponseDto.builder()
+                    .content(content)
+                    .page(page)
+                    .size(size)
+                    .totalElements(total)
+                    .totalPages((int) ((total + size - 1) / size))
+                    .facets(facets(searcher.getIndexReader(), result.facetsCollector()))
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private Query toQuery(LeaveSearchCriteria criteria) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        if (criteria.getQuery() != null && !criteria.getQuery().isBlank()) {
+            SimpleQueryParser parser = new SimpleQueryParser(analyzer, Map.of(REASON, 1f, USERNAME_TEXT, 2f));
+            parser.setDefaultOperator(BooleanClause.Occur.MUST);
+            builder.add(parser.parse(criteria.getQuery()), BooleanClause.Occur.MUST);
+        } else {
+            builder.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+        }
+        builder.add(new TermQuery(new Term(ORGANIZATION, Long.toString(criteria.getOrganizationId()))),
+                BooleanClause.Occur.FILTER);
+        if (criteria.getUsername() != null) {
+            builder.add(new TermQuery(new Term(USERNAME, criteria.getUsername())), BooleanClause.Occur.FILTER);
+        }
+        if (criteria.getLeaveType() != null) {
+            builder.add(new TermQuery(new Term(LEAVE_TYPE, criteria.getLeaveType().name())), BooleanClause.Occur.FILTER);
+        }
+        if (criteria.getStatus() != null) {
+            builder.add(new TermQuery(new Term(STATUS, criteria.getStatus().name())), BooleanClause.Occur.FILTER);
+        }
+        if (criteria.getTo() != null) {
+            builder.add(LongPoint.newRangeQuery(START_DATE, Long.MIN_VALUE, criteria.getTo().toEpochDay()),
+                    BooleanClause.Occur.FILTER);
+        }
+        if (criteria.getFrom() != null) {
+            builder.add(LongPoint.newRangeQuery(END_DATE, criteria.getFrom().toEpochDay(), Long.MAX_VALUE),
+                    BooleanClause.Occur.FILTER);
+        }
+        return builder.build();
+    }
+
+    private Map<String, Map<String, Long>> facets(IndexReader reader, FacetsCollector collector) throws IOException {
+        Map<String, Long> byType = new LinkedHashMap<>();
+        for (LeaveType type : LeaveType.values()) {
+            byType.put(type.name(), 0L);
+        }
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (LeaveStatus status : LeaveStatus.values()) {
+            byStatus.put(status.name(), 0L);
+        }
+
+        SortedSetDocValuesReaderState state = facetState(reader);
+        if (state != null) {
+            SortedSetDocValuesFacetCounts counts = new SortedSetDocValuesFacetCounts(state, collector);
+            fill(byType, counts.getAllChildren(LEAVE_TYPE));
+            fill(byStatus, counts.getAllChildren(STATUS));
+        }
+        return Map.of(LEAVE_TYPE, byType, STATUS, byStatus);
+    }
+
+    private void fill(Map<String, Long> target, FacetResult result) {
+        if (result == null) {
+            return;
+        }
+        for (LabelAndValue labelAndValue : result.labelValues) {
+            target.put(labelAndValue.label, labelAndValue.value.longValue());
+        }
+    }
+
+    /**
+     * The ordinal map behind sorted-set facets is costly to build, so it is reused until the reader changes.
+     */
+    private SortedSetDocValuesReaderState facetState(IndexReader reader) throws IOException {
+        FacetState current = facetState;
+        if (current != null && current.reader() == reader) {
+            return current.state();
+        }
+        SortedSetDocValuesReaderState state = reader.numDocs() == 0
+                ? null
+                : new DefaultSortedSetDocValuesReaderState(reader, facetsConfig);
+        facetState = new FacetState(reader, state);
+        return state;
+    }
+
+    private IndexSearcher acquire() {
+        try {
+            return searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("Could not release search index reader", e);
+        }
+    }
+
+    private Document toDocument(long organizationId, LeaveRequestResponseDto leave) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, leave.getId().toString(), Field.Store.YES));
+        doc.add(new StringField(ORGANIZATION, Long.toString(organizationId), Field.Store.NO));
+        doc.add(new StringField(USERNAME, leave.getUsername(), Field.Store.YES));
+        doc.add(new TextField(USERNAME_TEXT, leave.getUsername(), Field.Store.NO));
+        doc.add(new StringField(LEAVE_TYPE, leave.getLeaveType().name(), Field.Store.YES));
+        doc.add(new SortedSetDocValuesFacetField(LEAVE_TYPE, leave.getLeaveType().name()));
+        doc.add(new StringField(STATUS, leave.getStatus().name(), Field.Store.YES));
+        doc.add(new SortedSetDocValuesFacetField(STATUS, leave.getStatus().name()));
+        doc.add(new LongPoint(START_DATE, leave.getStartDate().toEpochDay()));
+        doc.add(new StoredField(START_DATE, leave.getStartDate().toEpochDay()));
+        doc.add(new LongPoint(END_DATE, leave.getEndDate().toEpochDay()));
+        doc.add(new StoredField(END_DATE, leave.getEndDate().toEpochDay()));
+        if (leave.getReason() != null) {
+            doc.add(new TextField(REASON, leave.getReason(), Field.Store.YES));
+        }
+        if (leave.getApprovedByUsername() != null) {
+            doc.add(new StoredField(APPROVED_BY, leave.getApprovedByUsername()));
+        }
+        if (leave.getCreatedAt() != null) {
+            long createdAt = leave.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+            doc.add(new NumericDocValuesField(CREATED_AT, createdAt));
+            doc.add(new StoredField(CREATED_AT, createdAt));
+        }
+        return doc;
+    }
+
+    private LeaveRequestResponseDto fromDocument(Document doc) {
+        IndexableField createdAt = doc.getField(CREATED_AT);
+        return LeaveRequestResponseDto.builder()
+                .id(Long.parseLong(doc.get(ID)))
+                .username(doc.get(USERNAME))
+                .leaveType(LeaveType.valueOf(doc.get(LEAVE_TYPE)))
+                .startDate(LocalDate.ofEpochDay(doc.getField(START_DATE).numericValue().longValue()))
+                .endDate(LocalDate.ofEpochDay(doc.getField(END_DATE).numericValue().longValue()))
+                .reason(doc.get(REASON))
+                .status(LeaveStatus.valueOf(doc.get(STATUS)))
+                .approvedByUsername(doc.get(APPROVED_BY))
+                .createdAt(createdAt == null ? null : LocalDateTime.ofInstant(
+                        Instant.ofEpochMilli(createdAt.numericValue().longValue()), ZoneOffset.UTC))
+                .build();
+    }
+
+    private record FacetState(IndexReader reader, SortedSetDocValuesReaderState state) {
+    }
+}
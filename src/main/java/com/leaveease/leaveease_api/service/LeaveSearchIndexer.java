@@ -0,0 +1,193 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.dto.LeaveRequestResponseDto;
+import com.leaveease.leaveease_api.entity.LeaveStatus;
+import com.leaveease.leaveease_api.entity.LeaveType;
+import com.leaveease.leaveease_api.entity.OutboxEvent;
+import com.leaveease.leaveease_api.repository.OutboxEventRepository;
+import com.leaveease.leaveease_api.util.IdCursor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps {@link LeaveSearchIndex} in step with the database. Every node owns its index, so instead of a
+ * shared outbox cursor each node tails {@code outbox_events} with an {@link IdCursor} stored in its own
+ * index, so events that commit out of id order survive a restart too, and re-reads the touched rows.
+ * A fresh index, or one that no longer lines up with the outbox, is rebuilt from the hot and archive
+ * tables.
+ */
+@Slf4j
+@Component
+public class LeaveSearchIndexer {
+
+    private static final String SELECT = """
+            SELECT lr.id, lr.organization_id, u.username, lr.leave_type, lr.start_date, lr.end_date, lr.reason, lr.status,
+                   a.username AS approved_by, lr.created_at
+            FROM %s lr
+            JOIN users u ON u.id = lr.user_id
+            LEFT JOIN users a ON a.id = lr.approved_by_id
+            """;
+
+    private static final List<String> TABLES = List.of("leave_requests", "leave_requests_archive");
+
+    private static final RowMapper<IndexedLeave> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new IndexedLeave(rs.getLong("organization_id"), LeaveRequestResponseDto.builder()
+                .id(rs.getLong("id"))
+                .username(rs.getString("username"))
+                .leaveType(LeaveType.valueOf(rs.getString("leave_type")))
+                .startDate(rs.getDate("start_date").toLocalDate())
+                .endDate(rs.getDate("end_date").toLocalDate())
+                .reason(rs.getString("reason"))
+                .status(LeaveStatus.valueOf(rs.getString("status")))
+                .approvedByUsername(rs.getString("approved_by"))
+                .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                .build());
+    };
+
+    private final LeaveSearchIndex index;
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxCursorService outboxCursorService;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final AppProperties.Search config;
+    private final AtomicLong lag = new AtomicLong();
+    private final Counter applied;
+
+    public LeaveSearchIndexer(LeaveSearchIndex index,
+                              OutboxEventRepository outboxEventRepository,
+                              OutboxCursorService outboxCursorService,
+                              NamedParameterJdbcTemplate jdbcTemplate,
+                              AppProperties appProperties,
+                              MeterRegistry meterRegistry) {
+        this.index = index;
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxCursorService = outboxCursorService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = appProperties.getSearch();
+        this.applied = Counter.builder("leaveease.search.index.applied")
+                .description("Outbox events applied to the search index")
+                .register(meterRegistry);
+        Gauge.builder("leaveease.search.index.lag", lag, AtomicLong::get)
+                .description("Outbox events not yet applied to the search index")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.poll-interval:PT1S}")
+    public synchronized void catchUp() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            Optional<IdCursor> stored = index.cursor(outboxCursorService.gapTimeoutMillis());
+            if (stored.isEmpty() || isStale(stored.get().settledPosition())) {
+                rebuild();
+                return;
+            }
+
+            IdCursor cursor = stored.get();
+            long now = System.currentTimeMillis();
+            boolean changed = cursor.expire(now);
+            for (int i = 0; i < config.getMaxBatchesPerRun(); i++) {
+                List<OutboxEvent> events = outboxCursorService.readAfter(cursor, config.getBatchSize());
+                if (events.isEmpty()) {
+                    break;
+                }
+                cursor.advance(events.stream().map(OutboxEvent::getId).toList(), now);
+                apply(events, cursor);
+                changed = false;
+                if (events.size() < config.getBatchSize()) {
+                    break;
+                }
+            }
+            if (changed) {
+                index.commit(cursor);
+            }
+            lag.set(Math.max(outboxEventRepository.findMaxId() - cursor.position(), 0));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Replaces the index contents with every hot and archived leave request. The outbox position is
+     * read first and moved back by {@link IdCursor#MAX_GAPS} events, so changes racing with the scan,
+     * and events below that position that had not committed yet, are applied by the next catch-up.
+     */
+    public synchronized void rebuild() throws IOException {
+        long startedAt = System.nanoTime();
+        Long oldestEvent = outboxEventRepository.findMinId();
+        long position = Math.max(outboxEventRepository.findMaxId() - IdCursor.MAX_GAPS,
+                oldestEvent != null ? oldestEvent - 1 : 0);
+        index.deleteAll();
+        int[] indexed = {0};
+        for (String table : TABLES) {
+            jdbcTemplate.getJdbcTemplate().query(SELECT.formatted(table), rs -> {
+                try {
+                    IndexedLeave row = ROW_MAPPER.mapRow(rs, indexed[0]++);
+                    index.upsert(row.organizationId(), row.leave());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        index.commit(new IdCursor(position, outboxCursorService.gapTimeoutMillis()));
+        log.info("Rebuilt search index with {} leave requests in {} ms",
+                indexed[0], (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * True when events the index has not seen were already pruned, or when the outbox was reset
+     * (e.g. a restored database) and now ends before the index position.
+     */
+    private boolean isStale(long position) {
+        Long oldestEvent = outboxEventRepository.findMinId();
+        return (oldestEvent != null && oldestEvent > position + 1) || outboxEventRepository.findMaxId() < position;
+    }
+
+    private void apply(List<OutboxEvent> events, IdCursor cursor) throws IOException {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (OutboxEvent event : events) {
+            ids.add(event.getLeaveRequestId());
+        }
+
+        Map<Long, IndexedLeave> rows = new HashMap<>();
+        for (String table : TABLES) {
+            Set<Long> missing = new LinkedHashSet<>(ids);
+            missing.removeAll(rows.keySet());
+            if (missing.isEmpty()) {
+                break;
+            }
+            jdbcTemplate.query(SELECT.formatted(table) + " WHERE lr.id IN (:ids)",
+                            new MapSqlParameterSource("ids", missing), ROW_MAPPER)
+                    .forEach(row -> rows.put(row.leave().getId(), row));
+        }
+
+        for (Long id : ids) {
+            IndexedLeave row = rows.get(id);
+            if (row != null) {
+                index.upsert(row.organizationId(), row.leave());
+            } else {
+                index.delete(id);
+            }
+        }
+        index.commit(cursor);
+        applied.increment(events.size());
+    }
+
+    private record IndexedLeave(long organizationId, LeaveRequestResponseDto leave) {
+    }
+}
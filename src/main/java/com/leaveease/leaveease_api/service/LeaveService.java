@@ -1,27 +1,58 @@
 package com.leaveease.leaveease_api.service;
 
+import com.leaveease.leaveease_api.dto.LeaveField;
 import com.leaveease.leaveease_api.dto.LeaveRequestCreateDto;
 import com.leaveease.leaveease_api.dto.LeaveRequestResponseDto;
+import com.leaveease.leaveease_api.dto.LeaveSearchCriteria;
+import com.leaveease.leaveease_api.dto.LeaveSearchResponseDto;
+import com.leaveease.leaveease_api.dto.PagedResponse;
+import com.leaveease.leaveease_api.dto.PendingInboxSummary;
+import com.leaveease.leaveease_api.entity.ArchivedLeaveRequest;
+import com.leaveease.leaveease_api.entity.LeaveEventType;
 import com.leaveease.leaveease_api.entity.LeaveRequest;
 import com.leaveease.leaveease_api.entity.LeaveStatus;
 import com.leaveease.leaveease_api.entity.User;
 import com.leaveease.leaveease_api.exception.InvalidLeaveRequestException;
 import com.leaveease.leaveease_api.exception.LeaveOverlapException;
+import com.leaveease.leaveease_api.exception.NotAnApproverException;
 import com.leaveease.leaveease_api.exception.ResourceNotFoundException;
+import com.leaveease.leaveease_api.repository.ArchivedLeaveRequestRepository;
+import com.leaveease.leaveease_api.repository.LeaveProjectionQueries;
 import com.leaveease.leaveease_api.repository.LeaveRequestRepository;
 import com.leaveease.leaveease_api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class LeaveService {
 
+    private static final LocalDate EARLIEST_DATE = LocalDate.EPOCH;
+    private static final LocalDate LATEST_DATE = LocalDate.of(9999, 12, 31);
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_QUEUE_PAGE_SIZE = 200;
+
     private final LeaveRequestRepository leaveRequestRepository;
     private final UserRepository userRepository;
+    private final LeaveEventRecorder leaveEventRecorder;
+    private final ArchivedLeaveRequestRepository archivedLeaveRequestRepository;
+    private final LeaveArchiver leaveArchiver;
+    private final LeaveProjectionQueries leaveProjectionQueries;
+    private final LeaveSearchIndex leaveSearchIndex;
+    private final HierarchyService hierarchyService;
+    private final PendingInbox pendingInbox;
 
     @Transactional
     public LeaveRequestResponseDto createLeave(LeaveRequestCreateDto dto, String currentUsername) {
@@ -44,6 +75,7 @@ public class LeaveService {
         }
 
         LeaveRequest leave = LeaveRequest.builder()
+                .organization(user.getOrganization())
                 .user(user)
                 .leaveType(dto.getLeaveType())
                 .startDate(dto.getStartDate())
@@ -52,48 +84,279 @@ public class LeaveService {
                 .build();
 
         LeaveRequest saved = leaveRequestRepository.save(leave);
+        leaveEventRecorder.record(saved, LeaveEventType.CREATED, currentUsername);
         return toResponseDto(saved);
     }
 
+    /**
+     * Creates several leave ranges of the current user atomically: either all are created or none.
+     * The ranges are checked against each other by sorting them by start date, and against existing
+     * pending or approved leaves with one query over the span they cover.
+     */
+    @Transactional
+    public List<LeaveRequestResponseDto> createLeaves(List<LeaveRequestCreateDto> dtos, String currentUsername) {
+        User user = userRepository.findByUsername(currentUsername)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + currentUsername));
+
+        for (int i = 0; i < dtos.size(); i++) {
+            if (!dtos.get(i).getStartDate().isBefore(dtos.get(i).getEndDate())) {
+                throw new InvalidLeaveRequestException("Range " + (i + 1) + ": start date must be before end date");
+            }
+        }
+
+        List<Integer> byStart = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            byStart.add(i);
+        }
+        byStart.sort(Comparator.comparing(i -> dtos.get(i).getStartDate()));
+        for (int k = 1; k < byStart.size(); k++) {
+            LeaveRequestCreateDto previous = dtos.get(byStart.get(k - 1));
+            if (!dtos.get(byStart.get(k)).getStartDate().isAfter(previous.getEndDate())) {
+                throw new LeaveOverlapException("Ranges " + (byStart.get(k - 1) + 1) + " and "
+                        + (byStart.get(k) + 1) + " overlap each other");
+            }
+        }
+
+        LocalDate spanStart = dtos.get(byStart.getFirst()).getStartDate();
+        LocalDate spanEnd = dtos.stream().map(LeaveRequestCreateDto::getEndDate).max(Comparator.naturalOrder()).orElseThrow();
+        List<LeaveRequest> existing = leaveRequestRepository.findOverlapping(
+                user.getId(), spanStart, spanEnd, List.of(LeaveStatus.PENDING, LeaveStatus.APPROVED));
+        int next = 0;
+        for (int index : byStart) {
+            LeaveRequestCreateDto dto = dtos.get(index);
+            while (next < existing.size() && existing.get(next).getEndDate().isBefore(dto.getStartDate())) {
+                next++;
+            }
+            for (int j = next; j < existing.size() && !existing.get(j).getStartDate().isAfter(dto.getEndDate()); j++) {
+                if (!existing.get(j).getEndDate().isBefore(dto.getStartDate())) {
+                    throw new LeaveOverlapException("Range " + (index + 1)
+                            + " overlaps an approved or pending leave from " + existing.get(j).getStartDate()
+                            + " to " + existing.get(j).getEndDate());
+                }
+            }
+        }
+
+        List<LeaveRequest> leaves = dtos.stream()
+                .map(dto -> LeaveRequest.builder()
+                        .organization(user.getOrganization())
+                        .user(user)
+                        .leaveType(dto.getLeaveType())
+                        .startDate(dto.getStartDate())
+                        .endDate(dto.getEndDate())
+                        .reason(dto.getReason())
+                        .build())
+                .toList();
+        List<LeaveRequest> saved = leaveRequestRepository.saveAll(leaves);
+        saved.forEach(leave -> leaveEventRecorder.record(leave, LeaveEventType.CREATED, currentUsername));
+        return saved.stream().map(this::toResponseDto).toList();
+    }
+
     @Transactional(readOnly = true)
     public List<LeaveRequestResponseDto> getMyLeaves(String currentUsername) {
+        return getMyLeaves(currentUsername, null, null);
+    }
+
+    /**
+     * Leaves of the current user overlapping {@code [from, to]} (both optional), newest first.
+     * The archive table is only queried when the range reaches back past the archive horizon.
+     */
+    @Transactional(readOnly = true)
+    public List<LeaveRequestResponseDto> getMyLeaves(String currentUsername, LocalDate from, LocalDate to) {
         User user = userRepository.findByUsername(currentUsername)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found: " + currentUsername));
 
-        return leaveRequestRepository.findByUserIdOrderByCreatedAtDesc(user.getId())
-                .stream()
-                .map(this::toResponseDto)
-                .toList();
+        if (from == null && to == null) {
+            return merge(
+                    leaveRequestRepository.findByUserIdOrderByCreatedAtDesc(user.getId()),
+                    archivedLeaveRequestRepository.findByUserIdOrderByCreatedAtDesc(user.getId()),
+                    true);
+        }
+
+        LocalDate start = from != null ? from : EARLIEST_DATE;
+        LocalDate end = to != null ? to : LATEST_DATE;
+        return merge(
+                leaveRequestRepository.findByUserIdInRange(user.getId(), start, end),
+                needsArchive(start)
+                        ? archivedLeaveRequestRepository.findByUserIdInRange(user.getId(), start, end)
+                        : List.of(),
+                true);
     }
 
     @Transactional(readOnly = true)
-    public List<LeaveRequestResponseDto> getAllLeaves() {
-        return leaveRequestRepository.findAll()
-                .stream()
-                .map(this::toResponseDto)
-                .toList();
+    public List<LeaveRequestResponseDto> getAllLeaves(long organizationId) {
+        return getAllLeaves(organizationId, null, null);
+    }
+
+    /**
+     * Leaves of every user in the organization overlapping {@code [from, to]} (both optional).
+     */
+    @Transactional(readOnly = true)
+    public List<LeaveRequestResponseDto> getAllLeaves(long organizationId, LocalDate from, LocalDate to) {
+        if (from == null && to == null) {
+            return merge(
+                    leaveRequestRepository.findByOrganizationId(organizationId),
+                    archivedLeaveRequestRepository.findByOrganizationId(organizationId),
+                    false);
+        }
+
+        LocalDate start = from != null ? from : EARLIEST_DATE;
+        LocalDate end = to != null ? to : LATEST_DATE;
+        return merge(
+                leaveRequestRepository.findInRange(organizationId, start, end),
+                needsArchive(start)
+                        ? archivedLeaveRequestRepository.findInRange(organizationId, start, end)
+                        : List.of(),
+                false);
+    }
+
+    /**
+     * Same rows as {@link #getMyLeaves(String, LocalDate, LocalDate)}, but only the requested columns are read.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getMyLeaves(String currentUsername, LocalDate from, LocalDate to,
+                                                 Set<LeaveField> fields) {
+        User user = userRepository.findByUsername(currentUsername)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + currentUsername));
+        return sparse(user.getOrganization().getId(), user.getId(), from, to, fields, true);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllLeaves(long organizationId, LocalDate from, LocalDate to,
+                                                  Set<LeaveField> fields) {
+        return sparse(organizationId, null, from, to, fields, false);
+    }
+
+    /**
+     * Served from the search index (hot and archived requests), so it may trail writes by one poll interval.
+     */
+    public LeaveSearchResponseDto search(LeaveSearchCriteria criteria, int page, int size) {
+        return leaveSearchIndex.search(criteria, Math.max(page, 0), Math.min(Math.max(size, 1), MAX_SEARCH_PAGE_SIZE));
+    }
+
+    /**
+     * Pending requests of everyone who reports to the manager, directly or indirectly, oldest first.
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<LeaveRequestResponseDto> getPendingQueue(String managerUsername, int page, int size) {
+        User manager = userRepository.findByUsername(managerUsername)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + managerUsername));
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_QUEUE_PAGE_SIZE));
+        return PagedResponse.of(leaveRequestRepository.findPendingInSubtree(manager.getId(), pageRequest),
+                this::toResponseDto);
+    }
+
+    /**
+     * Every pending request in the organization, oldest first, served from memory. Changes made on
+     * other nodes show up within one inbox poll interval.
+     */
+    public PagedResponse<LeaveRequestResponseDto> getInbox(long organizationId, int page, int size) {
+        return pendingInbox.page(organizationId, Math.max(page, 0), Math.min(Math.max(size, 1), MAX_QUEUE_PAGE_SIZE));
+    }
+
+    public PendingInboxSummary getInboxSummary(long organizationId) {
+        return pendingInbox.summary(organizationId);
     }
 
     @Transactional
     public LeaveRequestResponseDto updateStatus(Long id, LeaveStatus newStatus, String adminUsername) {
-        LeaveRequest leave = leaveRequestRepository.findById(id)
+        User admin = userRepository.findByUsername(adminUsername)
+                .orElseThrow(() -> new ResourceNotFoundException("Admin user not found: " + adminUsername));
+
+        LeaveRequest leave = leaveRequestRepository.findByIdAndOrganizationId(id, admin.getOrganization().getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Leave request not found with id: " + id));
 
+        if (!hierarchyService.mayApprove(admin, leave.getUser())) {
+            throw new NotAnApproverException(
+                    adminUsername + " is not in the reporting line of " + leave.getUser().getUsername());
+        }
+
         if (leave.getStatus() != LeaveStatus.PENDING) {
             throw new InvalidLeaveRequestException(
                     "Only PENDING leave requests can be updated. Current status: " + leave.getStatus());
         }
 
-        User admin = userRepository.findByUsername(adminUsername)
-                .orElseThrow(() -> new ResourceNotFoundException("Admin user not found: " + adminUsername));
-
         leave.setStatus(newStatus);
         leave.setApprovedBy(admin);
 
         LeaveRequest saved = leaveRequestRepository.save(leave);
+        leaveEventRecorder.record(saved,
+                newStatus == LeaveStatus.APPROVED ? LeaveEventType.APPROVED : LeaveEventType.REJECTED,
+                adminUsername);
         return toResponseDto(saved);
     }
 
+    private boolean needsArchive(LocalDate from) {
+        return from.isBefore(leaveArchiver.horizon());
+    }
+
+    private List<Map<String, Object>> sparse(long organizationId, Long userId, LocalDate from, LocalDate to,
+                                             Set<LeaveField> fields, boolean newestFirst) {
+        boolean withArchive = needsArchive(from != null ? from : EARLIEST_DATE);
+        boolean sortAfterMerge = withArchive && newestFirst && !fields.contains(LeaveField.CREATED_AT);
+
+        Set<LeaveField> selected = fields;
+        if (sortAfterMerge) {
+            selected = EnumSet.copyOf(fields);
+            selected.add(LeaveField.CREATED_AT);
+        }
+
+        List<Map<String, Object>> rows = leaveProjectionQueries.find(
+                LeaveRequest.class, selected, organizationId, userId, from, to, newestFirst);
+        if (!withArchive) {
+            return rows;
+        }
+        List<Map<String, Object>> archived = leaveProjectionQueries.find(
+                ArchivedLeaveRequest.class, selected, organizationId, userId, from, to, newestFirst);
+        if (archived.isEmpty()) {
+            return sortAfterMerge ? stripCreatedAt(rows) : rows;
+        }
+
+        List<Map<String, Object>> all = new ArrayList<>(rows.size() + archived.size());
+        all.addAll(rows);
+        all.addAll(archived);
+        if (newestFirst) {
+            all.sort(Comparator.comparing(
+                    (Map<String, Object> row) -> (LocalDateTime) row.get(LeaveField.CREATED_AT.jsonName()),
+                    Comparator.nullsLast(Comparator.reverseOrder())));
+        }
+        return sortAfterMerge ? stripCreatedAt(all) : all;
+    }
+
+    private List<Map<String, Object>> stripCreatedAt(List<Map<String, Object>> rows) {
+        rows.forEach(row -> row.remove(LeaveField.CREATED_AT.jsonName()));
+        return rows;
+    }
+
+    private List<LeaveRequestResponseDto> merge(List<LeaveRequest> hot,
+                                                List<ArchivedLeaveRequest> archived,
+                                                boolean newestFirst) {
+        if (archived.isEmpty()) {
+            return hot.stream().map(this::toResponseDto).toList();
+        }
+        Stream<LeaveRequestResponseDto> all = Stream.concat(
+                hot.stream().map(this::toResponseDto),
+                archived.stream().map(this::toResponseDto));
+        if (newestFirst) {
+            all = all.sorted(Comparator.comparing(LeaveRequestResponseDto::getCreatedAt,
+                    Comparator.nullsLast(Comparator.reverseOrder())));
+        }
+        return all.toList();
+    }
+
+    private LeaveRequestResponseDto toResponseDto(ArchivedLeaveRequest lr) {
+        return LeaveRequestResponseDto.builder()
+                .id(lr.getId())
+                .username(lr.getUser().getUsername())
+                .leaveType(lr.getLeaveType())
+                .startDate(lr.getStartDate())
+                .endDate(lr.getEndDate())
+                .reason(lr.getReason())
+                .status(lr.getStatus())
+                .approvedByUsername(lr.getApprovedBy() != null ? lr.getApprovedBy().getUsername() : null)
+                .createdAt(lr.getCreatedAt())
+                .build();
+    }
+
     private LeaveRequestResponseDto toResponseDto(LeaveRequest lr) {
         return LeaveRequestResponseDto.builder()
                 .id(lr.getId())
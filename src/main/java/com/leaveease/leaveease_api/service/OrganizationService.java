@@ -0,0 +1,57 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.entity.Organization;
+import com.leaveease.leaveease_api.entity.Role;
+import com.leaveease.leaveease_api.entity.User;
+import com.leaveease.leaveease_api.exception.OrganizationExistsException;
+import com.leaveease.leaveease_api.repository.OrganizationRepository;
+import com.leaveease.leaveease_api.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Self-registration. A registration always opens a new organization and makes the registrant its
+ * first admin; existing organizations are never joined this way, their admins provision further
+ * accounts. Concurrent registrations of the same slug race on its unique constraint.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrganizationService {
+
+    private final OrganizationRepository organizationRepository;
+    private final UserRepository userRepository;
+    private final HierarchyService hierarchyService;
+
+    /**
+     * Creates organization {@code slug} with {@code admin} as its admin, in one transaction, so a
+     * rejected account leaves no organization behind.
+     */
+    @Transactional
+    public User registerOrganization(String slug, User admin) {
+        if (organizationRepository.findBySlug(slug).isPresent()) {
+            throw organizationExists(slug);
+        }
+        Organization organization;
+        try {
+            organization = organizationRepository.saveAndFlush(Organization.builder()
+                    .slug(slug)
+                    .name(slug)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            throw organizationExists(slug);
+        }
+
+        admin.setOrganization(organization);
+        admin.setRole(Role.ADMIN);
+        userRepository.saveAndFlush(admin);
+        hierarchyService.addUser(admin.getId());
+        return admin;
+    }
+
+    private static OrganizationExistsException organizationExists(String slug) {
+        return new OrganizationExistsException(
+                "Organization " + slug + " already exists; ask one of its admins to add your account");
+    }
+}
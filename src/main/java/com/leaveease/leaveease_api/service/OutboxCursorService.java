@@ -0,0 +1,181 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.entity.OutboxCursor;
+import com.leaveease.leaveease_api.entity.OutboxEvent;
+import com.leaveease.leaveease_api.repository.OutboxCursorRepository;
+import com.leaveease.leaveease_api.repository.OutboxEventRepository;
+import com.leaveease.leaveease_api.util.IdCursor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Hands outbox events to a named consumer in id order, one bounded batch per transaction. The
+ * consumer's cursor row is locked for the duration of the batch, so only one node processes a
+ * given consumer at a time and the cursor only advances if the handler succeeds.
+ * <p>
+ * Event ids are assigned at insert but become visible at commit, so the cursor is an
+ * {@link IdCursor}: ids it steps over are polled again until they appear or
+ * {@code app.outbox.gap-timeout} passes. An event filling such a gap is handed over after events
+ * with higher ids.
+ */
+@Slf4j
+@Service
+public class OutboxCursorService {
+
+    private final OutboxCursorRepository cursorRepository;
+    private final OutboxEventRepository eventRepository;
+    private final AppProperties appProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public OutboxCursorService(OutboxCursorRepository cursorRepository,
+                               OutboxEventRepository eventRepository,
+                               AppProperties appProperties,
+                               PlatformTransactionManager transactionManager) {
+        this.cursorRepository = cursorRepository;
+        this.eventRepository = eventRepository;
+        this.appProperties = appProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional
+    public int consumeBatch(String consumer, int batchSize, Consumer<List<OutboxEvent>> handler) {
+        OutboxCursor cursor = cursorRepository.findForUpdate(consumer)
+                .orElseThrow(() -> new IllegalStateException("Outbox cursor not initialised: " + consumer));
+
+        long now = System.currentTimeMillis();
+        IdCursor position = IdCursor.decode(cursor.getLastEventId(), cursor.getGaps(), gapTimeoutMillis());
+        boolean expired = position.expire(now);
+        List<OutboxEvent> batch = readAfter(position, batchSize);
+        if (batch.isEmpty()) {
+            if (expired) {
+                cursor.setGaps(position.encodeGaps());
+            }
+            return 0;
+        }
+
+        handler.accept(batch);
+
+        position.advance(batch.stream().map(OutboxEvent::getId).toList(), now);
+        cursor.setLastEventId(position.position());
+        cursor.setGaps(position.encodeGaps());
+        cursor.setUpdatedAt(LocalDateTime.now());
+        return batch.size();
+    }
+
+    /**
+     * Like {@link #consumeBatch}, for handlers that call out to other systems: the handler runs
+     * outside any transaction, so a slow sink holds neither a connection nor the cursor lock. The
+     * cursor only moves if no other node moved it while the handler ran; otherwise that node
+     * delivered the same events too, which sinks already have to tolerate.
+     */
+    public int deliverBatch(String consumer, int batchSize, Consumer<List<OutboxEvent>> handler) {
+        long now = System.currentTimeMillis();
+        Snapshot snapshot = transactionTemplate.execute(tx -> {
+            OutboxCursor cursor = cursorRepository.findById(consumer)
+                    .orElseThrow(() -> new IllegalStateException("Outbox cursor not initialised: " + consumer));
+            IdCursor position = IdCursor.decode(cursor.getLastEventId(), cursor.getGaps(), gapTimeoutMillis());
+            boolean expired = position.expire(now);
+            return new Snapshot(cursor.getVersion(), position, expired, readAfter(position, batchSize));
+        });
+        if (snapshot.batch().isEmpty() && !snapshot.expired()) {
+            return 0;
+        }
+
+        if (!snapshot.batch().isEmpty()) {
+            handler.accept(snapshot.batch());
+        }
+
+        IdCursor position = snapshot.position();
+        position.advance(snapshot.batch().stream().map(OutboxEvent::getId).toList(), now);
+        transactionTemplate.executeWithoutResult(tx -> {
+            OutboxCursor cursor = cursorRepository.findForUpdate(consumer).orElseThrow();
+            if (!Objects.equals(cursor.getVersion(), snapshot.version())) {
+                log.debug("Outbox cursor {} moved during delivery; keeping the other node's position", consumer);
+                return;
+            }
+            cursor.setLastEventId(position.position());
+            cursor.setGaps(position.encodeGaps());
+            cursor.setUpdatedAt(LocalDateTime.now());
+        });
+        return snapshot.batch().size();
+    }
+
+    /**
+     * Reads the events {@code cursor} has not seen yet: those filling its gaps, then up to
+     * {@code batchSize} after its position, in id order. The caller advances the cursor.
+     */
+    public List<OutboxEvent> readAfter(IdCursor cursor, int batchSize) {
+        List<OutboxEvent> after = eventRepository.findByIdGreaterThanOrderByIdAsc(
+                cursor.position(), Limit.of(batchSize));
+        if (!cursor.hasGaps()) {
+            return after;
+        }
+        List<OutboxEvent> late = eventRepository.findByIdInOrderByIdAsc(cursor.gaps());
+        if (late.isEmpty()) {
+            return after;
+        }
+        List<OutboxEvent> batch = new ArrayList<>(late.size() + after.size());
+        batch.addAll(late);
+        batch.addAll(after);
+        return batch;
+    }
+
+    public long gapTimeoutMillis() {
+        return appProperties.getOutbox().getGapTimeout().toMillis();
+    }
+
+    private record Snapshot(Long version, IdCursor position, boolean expired, List<OutboxEvent> batch) {
+    }
+
+    @Transactional(readOnly = true)
+    public long lag(String consumer) {
+        long position = cursorRepository.findById(consumer).map(OutboxCursor::getLastEventId).orElse(0L);
+        return Math.max(0, eventRepository.findMaxId() - position);
+    }
+
+    public void ensureCursor(String consumer) {
+        if (cursorRepository.existsById(consumer)) {
+            return;
+        }
+        try {
+            cursorRepository.saveAndFlush(OutboxCursor.builder()
+                    .consumer(consumer)
+                    .lastEventId(0)
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // another node created it first
+        }
+    }
+
+    /**
+     * Deletes events that every consumer with a cursor has moved past and that are older than
+     * {@code olderThan}. Consumers running only on other nodes count too, so the cursor row of a
+     * consumer that is retired for good has to be deleted for pruning to continue.
+     */
+    @Transactional
+    public int pruneConsumed(LocalDateTime olderThan) {
+        List<OutboxCursor> cursors = cursorRepository.findAll();
+        if (cursors.isEmpty()) {
+            return 0;
+        }
+        long safePosition = cursors.stream()
+                .mapToLong(cursor -> IdCursor.decode(cursor.getLastEventId(), cursor.getGaps(), gapTimeoutMillis())
+                        .settledPosition())
+                .min()
+                .orElse(0L);
+        return eventRepository.deleteConsumed(safePosition, olderThan);
+    }
+}
@@ -0,0 +1,118 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes outbox events to every configured {@link EventSink}. Each sink has its own outbox cursor,
+ * so a failing webhook only delays itself; failed batches are retried with exponential backoff.
+ * Sinks are called outside any transaction (see {@link OutboxCursorService#deliverBatch}).
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxCursorService cursorService;
+    private final AppProperties.Outbox config;
+    private final List<SinkState> sinks;
+
+    public OutboxRelay(List<EventSink> eventSinks,
+                       OutboxCursorService cursorService,
+                       AppProperties appProperties,
+                       MeterRegistry meterRegistry) {
+        this.cursorService = cursorService;
+        this.config = appProperties.getOutbox();
+        this.sinks = eventSinks.stream().map(sink -> new SinkState(sink, meterRegistry)).toList();
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT1S}")
+    public void relay() {
+        for (SinkState state : sinks) {
+            relay(state);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.prune-interval:PT10M}")
+    public void prune() {
+        int pruned = cursorService.pruneConsumed(LocalDateTime.now().minus(config.getRetention()));
+        if (pruned > 0) {
+            log.debug("Pruned {} delivered outbox events", pruned);
+        }
+    }
+
+    private void relay(SinkState state) {
+        if (state.nextAttemptAt - System.nanoTime() > 0) {
+            return;
+        }
+        if (!state.cursorReady) {
+            cursorService.ensureCursor(state.consumer);
+            state.cursorReady = true;
+        }
+
+        try {
+            for (int i = 0; i < config.getMaxBatchesPerRun(); i++) {
+                int published = cursorService.deliverBatch(state.consumer, config.getBatchSize(), state.sink::publish);
+                state.published.increment(published);
+                if (published < config.getBatchSize()) {
+                    break;
+                }
+            }
+            state.consecutiveFailures = 0;
+        } catch (RuntimeException e) {
+            state.failures.increment();
+            Duration backoff = backoff(++state.consecutiveFailures);
+            state.nextAttemptAt = System.nanoTime() + backoff.toNanos();
+            log.warn("Outbox delivery to '{}' failed (attempt {}), retrying in {} ms: {}",
+                    state.sink.name(), state.consecutiveFailures, backoff.toMillis(), e.getMessage());
+        }
+
+        state.lag.set(cursorService.lag(state.consumer));
+    }
+
+    private Duration backoff(int failures) {
+        long initial = config.getRetry().getInitialBackoff().toMillis();
+        long max = config.getRetry().getMaxBackoff().toMillis();
+        long exponential = initial << Math.min(failures - 1, 20);
+        long capped = Math.min(max, exponential);
+        return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+    }
+
+    private static final class SinkState {
+        private final EventSink sink;
+        private final String consumer;
+        private final Counter published;
+        private final Counter failures;
+        private final AtomicLong lag = new AtomicLong();
+        private volatile boolean cursorReady;
+        private int consecutiveFailures;
+        private long nextAttemptAt = System.nanoTime();
+
+        private SinkState(EventSink sink, MeterRegistry meterRegistry) {
+            this.sink = sink;
+            this.consumer = "relay:" + sink.name();
+            this.published = Counter.builder("leaveease.outbox.published")
+                    .tag("sink", sink.name())
+                    .description("Outbox events delivered to the sink")
+                    .register(meterRegistry);
+            this.failures = Counter.builder("leaveease.outbox.failures")
+                    .tag("sink", sink.name())
+                    .description("Failed outbox batch deliveries")
+                    .register(meterRegistry);
+            Gauge.builder("leaveease.outbox.lag", lag, AtomicLong::get)
+                    .tag("sink", sink.name())
+                    .description("Outbox events not yet delivered to the sink")
+                    .register(meterRegistry);
+        }
+    }
+}
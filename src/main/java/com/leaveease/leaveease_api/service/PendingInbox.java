@@ -0,0 +1,131 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.dto.LeaveRequestResponseDto;
+import com.leaveease.leaveease_api.dto.PagedResponse;
+import com.leaveease.leaveease_api.dto.PendingInboxSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-organization, oldest-first index of pending leave requests held in memory, so admin inbox pages
+ * and counts are answered without a query. Kept current by {@link PendingInboxSynchronizer}; writers
+ * and the synchronizer may race on the same request, which is why every change goes through
+ * {@link ConcurrentHashMap#compute} on the request id.
+ */
+@Component
+public class PendingInbox {
+
+    private volatile Map<Long, TenantQueue> tenants = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public PendingInbox(MeterRegistry meterRegistry) {
+        Gauge.builder("leaveease.pending.inbox.size", this, PendingInbox::size)
+                .description("Pending leave requests held in the in-memory inbox")
+                .register(meterRegistry);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public void put(long organizationId, LeaveRequestResponseDto leave) {
+        tenants.computeIfAbsent(organizationId, id -> new TenantQueue()).put(leave);
+    }
+
+    public void remove(long organizationId, long id) {
+        TenantQueue queue = tenants.get(organizationId);
+        if (queue != null) {
+            queue.remove(id);
+        }
+    }
+
+    /**
+     * Swaps in a freshly loaded snapshot. Changes applied to the previous snapshot while it was being
+     * loaded are lost here and replayed by the synchronizer from its outbox position.
+     */
+    public void replaceAll(Map<Long, List<LeaveRequestResponseDto>> pendingByOrganization) {
+        Map<Long, TenantQueue> fresh = new ConcurrentHashMap<>();
+        pendingByOrganization.forEach((organizationId, leaves) -> {
+            TenantQueue queue = new TenantQueue();
+            leaves.forEach(queue::put);
+            fresh.put(organizationId, queue);
+        });
+        tenants = fresh;
+        loaded = true;
+    }
+
+    public PagedResponse<LeaveRequestResponseDto> page(long organizationId, int page, int size) {
+        TenantQueue queue = tenants.get(organizationId);
+        if (queue == null) {
+            return new PagedResponse<>(List.of(), page, size, 0, 0);
+        }
+        int total = queue.count.get();
+        List<LeaveRequestResponseDto> content = queue.entries.values().stream()
+                .skip((long) page * size)
+                .limit(size)
+                .toList();
+        return new PagedResponse<>(content, page, size, total, (total + size - 1) / size);
+    }
+
+    public PendingInboxSummary summary(long organizationId) {
+        TenantQueue queue = tenants.get(organizationId);
+        if (queue == null) {
+            return new PendingInboxSummary(0, null);
+        }
+        Map.Entry<Key, LeaveRequestResponseDto> oldest = queue.entries.firstEntry();
+        return new PendingInboxSummary(queue.count.get(), oldest != null ? oldest.getKey().createdAt() : null);
+    }
+
+    private double size() {
+        return tenants.values().stream().mapToInt(queue -> queue.count.get()).sum();
+    }
+
+    private record Key(LocalDateTime createdAt, long id) implements Comparable<Key> {
+
+        private static final Comparator<Key> ORDER = Comparator
+                .comparing(Key::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparingLong(Key::id);
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private static final class TenantQueue {
+
+        private final ConcurrentSkipListMap<Key, LeaveRequestResponseDto> entries = new ConcurrentSkipListMap<>();
+        private final ConcurrentHashMap<Long, Key> keys = new ConcurrentHashMap<>();
+        private final AtomicInteger count = new AtomicInteger();
+
+        void put(LeaveRequestResponseDto leave) {
+            Key key = new Key(leave.getCreatedAt(), leave.getId());
+            keys.compute(leave.getId(), (id, previous) -> {
+                if (previous == null) {
+                    count.incrementAndGet();
+                } else if (!previous.equals(key)) {
+                    entries.remove(previous);
+                }
+                entries.put(key, leave);
+                return key;
+            });
+        }
+
+        void remove(long id) {
+            keys.computeIfPresent(id, (ignored, key) -> {
+                entries.remove(key);
+                count.decrementAndGet();
+                return null;
+            });
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.dto.LeaveRequestResponseDto;
+import com.leaveease.leaveease_api.entity.LeaveRequest;
+import com.leaveease.leaveease_api.entity.LeaveStatus;
+import com.leaveease.leaveease_api.entity.LeaveType;
+import com.leaveease.leaveease_api.entity.OutboxEvent;
+import com.leaveease.leaveease_api.repository.OutboxEventRepository;
+import com.leaveease.leaveease_api.util.IdCursor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.util.*;
+
+/**
+ * Keeps {@link PendingInbox} in step with the database. Changes made on this node are applied as soon
+ * as their transaction commits; changes made on other nodes (and by the SLA sweeper) are picked up by
+ * tailing {@code outbox_events} with an in-memory {@link IdCursor}, the same way
+ * {@link LeaveSearchIndexer} does. Both paths re-read the touched rows under the same lock, so an
+ * entry always reflects the latest row read and a late local update cannot bring back a request
+ * another node already decided. The inbox is loaded once the application is ready and reloaded
+ * whenever the outbox no longer lines up with the cursor.
+ */
+@Slf4j
+@Component
+public class PendingInboxSynchronizer {
+
+    private static final String SELECT = """
+            SELECT lr.id, lr.organization_id, u.username, lr.leave_type, lr.start_date, lr.end_date, lr.reason,
+                   lr.status, lr.created_at
+            FROM leave_requests lr
+            JOIN users u ON u.id = lr.user_id
+            """;
+
+    private static final RowMapper<PendingRow> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new PendingRow(rs.getLong("organization_id"), LeaveRequestResponseDto.builder()
+                .id(rs.getLong("id"))
+                .username(rs.getString("username"))
+                .leaveType(LeaveType.valueOf(rs.getString("leave_type")))
+                .startDate(rs.getDate("start_date").toLocalDate())
+                .endDate(rs.getDate("end_date").toLocalDate())
+                .reason(rs.getString("reason"))
+                .status(LeaveStatus.valueOf(rs.getString("status")))
+                .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                .build());
+    };
+
+    private final PendingInbox inbox;
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxCursorService outboxCursorService;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final AppProperties.PendingInbox config;
+    private final Counter reloads;
+    private final Counter applied;
+    private IdCursor cursor;
+
+    public PendingInboxSynchronizer(PendingInbox inbox,
+                                    OutboxEventRepository outboxEventRepository,
+                                    OutboxCursorService outboxCursorService,
+                                    NamedParameterJdbcTemplate jdbcTemplate,
+                                    AppProperties appProperties,
+                                    MeterRegistry meterRegistry) {
+        this.inbox = inbox;
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxCursorService = outboxCursorService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = appProperties.getPendingInbox();
+        this.reloads = Counter.builder("leaveease.pending.inbox.reloads")
+                .description("Full reloads of the pending inbox from the database")
+                .register(meterRegistry);
+        this.applied = Counter.builder("leaveease.pending.inbox.applied")
+                .description("Outbox events applied to the pending inbox")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    /**
+     * Applies a change made on this node once it commits, from the row as it is now rather than the
+     * committed entity, which another node may already have moved on from.
+     */
+    @TransactionalEventListener
+    public synchronized void onLeaveEvent(LeaveLifecycleEvent event) {
+        if (!inbox.isLoaded()) {
+            return;
+        }
+        LeaveRequest leave = event.leaveRequest();
+        refresh(Map.of(leave.getId(), leave.getOrganization().getId()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.pending-inbox.poll-interval:PT1S}")
+    public synchronized void catchUp() {
+        if (cursor == null || isStale(cursor.settledPosition())) {
+            reload();
+            return;
+        }
+        long now = System.currentTimeMillis();
+        cursor.expire(now);
+        for (int i = 0; i < config.getMaxBatchesPerRun(); i++) {
+            List<OutboxEvent> events = outboxCursorService.readAfter(cursor, config.getBatchSize());
+            if (events.isEmpty()) {
+                break;
+            }
+            apply(events);
+            cursor.advance(events.stream().map(OutboxEvent::getId).toList(), now);
+            if (events.size() < config.getBatchSize()) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Loads every pending request. The outbox position is read first and moved back by
+     * {@link IdCursor#MAX_GAPS} events, so changes racing with the scan, and events below that position
+     * that had not committed yet, are re-applied by the next catch-up.
+     */
+    public synchronized void reload() {
+        long startedAt = System.nanoTime();
+        Long oldestEvent = outboxEventRepository.findMinId();
+        long start = Math.max(outboxEventRepository.findMaxId() - IdCursor.MAX_GAPS,
+                oldestEvent != null ? oldestEvent - 1 : 0);
+        Map<Long, List<LeaveRequestResponseDto>> pending = new HashMap<>();
+        jdbcTemplate.query(SELECT + " WHERE lr.status = :status",
+                        new MapSqlParameterSource("status", LeaveStatus.PENDING.name()), ROW_MAPPER)
+                .forEach(row -> pending.computeIfAbsent(row.organizationId(), id -> new ArrayList<>()).add(row.leave()));
+        inbox.replaceAll(pending);
+        cursor = new IdCursor(start, outboxCursorService.gapTimeoutMillis());
+        reloads.increment();
+        log.info("Loaded {} pending leave requests into the inbox in {} ms",
+                pending.values().stream().mapToInt(List::size).sum(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private boolean isStale(long position) {
+        Long oldestEvent = outboxEventRepository.findMinId();
+        return (oldestEvent != null && oldestEvent > position + 1) || outboxEventRepository.findMaxId() < position;
+    }
+
+    private void apply(List<OutboxEvent> events) {
+        Map<Long, Long> organizationById = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            organizationById.put(event.getLeaveRequestId(), event.getOrganizationId());
+        }
+        refresh(organizationById);
+        applied.increment(events.size());
+    }
+
+    private void refresh(Map<Long, Long> organizationById) {
+        Map<Long, PendingRow> rows = new HashMap<>();
+        jdbcTemplate.query(SELECT + " WHERE lr.id IN (:ids)",
+                        new MapSqlParameterSource("ids", organizationById.keySet()), ROW_MAPPER)
+                .forEach(row -> rows.put(row.leave().getId(), row));
+
+        organizationById.forEach((id, organizationId) -> {
+            PendingRow row = rows.get(id);
+            if (row != null && row.leave().getStatus() == LeaveStatus.PENDING) {
+                inbox.put(row.organizationId(), row.leave());
+            } else {
+                inbox.remove(organizationId, id);
+            }
+        });
+    }
+
+    private record PendingRow(long organizationId, LeaveRequestResponseDto leave) {
+    }
+}
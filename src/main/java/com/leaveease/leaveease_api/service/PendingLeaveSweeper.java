@@ -0,0 +1,128 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.entity.LeaveEventType;
+import com.leaveease.leaveease_api.entity.LeaveRequest;
+import com.leaveease.leaveease_api.entity.LeaveStatus;
+import com.leaveease.leaveease_api.repository.LeaveRequestRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Expires or escalates PENDING requests that have outlived their SLA. Candidates are walked in id
+ * order in small keyset-paginated chunks; each chunk is row-locked, updated and committed in its
+ * own short transaction, so approvals running at the same time only ever wait for one chunk.
+ */
+@Slf4j
+@Component
+public class PendingLeaveSweeper {
+
+    static final String LOCK_NAME = "pending-leave-sweeper";
+    static final String SYSTEM_ACTOR = "system";
+
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final LeaveEventRecorder leaveEventRecorder;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final AppProperties.PendingSla config;
+    private final Counter expired;
+    private final Counter escalated;
+    private final Timer sweepTimer;
+
+    public PendingLeaveSweeper(LeaveRequestRepository leaveRequestRepository,
+                               LeaveEventRecorder leaveEventRecorder,
+                               SchedulerLockService schedulerLockService,
+                               PlatformTransactionManager transactionManager,
+                               AppProperties appProperties,
+                               MeterRegistry meterRegistry) {
+        this.leaveRequestRepository = leaveRequestRepository;
+        this.leaveEventRecorder = leaveEventRecorder;
+        this.schedulerLockService = schedulerLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.config = appProperties.getPendingSla();
+        this.expired = Counter.builder("leaveease.pending.expired")
+                .description("PENDING leave requests expired by the SLA sweeper")
+                .register(meterRegistry);
+        this.escalated = Counter.builder("leaveease.pending.escalated")
+                .description("PENDING leave requests escalated by the SLA sweeper")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("leaveease.pending.sweep")
+                .description("Duration of a full SLA sweep")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.pending-sla.interval:PT15M}",
+               initialDelayString = "${app.pending-sla.initial-delay:PT1M}")
+    public void sweep() {
+        if (!config.isEnabled() || !schedulerLockService.tryAcquire(LOCK_NAME, config.getLockTtl())) {
+            return;
+        }
+        try {
+            sweepTimer.record(this::sweepAll);
+        } finally {
+            schedulerLockService.release(LOCK_NAME);
+        }
+    }
+
+    private void sweepAll() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime escalateBefore = now.minus(config.getEscalateAfter());
+        LocalDateTime expireBefore = now.minus(config.getExpireAfter());
+        LocalDate today = now.toLocalDate();
+
+        long afterId = 0;
+        int chunks = 0;
+        while (true) {
+            long cursor = afterId;
+            Long lastId = transactionTemplate.execute(status ->
+                    processChunk(cursor, escalateBefore, expireBefore, today, now));
+            if (lastId == null) {
+                break;
+            }
+            afterId = lastId;
+            chunks++;
+        }
+        if (chunks > 0) {
+            log.info("Pending SLA sweep processed {} chunk(s)", chunks);
+        }
+    }
+
+    private Long processChunk(long afterId,
+                              LocalDateTime escalateBefore,
+                              LocalDateTime expireBefore,
+                              LocalDate today,
+                              LocalDateTime now) {
+        LocalDate startedBefore = config.isExpireWhenStarted() ? today : LocalDate.EPOCH;
+        List<LeaveRequest> chunk = leaveRequestRepository.lockStalePendingChunk(
+                afterId, escalateBefore, expireBefore, startedBefore, Limit.of(config.getChunkSize()));
+        if (chunk.isEmpty()) {
+            return null;
+        }
+
+        for (LeaveRequest leave : chunk) {
+            boolean started = config.isExpireWhenStarted() && leave.getStartDate().isBefore(today);
+            if (started || leave.getCreatedAt().isBefore(expireBefore)) {
+                leave.setStatus(LeaveStatus.EXPIRED);
+                leaveEventRecorder.record(leave, LeaveEventType.EXPIRED, SYSTEM_ACTOR);
+                expired.increment();
+            } else if (leave.getEscalatedAt() == null && leave.getCreatedAt().isBefore(escalateBefore)) {
+                leave.setEscalatedAt(now);
+                leaveEventRecorder.record(leave, LeaveEventType.ESCALATED, SYSTEM_ACTOR);
+                escalated.increment();
+            }
+        }
+
+        return chunk.size() < config.getChunkSize() ? null : chunk.get(chunk.size() - 1).getId();
+    }
+}
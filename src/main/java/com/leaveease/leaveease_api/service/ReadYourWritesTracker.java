@@ -0,0 +1,37 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.util.BoundedTtlCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Remembers users who changed leave data in the last few seconds so that their reads go to the
+ * primary instead of a replica that may not have caught up yet. The window is per node; behind a
+ * load balancer without sticky sessions it only covers requests that land on the same instance.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final BoundedTtlCache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(AppProperties appProperties) {
+        Duration window = appProperties.getReadReplicas().getReadYourWritesWindow();
+        this.recentWriters = window.isZero() ? null : new BoundedTtlCache<>(100_000, window);
+    }
+
+    @TransactionalEventListener
+    public void onLeaveEvent(LeaveLifecycleEvent event) {
+        if (recentWriters == null) {
+            return;
+        }
+        recentWriters.put(event.actorUsername(), Boolean.TRUE);
+        recentWriters.put(event.leaveRequest().getUser().getUsername(), Boolean.TRUE);
+    }
+
+    public boolean isWithinWindow(String username) {
+        return recentWriters != null && recentWriters.get(username) != null;
+    }
+}
@@ -0,0 +1,174 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.dto.ReportType;
+import com.leaveease.leaveease_api.entity.LeaveStatus;
+import com.leaveease.leaveease_api.entity.LeaveType;
+import com.leaveease.leaveease_api.util.CsvWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes report CSVs straight from a forward-only result set, so neither the rows nor the file are
+ * ever held in memory. Queries run in a read-only transaction and therefore go to a read replica
+ * when one is configured.
+ */
+@Component
+public class ReportGenerator {
+
+    private static final String LEAVE_COLUMNS = """
+            SELECT l.id, u.username, l.leave_type, l.start_date, l.end_date, l.status,
+                   a.username AS approved_by, l.reason, l.created_at, l.updated_at, %s AS archived
+            FROM %s l
+            JOIN users u ON u.id = l.user_id
+            LEFT JOIN users a ON a.id = l.approved_by_id
+            WHERE l.organization_id = ? AND l.start_date <= ? AND l.end_date >= ?
+            """;
+
+    private static final String APPROVED_COLUMNS = """
+            SELECT u.username, l.leave_type, l.start_date, l.end_date
+            FROM %s l
+            JOIN users u ON u.id = l.user_id
+            WHERE l.organization_id = ? AND l.start_date <= ? AND l.end_date >= ? AND l.status = '%s'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AppProperties.Reports config;
+
+    public ReportGenerator(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           AppProperties appProperties) {
+        this.config = appProperties.getReports();
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(config.getFetchSize());
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * @return the number of data rows written, excluding the header
+     */
+    public long generate(long organizationId, ReportType type, LocalDate from, LocalDate to,
+                         boolean includeArchived, WritableByteChannel target) throws IOException {
+        CsvWriter writer = new CsvWriter(target, config.getChunkSize());
+        long[] rows = new long[1];
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (type == ReportType.LEAVE_REQUESTS) {
+                    writeLeaveRequests(writer, rows, organizationId, from, to, includeArchived);
+                } else {
+                    writeLeaveDays(writer, rows, organizationId, from, to, includeArchived);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        return rows[0];
+    }
+
+    private void writeLeaveRequests(CsvWriter writer, long[] rows, long organizationId,
+                                    LocalDate from, LocalDate to, boolean includeArchived) {
+        write(writer, "id", "username", "leave_type", "start_date", "end_date", "status",
+                "approved_by", "reason", "created_at", "updated_at", "archived");
+        String sql = LEAVE_COLUMNS.formatted("FALSE", "leave_requests");
+        if (includeArchived) {
+            sql += "UNION ALL\n" + LEAVE_COLUMNS.formatted("TRUE", "leave_requests_archive");
+        }
+        jdbcTemplate.query(sql + "ORDER BY 4, 1", rs -> {
+            write(writer, rs.getLong(1), rs.getString(2), rs.getString(3), rs.getDate(4), rs.getDate(5),
+                    rs.getString(6), rs.getString(7), rs.getString(8), rs.getTimestamp(9), rs.getTimestamp(10),
+                    rs.getBoolean(11));
+            rows[0]++;
+        }, parameters(organizationId, from, to, includeArchived));
+    }
+
+    /**
+     * Sums approved calendar days inside [from, to]. Rows arrive ordered by username, so only the
+     * totals of the employee currently being read are kept.
+     */
+    private void writeLeaveDays(CsvWriter writer, long[] rows, long organizationId,
+                                LocalDate from, LocalDate to, boolean includeArchived) {
+        List<Object> header = new ArrayList<>(List.of("username"));
+        for (LeaveType leaveType : LeaveType.values()) {
+            header.add(leaveType.name().toLowerCase(Locale.ROOT) + "_days");
+        }
+        header.add("total_days");
+        write(writer, header.toArray());
+
+        String sql = APPROVED_COLUMNS.formatted("leave_requests", LeaveStatus.APPROVED.name());
+        if (includeArchived) {
+            sql += "UNION ALL\n" + APPROVED_COLUMNS.formatted("leave_requests_archive", LeaveStatus.APPROVED.name());
+        }
+        Map<LeaveType, Long> days = new EnumMap<>(LeaveType.class);
+        String[] current = new String[1];
+        jdbcTemplate.query(sql + "ORDER BY 1", rs -> {
+            String username = rs.getString(1);
+            if (current[0] != null && !current[0].equals(username)) {
+                writeTotals(writer, current[0], days);
+                days.clear();
+                rows[0]++;
+            }
+            current[0] = username;
+            days.merge(LeaveType.valueOf(rs.getString(2)), daysWithin(rs, from, to), Long::sum);
+        }, parameters(organizationId, from, to, includeArchived));
+        if (current[0] != null) {
+            writeTotals(writer, current[0], days);
+            rows[0]++;
+        }
+    }
+
+    private static long daysWithin(ResultSet rs, LocalDate from, LocalDate to) throws SQLException {
+        LocalDate start = rs.getDate(3).toLocalDate();
+        LocalDate end = rs.getDate(4).toLocalDate();
+        LocalDate clippedStart = start.isBefore(from) ? from : start;
+        LocalDate clippedEnd = end.isAfter(to) ? to : end;
+        return ChronoUnit.DAYS.between(clippedStart, clippedEnd) + 1;
+    }
+
+    private static void writeTotals(CsvWriter writer, String username, Map<LeaveType, Long> days) {
+        Object[] fields = new Object[LeaveType.values().length + 2];
+        fields[0] = username;
+        long total = 0;
+        for (LeaveType leaveType : LeaveType.values()) {
+            long value = days.getOrDefault(leaveType, 0L);
+            fields[leaveType.ordinal() + 1] = value;
+            total += value;
+        }
+        fields[fields.length - 1] = total;
+        write(writer, fields);
+    }
+
+    private static Object[] parameters(long organizationId, LocalDate from, LocalDate to, boolean includeArchived) {
+        Object[] range = {organizationId, Date.valueOf(to), Date.valueOf(from)};
+        if (!includeArchived) {
+            return range;
+        }
+        return new Object[]{range[0], range[1], range[2], range[0], range[1], range[2]};
+    }
+
+    private static void write(CsvWriter writer, Object... fields) {
+        try {
+            writer.writeRow(fields);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
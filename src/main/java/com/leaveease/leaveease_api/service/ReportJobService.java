@@ -0,0 +1,392 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.dto.ReportJobRequest;
+import com.leaveease.leaveease_api.dto.ReportJobResponse;
+import com.leaveease.leaveease_api.dto.ReportJobStatus;
+import com.leaveease.leaveease_api.dto.ReportType;
+import com.leaveease.leaveease_api.entity.ReportJob;
+import com.leaveease.leaveease_api.exception.InvalidReportRequestException;
+import com.leaveease.leaveease_api.exception.ReportNotReadyException;
+import com.leaveease.leaveease_api.exception.ReportQueueFullException;
+import com.leaveease.leaveease_api.exception.ResourceNotFoundException;
+import com.leaveease.leaveease_api.repository.OrganizationRepository;
+import com.leaveease.leaveease_api.repository.ReportJobRepository;
+import com.leaveease.leaveease_api.util.CsvWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs report jobs on a small bounded worker pool, off the request threads. Each job streams its
+ * result into a file under {@code app.reports.directory}; the file is written as {@code <id>.part}
+ * and renamed when complete, so a download never sees a partial report. Jobs are stored in
+ * {@code report_jobs}, so with the directory on shared storage any node answers status and download
+ * calls; only the run itself stays on the node that accepted the job. That node renews a lease on
+ * its queued and running jobs every {@code app.reports.heartbeat-interval}; a job whose lease is
+ * older than {@code app.reports.lease-timeout}, because its node went away, is marked failed by
+ * whichever node sweeps first. Jobs and files are dropped {@code app.reports.result-ttl} after
+ * they finish.
+ * <p>
+ * CSV uploads to {@code POST /api/users/bulk} run as {@link ReportType#USER_PROVISIONING} jobs: the
+ * upload is spooled to {@code <id>.input} next to the results, and the result file lists the outcome
+ * of every row.
+ */
+@Slf4j
+@Service
+public class ReportJobService {
+
+    private static final String RESULT_SUFFIX = ".csv";
+    private static final String PARTIAL_SUFFIX = ".part";
+    private static final String INPUT_SUFFIX = ".input";
+
+    public record ReportFile(Path path, String filename, Instant lastModified) {
+    }
+
+    private static final List<ReportJobStatus> ACTIVE = List.of(ReportJobStatus.QUEUED, ReportJobStatus.RUNNING);
+
+    private final ReportGenerator reportGenerator;
+    private final AppProperties.Reports config;
+    private final Path directory;
+    private final UserProvisioningService userProvisioningService;
+    private final ReportJobRepository reportJobRepository;
+    private final OrganizationRepository organizationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String node = UUID.randomUUID().toString();
+    private final ThreadPoolExecutor workers;
+    private final MeterRegistry meterRegistry;
+    private final Counter succeeded;
+    private final Counter failed;
+    private final Counter rejected;
+
+    public ReportJobService(ReportGenerator reportGenerator,
+                            UserProvisioningService userProvisioningService,
+                            ReportJobRepository reportJobRepository,
+                            OrganizationRepository organizationRepository,
+                            PlatformTransactionManager transactionManager,
+                            AppProperties appProperties,
+                            MeterRegistry meterRegistry) {
+        this.reportGenerator = reportGenerator;
+        this.userProvisioningService = userProvisioningService;
+        this.reportJobRepository = reportJobRepository;
+        this.organizationRepository = organizationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.config = appProperties.getReports();
+        this.directory = config.getDirectory().isBlank()
+                ? Path.of(System.getProperty("java.io.tmpdir"), "leaveease-reports")
+                : Path.of(config.getDirectory());
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(config.getWorkers(), config.getWorkers(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                task -> {
+                    Thread thread = new Thread(task, "report-worker-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.meterRegistry = meterRegistry;
+        this.succeeded = jobs(meterRegistry, "succeeded");
+        this.failed = jobs(meterRegistry, "failed");
+        this.rejected = jobs(meterRegistry, "rejected");
+        Gauge.builder("leaveease.reports.queue.size", workers, executor -> executor.getQueue().size())
+                .description("Report jobs waiting for a worker")
+                .register(meterRegistry);
+    }
+
+    private static Counter jobs(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("leaveease.reports.jobs")
+                .description("Report jobs by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create report directory " + directory, e);
+        }
+        cleanUp();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    public ReportJobResponse submit(long organizationId, String username, ReportJobRequest request) {
+        if (request.getType() == ReportType.USER_PROVISIONING) {
+            throw new InvalidReportRequestException("Provisioning jobs are started by uploading a CSV file to "
+                    + "POST /api/users/bulk");
+        }
+        if (request.getFrom().isAfter(request.getTo())) {
+            throw new InvalidReportRequestException("From date must not be after to date");
+        }
+        return enqueue(ReportJob.builder()
+                .id(UUID.randomUUID())
+                .organizationId(organizationId)
+                .requestedBy(username)
+                .type(request.getType())
+                .fromDate(request.getFrom())
+                .toDate(request.getTo())
+                .includeArchived(request.isIncludeArchived())
+                .build());
+    }
+
+    /**
+     * Spools a CSV upload to disk and queues it for {@link UserProvisioningService#provisionCsv}.
+     * The header is checked before the job is queued, so a file that cannot be provisioned is
+     * rejected with the request.
+     */
+    public ReportJobResponse submitProvisioning(long organizationId, String username, InputStream csv) {
+        UUID id = UUID.randomUUID();
+        Path input = inputFile(id);
+        try {
+            Files.copy(csv, input);
+            try (Reader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+                userProvisioningService.checkCsvHeader(reader);
+            }
+            return enqueue(ReportJob.builder()
+                    .id(id)
+                    .organizationId(organizationId)
+                    .requestedBy(username)
+                    .type(ReportType.USER_PROVISIONING)
+                    .build());
+        } catch (IOException e) {
+            deleteQuietly(input);
+            throw new UncheckedIOException("Could not store the upload", e);
+        } catch (RuntimeException e) {
+            deleteQuietly(input);
+            throw e;
+        }
+    }
+
+    /**
+     * Stores the job and queues it on this node. The organization row is locked while its active
+     * jobs are counted, so concurrent submissions on different nodes cannot both take the last slot.
+     */
+    private ReportJobResponse enqueue(ReportJob pending) {
+        long organizationId = pending.getOrganizationId();
+        Instant now = Instant.now();
+        pending.setStatus(ReportJobStatus.QUEUED);
+        pending.setSubmittedAt(now);
+        pending.setOwner(node);
+        pending.setHeartbeatAt(now);
+        ReportJob job = transactionTemplate.execute(status -> {
+            organizationRepository.lockById(organizationId);
+            long active = reportJobRepository.countByOrganizationIdAndStatusIn(organizationId, ACTIVE);
+            if (active >= config.getMaxActivePerOrganization()) {
+                rejected.increment();
+                throw new ReportQueueFullException("Your organization already has " + active
+                        + " reports in progress; try again when one has finished");
+            }
+            return reportJobRepository.save(pending);
+        });
+        ReportJobResponse response = toResponse(job);
+        try {
+            workers.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            reportJobRepository.deleteById(job.getId());
+            rejected.increment();
+            throw new ReportQueueFullException("The report queue is full; try again later");
+        }
+        return response;
+    }
+
+    public ReportJobResponse get(long organizationId, UUID id) {
+        return toResponse(find(organizationId, id));
+    }
+
+    public ReportFile result(long organizationId, UUID id) {
+        ReportJob job = find(organizationId, id);
+        if (job.getStatus() != ReportJobStatus.SUCCEEDED) {
+            throw new ReportNotReadyException("Report job is " + job.getStatus());
+        }
+        String type = job.getType().name().toLowerCase(Locale.ROOT).replace('_', '-');
+        String filename = job.getType() == ReportType.USER_PROVISIONING
+                ? "%s-%s%s".formatted(type, job.getId(), RESULT_SUFFIX)
+                : "%s-%s-%s%s".formatted(type, job.getFromDate(), job.getToDate(), RESULT_SUFFIX);
+        return new ReportFile(resultFile(job.getId()), filename, job.getCompletedAt());
+    }
+
+    /**
+     * Keeps the leases of the jobs queued or running on this node.
+     */
+    @Scheduled(fixedDelayString = "${app.reports.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        reportJobRepository.renewLeases(node, ACTIVE, Instant.now());
+    }
+
+    /**
+     * Fails jobs whose node stopped renewing their lease, drops finished jobs past their TTL
+     * together with their files, and deletes files in the directory that no job owns once they
+     * are older than the TTL. Every node runs it; the steps are idempotent.
+     */
+    @Scheduled(fixedDelayString = "${app.reports.cleanup-interval:PT5M}")
+    public void cleanUp() {
+        Instant now = Instant.now();
+        int abandoned = reportJobRepository.failExpiredLeases(ACTIVE, now.minus(config.getLeaseTimeout()),
+                ReportJobStatus.FAILED, "Report generation was interrupted", now);
+        if (abandoned > 0) {
+            log.warn("Marked {} report jobs failed after their node stopped renewing them", abandoned);
+        }
+
+        Instant cutoff = now.minus(config.getResultTtl());
+        List<ReportJob> expired = reportJobRepository.findByCompletedAtBefore(cutoff);
+        for (ReportJob job : expired) {
+            deleteQuietly(resultFile(job.getId()));
+            deleteQuietly(inputFile(job.getId()));
+        }
+        reportJobRepository.deleteAllByIdInBatch(expired.stream().map(ReportJob::getId).toList());
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                "*{" + RESULT_SUFFIX + "," + PARTIAL_SUFFIX + "," + INPUT_SUFFIX + "}")) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff) && !owned(file)) {
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not sweep report directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private boolean owned(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return reportJobRepository.existsById(UUID.fromString(name.substring(0, name.lastIndexOf('.'))));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Runs the job, saving it through its version: a job another node failed meanwhile stays failed.
+     */
+    private void run(ReportJob job) {
+        Path partial = directory.resolve(job.getId() + PARTIAL_SUFFIX);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            job.setStatus(ReportJobStatus.RUNNING);
+            job.setHeartbeatAt(Instant.now());
+            job = reportJobRepository.save(job);
+            long rows;
+            try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                rows = job.getType() == ReportType.USER_PROVISIONING
+                        ? provision(job, channel)
+                        : reportGenerator.generate(job.getOrganizationId(), job.getType(), job.getFromDate(),
+                                job.getToDate(), job.isIncludeArchived(), channel);
+            }
+            Path result = resultFile(job.getId());
+            Files.move(partial, result, StandardCopyOption.ATOMIC_MOVE);
+            job.setRowCount(rows);
+            job.setSizeBytes(Files.size(result));
+            job.setStatus(ReportJobStatus.SUCCEEDED);
+            succeeded.increment();
+        } catch (Exception e) {
+            log.warn("Report job {} ({}) requested by {} failed", job.getId(), job.getType(), job.getRequestedBy(), e);
+            deleteQuietly(partial);
+            job.setError("Report generation failed");
+            job.setStatus(ReportJobStatus.FAILED);
+            failed.increment();
+        } finally {
+            deleteQuietly(inputFile(job.getId()));
+            job.setCompletedAt(Instant.now());
+            try {
+                reportJobRepository.save(job);
+            } catch (OptimisticLockingFailureException e) {
+                log.warn("Report job {} ({}) was marked failed by another node before it finished",
+                        job.getId(), job.getType());
+            }
+            sample.stop(Timer.builder("leaveease.reports.generation")
+                    .description("Time taken to generate a report")
+                    .tag("type", job.getType().name())
+                    .tag("status", job.getStatus().name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Provisions the spooled upload and writes one {@code row,username,status,error} line per row.
+     */
+    private long provision(ReportJob job, FileChannel channel) throws IOException {
+        CsvWriter writer = new CsvWriter(channel, config.getChunkSize());
+        writer.writeRow("row", "username", "status", "error");
+        UserProvisioningService.Summary summary;
+        try (Reader reader = Files.newBufferedReader(inputFile(job.getId()), StandardCharsets.UTF_8)) {
+            summary = userProvisioningService.provisionCsv(job.getOrganizationId(), reader, result -> {
+                try {
+                    writer.writeRow(result.row(), result.username(), result.status(), result.error());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        return summary.created() + summary.rejected();
+    }
+
+    private Path inputFile(UUID id) {
+        return directory.resolve(id + INPUT_SUFFIX);
+    }
+
+    private Path resultFile(UUID id) {
+        return directory.resolve(id + RESULT_SUFFIX);
+    }
+
+    private ReportJob find(long organizationId, UUID id) {
+        return reportJobRepository.findByIdAndOrganizationId(id, organizationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Report job not found: " + id));
+    }
+
+    private ReportJobResponse toResponse(ReportJob job) {
+        Instant completedAt = job.isActive() ? null : job.getCompletedAt();
+        boolean succeededJob = job.getStatus() == ReportJobStatus.SUCCEEDED;
+        return new ReportJobResponse(job.getId(), job.getType(), job.getFromDate(), job.getToDate(),
+                job.isIncludeArchived(), job.getStatus(), job.getSubmittedAt(), completedAt,
+                succeededJob ? job.getRowCount() : null,
+                succeededJob ? job.getSizeBytes() : null,
+                job.getError(),
+                completedAt != null ? completedAt.plus(config.getResultTtl()) : null);
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete report file {}: {}", file, e.getMessage());
+        }
+    }
+}
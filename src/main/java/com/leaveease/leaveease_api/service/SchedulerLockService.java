@@ -0,0 +1,50 @@
+package com.leaveease.leaveease_api.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Database lease used to make sure a scheduled job runs on one node at a time. A lease expires on
+ * its own after {@code ttl}, so a node that dies while holding it blocks the job only until then.
+ */
+@Service
+@RequiredArgsConstructor
+public class SchedulerLockService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String owner = UUID.randomUUID().toString();
+
+    public boolean tryAcquire(String name, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp until = Timestamp.valueOf(now.plus(ttl));
+
+        int updated = jdbcTemplate.update(
+                "UPDATE scheduler_locks SET locked_until = ?, locked_by = ? WHERE name = ? AND locked_until <= ?",
+                until, owner, name, Timestamp.valueOf(now));
+        if (updated == 1) {
+            return true;
+        }
+
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO scheduler_locks (name, locked_until, locked_by) VALUES (?, ?, ?)",
+                    name, until, owner);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    public void release(String name) {
+        jdbcTemplate.update(
+                "UPDATE scheduler_locks SET locked_until = ? WHERE name = ? AND locked_by = ?",
+                Timestamp.valueOf(LocalDateTime.now()), name, owner);
+    }
+}
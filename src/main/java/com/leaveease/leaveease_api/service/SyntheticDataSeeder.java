@@ -0,0 +1,351 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.entity.LeaveStatus;
+import com.leaveease.leaveease_api.entity.LeaveType;
+import com.leaveease.leaveease_api.entity.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills the database with a production-shaped dataset for load and query-plan work. Runs on start-up
+ * when the {@code seed} profile is active, e.g. {@code --spring.profiles.active=prod,seed}, and does
+ * nothing if the first organization it would create already exists.
+ * <p>
+ * Every value is drawn from one {@link SplittableRandom} seeded with {@code app.seed.seed}, split per
+ * organization, and dates are laid out around {@code app.seed.anchor-date}; the same settings always
+ * produce the same organizations, reporting lines and leave history. Each organization is a complete
+ * tree of {@code manager-span} reports per manager. Leave counts per user are exponentially distributed,
+ * so most users have a short history and a few have a long one; types, durations and outcomes follow
+ * fixed weights, and past leave is closed while leave starting after the anchor is mostly pending.
+ * Rows go in as JDBC batches of {@code batch-size}, one transaction per batch.
+ */
+@Slf4j
+@Component
+@Profile("seed")
+public class SyntheticDataSeeder implements ApplicationRunner {
+
+    private static final int FUTURE_DAYS = 60;
+
+    private static final LeaveType[] TYPES = {LeaveType.ANNUAL, LeaveType.SICK, LeaveType.CASUAL, LeaveType.OTHER};
+    private static final double[] TYPE_WEIGHTS = {0.50, 0.25, 0.20, 0.05};
+
+    private static final LeaveStatus[] PAST_STATUSES = {LeaveStatus.APPROVED, LeaveStatus.REJECTED, LeaveStatus.EXPIRED};
+    private static final double[] PAST_WEIGHTS = {0.85, 0.10, 0.05};
+    private static final LeaveStatus[] FUTURE_STATUSES = {LeaveStatus.PENDING, LeaveStatus.APPROVED, LeaveStatus.REJECTED};
+    private static final double[] FUTURE_WEIGHTS = {0.55, 0.40, 0.05};
+
+    private static final String[] REASONS = {
+            "Family holiday", "Medical appointment", "Moving house", "Wedding", "Childcare",
+            "Feeling unwell", "Personal matters", "Conference travel", "Visiting relatives", "Rest and recovery"
+    };
+
+    private static final String INSERT_ORGANIZATION_SQL = """
+            INSERT INTO organizations (slug, name, created_at) VALUES (?, ?, ?)
+            """;
+
+    private static final String INSERT_USER_SQL = """
+            INSERT INTO users (username, email, password, role, organization_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final int[] USER_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.BIGINT, Types.TIMESTAMP, Types.TIMESTAMP
+    };
+
+    private static final String SET_MANAGER_SQL = "UPDATE users SET manager_id = ? WHERE id = ?";
+    private static final int[] SET_MANAGER_TYPES = {Types.BIGINT, Types.BIGINT};
+
+    private static final String INSERT_HIERARCHY_SQL = """
+            INSERT INTO user_hierarchy (ancestor_id, descendant_id, depth) VALUES (?, ?, ?)
+            """;
+    private static final int[] HIERARCHY_TYPES = {Types.BIGINT, Types.BIGINT, Types.INTEGER};
+
+    private static final String INSERT_LEAVE_SQL = """
+            INSERT INTO leave_requests (organization_id, user_id, leave_type, start_date, end_date, reason, status,
+                                        approved_by_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final int[] LEAVE_TYPES = {
+            Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.DATE, Types.DATE, Types.VARCHAR, Types.VARCHAR,
+            Types.BIGINT, Types.TIMESTAMP, Types.TIMESTAMP
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final LeaveArchiver leaveArchiver;
+    private final LeaveSearchIndexer leaveSearchIndexer;
+    private final ConfigurableApplicationContext applicationContext;
+    private final AppProperties.Seed config;
+    private final boolean searchEnabled;
+
+    public SyntheticDataSeeder(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               PasswordEncoder passwordEncoder,
+                               LeaveArchiver leaveArchiver,
+                               LeaveSearchIndexer leaveSearchIndexer,
+                               ConfigurableApplicationContext applicationContext,
+                               AppProperties appProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.leaveArchiver = leaveArchiver;
+        this.leaveSearchIndexer = leaveSearchIndexer;
+        this.applicationContext = applicationContext;
+        this.config = appProperties.getSeed();
+        this.searchEnabled = appProperties.getSearch().isEnabled();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        seed();
+        if (config.isExitWhenDone()) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+
+    /**
+     * Generates the configured dataset unless it is already there.
+     *
+     * @return {@code false} if the first organization already existed and nothing was written
+     */
+    public boolean seed() {
+        if (!config.getOrganizationPrefix().matches("[a-z0-9-]+")) {
+            throw new IllegalStateException("app.seed.organization-prefix must be lowercase letters, digits and dashes");
+        }
+        if (config.getManagerSpan() < 1 || config.getBatchSize() < 1) {
+            throw new IllegalStateException("app.seed.manager-span and app.seed.batch-size must be positive");
+        }
+        String firstSlug = slug(1);
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM organizations WHERE slug = ?", Integer.class, firstSlug);
+        if (existing != null && existing > 0) {
+            log.info("Organization {} already exists, skipping synthetic data", firstSlug);
+            return false;
+        }
+
+        LocalDate anchor = config.getAnchorDate() != null ? config.getAnchorDate() : LocalDate.now();
+        String passwordHash = passwordEncoder.encode(config.getPassword());
+        SplittableRandom root = new SplittableRandom(config.getSeed());
+        long startedAt = System.nanoTime();
+        long users = 0;
+        long leaves = 0;
+        for (int organization = 1; organization <= config.getOrganizations(); organization++) {
+            long[] counts = seedOrganization(organization, root.split(), anchor, passwordHash);
+            users += counts[0];
+            leaves += counts[1];
+            log.info("Seeded organization {} of {} ({} users, {} leave requests so far)",
+                    organization, config.getOrganizations(), users, leaves);
+        }
+        long seededMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+        if (config.isArchive()) {
+            leaveArchiver.archive();
+        }
+        if (searchEnabled) {
+            try {
+                leaveSearchIndexer.rebuild();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not rebuild the search index after seeding", e);
+            }
+        }
+        log.info("Seeded {} users and {} leave requests in {} ms ({} rows/s)",
+                users, leaves, seededMillis, (users + leaves) * 1000 / seededMillis);
+        return true;
+    }
+
+    private long[] seedOrganization(int organization, SplittableRandom random, LocalDate anchor, String passwordHash) {
+        String slug = slug(organization);
+        LocalDateTime foundedAt = anchor.minus(config.getHistory()).minusDays(30).atTime(9, 0);
+        jdbcTemplate.update(INSERT_ORGANIZATION_SQL, slug, "Synthetic organization " + organization,
+                Timestamp.valueOf(foundedAt));
+        Long organizationId = jdbcTemplate.queryForObject(
+                "SELECT id FROM organizations WHERE slug = ?", Long.class, slug);
+
+        int size = config.getUsersPerOrganization();
+        int span = config.getManagerSpan();
+        int managers = size <= 1 ? 0 : (size - 2) / span + 1;
+        String usernamePrefix = config.getOrganizationPrefix().replace('-', '_') + organization + "_u";
+
+        Batch users = new Batch(INSERT_USER_SQL, USER_TYPES);
+        for (int i = 0; i < size; i++) {
+            String username = usernamePrefix + "%06d".formatted(i);
+            Timestamp joinedAt = Timestamp.valueOf(foundedAt.plusMinutes(random.nextInt(30 * 24 * 60)));
+            users.add(username, username + "@seed.example", passwordHash,
+                    (i < managers ? Role.ADMIN : Role.EMPLOYEE).name(), organizationId, joinedAt, joinedAt);
+        }
+        users.flush();
+
+        long[] ids = new long[size];
+        jdbcTemplate.query("SELECT id, username FROM users WHERE organization_id = ?", rs -> {
+            String username = rs.getString(2);
+            ids[Integer.parseInt(username.substring(usernamePrefix.length()))] = rs.getLong(1);
+        }, organizationId);
+
+        Batch reportingLines = new Batch(SET_MANAGER_SQL, SET_MANAGER_TYPES);
+        for (int i = 1; i < size; i++) {
+            reportingLines.add(ids[managerOf(i)], ids[i]);
+        }
+        reportingLines.flush();
+
+        Batch hierarchy = new Batch(INSERT_HIERARCHY_SQL, HIERARCHY_TYPES);
+        for (int i = 0; i < size; i++) {
+            int ancestor = i;
+            int depth = 0;
+            hierarchy.add(ids[ancestor], ids[i], depth);
+            while (ancestor > 0) {
+                ancestor = managerOf(ancestor);
+                hierarchy.add(ids[ancestor], ids[i], ++depth);
+            }
+        }
+        hierarchy.flush();
+
+        Batch leaves = new Batch(INSERT_LEAVE_SQL, LEAVE_TYPES);
+        long leaveCount = 0;
+        for (int i = 0; i < size; i++) {
+            Long managerId = i > 0 ? ids[managerOf(i)] : null;
+            leaveCount += seedLeaves(random, organizationId, ids[i], managerId, anchor, leaves);
+        }
+        leaves.flush();
+        return new long[]{size, leaveCount};
+    }
+
+    private int seedLeaves(SplittableRandom random, long organizationId, long userId, Long managerId,
+                           LocalDate anchor, Batch batch) {
+        int count = (int) Math.min(config.getMaxLeavesPerUser(), Math.round(exponential(random, config.getLeavesPerUser())));
+        if (count == 0) {
+            return 0;
+        }
+        LocalDate until = anchor.plusDays(FUTURE_DAYS);
+        LocalDate cursor = anchor.minus(config.getHistory());
+        double meanGap = Math.max(1, ChronoUnit.DAYS.between(cursor, until) / (count + 1.0));
+        LocalDateTime now = anchor.atTime(18, 0);
+
+        int written = 0;
+        for (int k = 0; k < count; k++) {
+            LocalDate start = cursor.plusDays(1 + Math.round(exponential(random, meanGap)));
+            if (start.isAfter(until)) {
+                break;
+            }
+            LeaveType type = pick(random, TYPES, TYPE_WEIGHTS);
+            LocalDate end = start.plusDays(duration(random, type) - 1);
+            cursor = end;
+
+            LocalDateTime createdAt = start.minusDays(leadDays(random, type))
+                    .atTime(8 + random.nextInt(10), random.nextInt(60));
+            if (createdAt.isAfter(now)) {
+                createdAt = now.minusMinutes(random.nextInt(7 * 24 * 60));
+            }
+            LeaveStatus status = start.isAfter(anchor)
+                    ? pick(random, FUTURE_STATUSES, FUTURE_WEIGHTS)
+                    : pick(random, PAST_STATUSES, PAST_WEIGHTS);
+            LocalDateTime updatedAt = createdAt;
+            if (status != LeaveStatus.PENDING) {
+                LocalDateTime decidedAt = createdAt.plusMinutes(30 + random.nextInt(3 * 24 * 60));
+                updatedAt = decidedAt.isAfter(now) ? createdAt : decidedAt;
+            }
+            Long approvedBy = status == LeaveStatus.APPROVED || status == LeaveStatus.REJECTED ? managerId : null;
+            String reason = random.nextInt(10) < 4 ? REASONS[random.nextInt(REASONS.length)] : null;
+
+            batch.add(organizationId, userId, type.name(), Date.valueOf(start), Date.valueOf(end), reason,
+                    status.name(), approvedBy, Timestamp.valueOf(createdAt), Timestamp.valueOf(updatedAt));
+            written++;
+        }
+        return written;
+    }
+
+    private int managerOf(int index) {
+        return (index - 1) / config.getManagerSpan();
+    }
+
+    private String slug(int organization) {
+        return config.getOrganizationPrefix() + "-" + organization;
+    }
+
+    private static int duration(SplittableRandom random, LeaveType type) {
+        return switch (type) {
+            case ANNUAL -> 1 + Math.min(19, geometric(random, 0.25));
+            case SICK -> 1 + Math.min(9, geometric(random, 0.6));
+            case CASUAL -> 1 + random.nextInt(2);
+            case OTHER -> 1 + Math.min(9, geometric(random, 0.4));
+        };
+    }
+
+    private static int leadDays(SplittableRandom random, LeaveType type) {
+        return switch (type) {
+            case ANNUAL -> 7 + random.nextInt(54);
+            case SICK -> random.nextInt(2);
+            case CASUAL -> 1 + random.nextInt(7);
+            case OTHER -> 3 + random.nextInt(12);
+        };
+    }
+
+    private static double exponential(SplittableRandom random, double mean) {
+        return -mean * Math.log(1 - random.nextDouble());
+    }
+
+    private static int geometric(SplittableRandom random, double p) {
+        return (int) Math.floor(Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+    }
+
+    private static <T> T pick(SplittableRandom random, T[] values, double[] weights) {
+        double roll = random.nextDouble();
+        for (int i = 0; i < values.length - 1; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private final class Batch {
+
+        private final String sql;
+        private final int[] types;
+        private final List<Object[]> rows;
+
+        private Batch(String sql, int[] types) {
+            this.sql = sql;
+            this.types = types;
+            this.rows = new ArrayList<>(config.getBatchSize());
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= config.getBatchSize()) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows, types));
+            rows.clear();
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.dto.BulkRowResult;
+import com.leaveease.leaveease_api.dto.BulkUserRow;
+import com.leaveease.leaveease_api.entity.Role;
+import com.leaveease.leaveease_api.exception.InvalidProvisioningRequestException;
+import com.leaveease.leaveease_api.util.CsvReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Creates many accounts in one organization at once. Rows are validated in windows before anything
+ * in the window is hashed: field constraints, duplicates within the window and accounts that already
+ * exist. Only the current window is held in memory; a row repeating one from an earlier window finds
+ * that account already created and is rejected as taken. Accepted rows are hashed in parallel on a bounded pool shared by all jobs, then inserted
+ * together with their {@code user_hierarchy} self rows in one JDBC batch per chunk. A chunk that
+ * hits a unique constraint (a concurrent registration) is retried row by row so only the clashing
+ * rows are rejected. Results are handed to the caller's sink as each chunk completes.
+ */
+@Slf4j
+@Service
+public class UserProvisioningService {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("username", "email", "password");
+
+    private static final String INSERT_USER_SQL = """
+            INSERT INTO users (username, email, password, role, organization_id, created_at, updated_at)
+            VALUES (:username, :email, :password, :role, :organizationId, :now, :now)
+            """;
+
+    private static final String INSERT_SELF_SQL = """
+            INSERT INTO user_hierarchy (ancestor_id, descendant_id, depth)
+            SELECT u.id, u.id, 0 FROM users u
+            WHERE u.organization_id = :organizationId AND u.username IN (:usernames)
+            """;
+
+    private static final String EXISTING_SQL = """
+            SELECT username, email FROM users WHERE username IN (:usernames) OR email IN (:emails)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final AccountAvailabilityService accountAvailabilityService;
+    private final ObjectReader rowReader;
+    private final AppProperties.Provisioning config;
+    private final ThreadPoolExecutor hashingPool;
+    private final Counter created;
+    private final Counter rejected;
+    private final Timer hashing;
+
+    public UserProvisioningService(NamedParameterJdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   PasswordEncoder passwordEncoder,
+                                   Validator validator,
+                                   AccountAvailabilityService accountAvailabilityService,
+                                   JsonMapper jsonMapper,
+                                   AppProperties appProperties,
+                                   MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.accountAvailabilityService = accountAvailabilityService;
+        this.rowReader = jsonMapper.readerFor(BulkUserRow.class)
+                .without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        this.config = appProperties.getProvisioning();
+        int threads = config.getHashingThreads() > 0
+                ? config.getHashingThreads()
+                : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.hashingPool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(config.getHashingQueueCapacity()),
+                task -> {
+                    Thread thread = new Thread(task, "provisioning-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.created = rows(meterRegistry, "created");
+        this.rejected = rows(meterRegistry, "rejected");
+        this.hashing = Timer.builder("leaveease.provisioning.hashing")
+                .description("Time spent hashing the passwords of one provisioning chunk")
+                .register(meterRegistry);
+    }
+
+    private static Counter rows(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("leaveease.provisioning.rows")
+                .description("Bulk provisioning rows by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashingPool.shutdownNow();
+    }
+
+    /**
+     * Provisions a JSON array. The whole array is validated before any password is hashed.
+     */
+    public Summary provision(long organizationId, List<BulkUserRow> rows, Consumer<BulkRowResult> sink) {
+        if (rows.size() > config.getMaxJsonRows()) {
+            throw tooManyJsonRows();
+        }
+        Job job = new Job(organizationId, sink);
+        List<NumberedRow> numbered = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            numbered.add(new NumberedRow(i + 1, rows.get(i)));
+        }
+        process(job, numbered);
+        return job.summary();
+    }
+
+    /**
+     * Reads a JSON array of rows one element at a time and stops at the first row past
+     * {@code max-json-rows}, so an oversized body is rejected without being held in memory.
+     */
+    public List<BulkUserRow> readJsonRows(InputStream json) {
+        List<BulkUserRow> rows = new ArrayList<>();
+        try (JsonParser parser = rowReader.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidProvisioningRequestException("The body must be a JSON array of users");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (rows.size() == config.getMaxJsonRows()) {
+                    throw tooManyJsonRows();
+                }
+                rows.add(rowReader.readValue(parser));
+            }
+        } catch (JacksonException e) {
+            throw new InvalidProvisioningRequestException("Malformed JSON body: " + e.getOriginalMessage());
+        }
+        return rows;
+    }
+
+    private InvalidProvisioningRequestException tooManyJsonRows() {
+        return new InvalidProvisioningRequestException("A JSON request may contain at most "
+                + config.getMaxJsonRows() + " rows; upload larger files as text/csv");
+    }
+
+    /**
+     * Checks that {@code csv} starts with a usable header row, without reading further.
+     */
+    public void checkCsvHeader(Reader csv) {
+        header(new CsvReader(csv));
+    }
+
+    /**
+     * Provisions a CSV upload with a header row naming at least {@code username}, {@code email} and
+     * {@code password} (and optionally {@code role}). The file is read in windows of
+     * {@code app.provisioning.window-size} rows, so memory does not grow with the file; row numbers
+     * in the results are line numbers in the file.
+     */
+    public Summary provisionCsv(long organizationId, Reader csv, Consumer<BulkRowResult> sink) {
+        CsvReader reader = new CsvReader(csv);
+        List<String> header = header(reader);
+        int username = header.indexOf("username");
+        int email = header.indexOf("email");
+        int password = header.indexOf("password");
+        int role = header.indexOf("role");
+
+        Job job = new Job(organizationId, sink);
+        List<NumberedRow> window = new ArrayList<>(config.getWindowSize());
+        while (reader.hasNext()) {
+            List<String> fields = reader.next();
+            int line = reader.lineNumber();
+            if (fields.size() != header.size()) {
+                job.reject(line, null, "expected " + header.size() + " columns but found " + fields.size());
+                continue;
+            }
+            String roleName = role >= 0 ? fields.get(role).trim() : "";
+            Role parsedRole;
+            try {
+                parsedRole = roleName.isEmpty() ? null : Role.valueOf(roleName.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                job.reject(line, fields.get(username).trim(), "role: must be one of " + Arrays.toString(Role.values()));
+                continue;
+            }
+            window.add(new NumberedRow(line, new BulkUserRow(
+                    fields.get(username).trim(), fields.get(email).trim(), fields.get(password), parsedRole)));
+            if (window.size() == config.getWindowSize()) {
+                process(job, window);
+                window.clear();
+            }
+        }
+        process(job, window);
+        return job.summary();
+    }
+
+    private static List<String> header(CsvReader reader) {
+        if (!reader.hasNext()) {
+            throw new InvalidProvisioningRequestException("The CSV file is empty");
+        }
+        List<String> header = reader.next().stream().map(column -> column.trim().toLowerCase(Locale.ROOT)).toList();
+        if (!header.containsAll(REQUIRED_COLUMNS)) {
+            throw new InvalidProvisioningRequestException("The CSV header must name the columns " + REQUIRED_COLUMNS);
+        }
+        return header;
+    }
+
+    private void process(Job job, List<NumberedRow> rows) {
+        List<NumberedRow> accepted = validate(job, rows);
+        for (int from = 0; from < accepted.size(); from += config.getBatchSize()) {
+            List<NumberedRow> chunk = accepted.subList(from, Math.min(from + config.getBatchSize(), accepted.size()));
+            insert(job, chunk, hash(chunk));
+        }
+    }
+
+    private List<NumberedRow> validate(Job job, List<NumberedRow> rows) {
+        List<NumberedRow> candidates = new ArrayList<>(rows.size());
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (NumberedRow row : rows) {
+            Set<ConstraintViolation<BulkUserRow>> violations = validator.validate(row.user());
+            if (!violations.isEmpty()) {
+                job.reject(row.number(), row.user().username(), violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+            } else if (!usernames.add(row.user().username())) {
+                job.reject(row.number(), row.user().username(), "username appears more than once in this upload");
+            } else if (!emails.add(row.user().email())) {
+                job.reject(row.number(), row.user().username(), "email appears more than once in this upload");
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        Set<String> takenUsernames = new HashSet<>();
+        Set<String> takenEmails = new HashSet<>();
+        for (int from = 0; from < candidates.size(); from += config.getBatchSize()) {
+            List<NumberedRow> slice = candidates.subList(from, Math.min(from + config.getBatchSize(), candidates.size()));
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("usernames", slice.stream().map(row -> row.user().username()).toList())
+                    .addValue("emails", slice.stream().map(row -> row.user().email()).toList());
+            jdbcTemplate.query(EXISTING_SQL, params, rs -> {
+                takenUsernames.add(rs.getString("username"));
+                takenEmails.add(rs.getString("email"));
+            });
+        }
+
+        List<NumberedRow> accepted = new ArrayList<>(candidates.size());
+        for (NumberedRow row : candidates) {
+            if (takenUsernames.contains(row.user().username())) {
+                job.reject(row.number(), row.user().username(), "Username already taken");
+            } else if (takenEmails.contains(row.user().email())) {
+                job.reject(row.number(), row.user().username(), "Email already registered");
+            } else {
+                accepted.add(row);
+            }
+        }
+        return accepted;
+    }
+
+    private List<String> hash(List<NumberedRow> chunk) {
+        return hashing.record(() -> {
+            List<Future<String>> futures = new ArrayList<>(chunk.size());
+            for (NumberedRow row : chunk) {
+                futures.add(hashingPool.submit(() -> passwordEncoder.encode(row.user().password())));
+            }
+            List<String> hashes = new ArrayList<>(chunk.size());
+            try {
+                for (Future<String> future : futures) {
+                    hashes.add(future.get());
+                }
+            } catch (InterruptedException e) {
+                futures.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while hashing passwords", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Password hashing failed", e.getCause());
+            }
+            return hashes;
+        });
+    }
+
+    private void insert(Job job, List<NumberedRow> chunk, List<String> hashes) {
+        SqlParameterSource[] batch = new SqlParameterSource[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            batch[i] = userParams(job.organizationId, chunk.get(i).user(), hashes.get(i));
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_USER_SQL, batch);
+                jdbcTemplate.update(INSERT_SELF_SQL, new MapSqlParameterSource()
+                        .addValue("organizationId", job.organizationId)
+                        .addValue("usernames", chunk.stream().map(row -> row.user().username()).toList()));
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Provisioning chunk clashed with a concurrent registration, retrying row by row");
+            for (int i = 0; i < chunk.size(); i++) {
+                insertOne(job, chunk.get(i), batch[i]);
+            }
+            return;
+        }
+        chunk.forEach(job::created);
+    }
+
+    private void insertOne(Job job, NumberedRow row, SqlParameterSource params) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(INSERT_USER_SQL, params);
+                jdbcTemplate.update(INSERT_SELF_SQL, new MapSqlParameterSource()
+                        .addValue("organizationId", job.organizationId)
+                        .addValue("usernames", List.of(row.user().username())));
+            });
+            job.created(row);
+        } catch (DataIntegrityViolationException e) {
+            job.reject(row.number(), row.user().username(), "Username or email already registered");
+        }
+    }
+
+    private static SqlParameterSource userParams(long organizationId, BulkUserRow user, String hash) {
+        return new MapSqlParameterSource()
+                .addValue("username", user.username())
+                .addValue("email", user.email())
+                .addValue("password", hash)
+                .addValue("role", (user.role() != null ? user.role() : Role.EMPLOYEE).name())
+                .addValue("organizationId", organizationId)
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    public record Summary(int created, int rejected) {
+    }
+
+    private record NumberedRow(int number, BulkUserRow user) {
+    }
+
+    private final class Job {
+
+        private final long organizationId;
+        private final Consumer<BulkRowResult> sink;
+        private int createdRows;
+        private int rejectedRows;
+
+        Job(long organizationId, Consumer<BulkRowResult> sink) {
+            this.organizationId = organizationId;
+            this.sink = sink;
+        }
+
+        void created(NumberedRow row) {
+            accountAvailabilityService.remember(row.user().username(), row.user().email());
+            createdRows++;
+            created.increment();
+            sink.accept(BulkRowResult.created(row.number(), row.user().username()));
+        }
+
+        void reject(int number, String username, String error) {
+            rejectedRows++;
+            rejected.increment();
+            sink.accept(BulkRowResult.rejected(number, username, error));
+        }
+
+        Summary summary() {
+            return new Summary(createdRows, rejectedRows);
+        }
+    }
+}
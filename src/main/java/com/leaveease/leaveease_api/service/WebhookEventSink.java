@@ -0,0 +1,48 @@
+package com.leaveease.leaveease_api.service;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.entity.OutboxEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * POSTs each batch as a JSON array to the configured webhook URL. Any non-2xx answer fails the batch.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox.webhook", name = "enabled", havingValue = "true")
+public class WebhookEventSink implements EventSink {
+
+    private final RestClient restClient;
+    private final String url;
+
+    public WebhookEventSink(AppProperties appProperties) {
+        AppProperties.Outbox.Webhook config = appProperties.getOutbox().getWebhook();
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(config.getTimeout());
+        requestFactory.setReadTimeout(config.getTimeout());
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+        this.url = config.getUrl();
+    }
+
+    @Override
+    public String name() {
+        return "webhook";
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        String body = events.stream().map(EventSink::envelope).collect(Collectors.joining(",", "[", "]"));
+        restClient.post()
+                .uri(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -0,0 +1,143 @@
+package com.leaveease.leaveease_api.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Small insertion-ordered cache with a hard entry limit and a per-entry time-to-live.
+ * The oldest entry is evicted once {@code maxEntries} is reached.
+ */
+public class BoundedTtlCache<K, V> {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    public BoundedTtlCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, Clock.systemUTC());
+    }
+
+    public BoundedTtlCache(int maxEntries, Duration ttl, Clock clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > BoundedTtlCache.this.maxEntries;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= clock.millis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.remove(key);
+        entries.put(key, new Entry<>(value, clock.millis() + ttlMillis));
+    }
+
+    /**
+     * Stores the value unless a live entry already exists.
+     *
+     * @return the existing value, or {@code null} if {@code value} was stored
+     */
+    public synchronized V putIfAbsent(K key, V value) {
+        V existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        entries.put(key, new Entry<>(value, clock.millis() + ttlMillis));
+        return null;
+    }
+
+    public synchronized V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+        V existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        V value = loader.apply(key);
+        if (value != null) {
+            entries.put(key, new Entry<>(value, clock.millis() + ttlMillis));
+        }
+        return value;
+    }
+
+    /**
+     * Swaps the live entry for {@code key} to {@code value} if it is still {@code expected}, keeping
+     * its expiry and eviction order.
+     *
+     * @return whether the entry was replaced
+     */
+    public synchronized boolean replace(K key, V expected, V value) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.value != expected || entry.expiresAt <= clock.millis()) {
+            return false;
+        }
+        entries.put(key, new Entry<>(value, entry.expiresAt));
+        return true;
+    }
+
+    public synchronized V remove(K key) {
+        Entry<V> removed = entries.remove(key);
+        return removed != null ? removed.value : null;
+    }
+
+    public synchronized int removeIf(Predicate<? super K> keyFilter) {
+        int removed = 0;
+        Iterator<K> it = entries.keySet().iterator();
+        while (it.hasNext()) {
+            if (keyFilter.test(it.next())) {
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int purgeExpired() {
+        long now = clock.millis();
+        int purged = 0;
+        Iterator<Entry<V>> it = entries.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().expiresAt <= now) {
+                it.remove();
+                purged++;
+            }
+        }
+        return purged;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int maxEntries() {
+        return maxEntries;
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
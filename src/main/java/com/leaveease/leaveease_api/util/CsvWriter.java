@@ -0,0 +1,84 @@
+package com.leaveease.leaveease_api.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes comma-separated records to a channel through a fixed-size buffer, so output of any length
+ * is produced in constant memory. Text that a spreadsheet would evaluate as a formula is prefixed
+ * with an apostrophe.
+ */
+public class CsvWriter {
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final StringBuilder line = new StringBuilder(256);
+    private long bytesWritten;
+
+    public CsvWriter(WritableByteChannel channel, int chunkSize) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(chunkSize);
+    }
+
+    public void writeRow(Object... fields) throws IOException {
+        line.setLength(0);
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            appendField(fields[i]);
+        }
+        line.append("\r\n");
+        byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > buffer.remaining()) {
+            flush();
+        }
+        if (bytes.length > buffer.capacity()) {
+            drain(ByteBuffer.wrap(bytes));
+        } else {
+            buffer.put(bytes);
+        }
+    }
+
+    /** Writes whatever is buffered to the channel. */
+    public void flush() throws IOException {
+        buffer.flip();
+        drain(buffer);
+        buffer.clear();
+    }
+
+    public long bytesWritten() {
+        return bytesWritten;
+    }
+
+    private void drain(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            bytesWritten += channel.write(source);
+        }
+    }
+
+    private void appendField(Object field) {
+        if (field == null) {
+            return;
+        }
+        String value = field.toString();
+        if (field instanceof CharSequence && !value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+}
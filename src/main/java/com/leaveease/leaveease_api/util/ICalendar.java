@@ -0,0 +1,58 @@
+package com.leaveease.leaveease_api.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Minimal RFC 5545 text helpers: value escaping, 75-octet line folding and CRLF line endings.
+ */
+public final class ICalendar {
+
+    public static final String CRLF = "\r\n";
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private ICalendar() {
+    }
+
+    public static String date(LocalDate date) {
+        return DATE.format(date);
+    }
+
+    public static String dateTime(Instant instant) {
+        return DATE_TIME.format(instant);
+    }
+
+    public static String escape(String text) {
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    /**
+     * Appends {@code name:value} folded into lines of at most 75 octets, never splitting a UTF-8 sequence.
+     */
+    public static void appendLine(StringBuilder out, String name, String value) {
+        String line = name + ":" + value;
+        int octets = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int width = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + width > MAX_LINE_OCTETS) {
+                out.append(CRLF).append(' ');
+                octets = 1;
+            }
+            out.appendCodePoint(codePoint);
+            octets += width;
+            i += Character.charCount(codePoint);
+        }
+        out.append(CRLF);
+    }
+}
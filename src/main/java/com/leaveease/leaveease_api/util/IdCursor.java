@@ -0,0 +1,122 @@
+package com.leaveease.leaveease_api.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Read position in a table keyed by an IDENTITY column that does not lose rows committed out of id
+ * order. Ids are taken when a row is inserted but the row only becomes visible when its transaction
+ * commits, so a reader that has already handled id 12 can still see id 11 appear later. The cursor
+ * remembers every id it stepped over (a gap) and a poll asks for those ids again alongside the rows
+ * after {@link #position()}. A gap that is still empty after {@code gapTimeoutMillis}, longer than
+ * any transaction stays open, belongs to a rolled-back insert and is forgotten.
+ * <p>
+ * At most {@link #MAX_GAPS} gaps are tracked; a jump larger than that (a sequence cache skipped
+ * after a restart) only keeps the ids right below the new row, which is where the ids of
+ * transactions still in flight are. Not thread-safe.
+ */
+public final class IdCursor {
+
+    public static final int MAX_GAPS = 256;
+
+    private final long gapTimeoutMillis;
+    private final TreeMap<Long, Long> gaps = new TreeMap<>();
+    private long position;
+
+    public IdCursor(long position, long gapTimeoutMillis) {
+        this.position = position;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+    }
+
+    /**
+     * Restores a cursor saved with {@link #encodeGaps()}.
+     */
+    public static IdCursor decode(long position, String encodedGaps, long gapTimeoutMillis) {
+        IdCursor cursor = new IdCursor(position, gapTimeoutMillis);
+        if (encodedGaps != null && !encodedGaps.isBlank()) {
+            for (String gap : encodedGaps.split(",")) {
+                int colon = gap.indexOf(':');
+                cursor.gaps.put(Long.parseLong(gap.substring(0, colon)), Long.parseLong(gap.substring(colon + 1)));
+            }
+        }
+        return cursor;
+    }
+
+    /**
+     * Highest id handled so far; every lower id has been handled too, unless it is one of {@link #gaps()}.
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * Ids below {@link #position()} that have not been seen yet and may still be committed.
+     */
+    public Collection<Long> gaps() {
+        return List.copyOf(gaps.keySet());
+    }
+
+    public boolean hasGaps() {
+        return !gaps.isEmpty();
+    }
+
+    /**
+     * Every id up to the returned value has been handled or given up on.
+     */
+    public long settledPosition() {
+        return gaps.isEmpty() ? position : Math.min(position, gaps.firstKey() - 1);
+    }
+
+    /**
+     * Records the ids returned by one poll: ids filling gaps, and new ids above {@link #position()}
+     * in ascending order. Ids skipped between new rows become gaps.
+     */
+    public void advance(Collection<Long> ids, long nowMillis) {
+        List<Long> fresh = new ArrayList<>(ids.size());
+        for (long id : ids) {
+            if (gaps.remove(id) == null && id > position) {
+                fresh.add(id);
+            }
+        }
+        fresh.sort(null);
+        long expiresAt = nowMillis + gapTimeoutMillis;
+        for (long id : fresh) {
+            for (long missing = Math.max(position + 1, id - MAX_GAPS); missing < id; missing++) {
+                gaps.put(missing, expiresAt);
+            }
+            position = id;
+        }
+        while (gaps.size() > MAX_GAPS) {
+            gaps.pollFirstEntry();
+        }
+    }
+
+    /**
+     * Forgets gaps that stayed empty past their timeout.
+     *
+     * @return whether anything was forgotten
+     */
+    public boolean expire(long nowMillis) {
+        return gaps.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+    }
+
+    /**
+     * The gaps with their expiry times, as stored next to the position.
+     */
+    public String encodeGaps() {
+        if (gaps.isEmpty()) {
+            return null;
+        }
+        StringBuilder out = new StringBuilder(gaps.size() * 24);
+        for (Map.Entry<Long, Long> gap : gaps.entrySet()) {
+            if (!out.isEmpty()) {
+                out.append(',');
+            }
+            out.append(gap.getKey()).append(':').append(gap.getValue());
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,76 @@
+package com.leaveease.leaveease_api.util;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deduplicates repeated warnings: per key, the first message of each window is logged and the rest
+ * are only counted, with the count reported on the next logged message. Meant for messages that an
+ * attacker or a mass token expiry can trigger on every request. The number of tracked keys is
+ * bounded; keys beyond the limit share one overflow window.
+ */
+public class ThrottledLogger {
+
+    private static final String OVERFLOW_KEY = "*";
+
+    private final Logger log;
+    private final long windowNanos;
+    private final int maxKeys;
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    public ThrottledLogger(Logger log, Duration window, int maxKeys) {
+        this.log = log;
+        this.windowNanos = window.toNanos();
+        this.maxKeys = maxKeys;
+    }
+
+    public void warn(String key, String format, Object... args) {
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+        long suppressed = admit(key);
+        if (suppressed < 0) {
+            return;
+        }
+        if (suppressed == 0) {
+            log.warn(format, args);
+        } else {
+            Object[] withCount = Arrays.copyOf(args, args.length + 1);
+            withCount[args.length] = suppressed;
+            log.warn(format + " ({} similar messages suppressed)", withCount);
+        }
+    }
+
+    /**
+     * @return {@code -1} if the message should be suppressed, otherwise the number suppressed since the last one
+     */
+    private long admit(String key) {
+        long now = System.nanoTime();
+        Window window = windows.get(key);
+        if (window == null) {
+            window = windows.size() < maxKeys
+                    ? windows.computeIfAbsent(key, k -> new Window(now - windowNanos))
+                    : windows.computeIfAbsent(OVERFLOW_KEY, k -> new Window(now - windowNanos));
+        }
+        long startedAt = window.startedAt.get();
+        if (now - startedAt >= windowNanos && window.startedAt.compareAndSet(startedAt, now)) {
+            return window.suppressed.getAndSet(0);
+        }
+        window.suppressed.incrementAndGet();
+        return -1;
+    }
+
+    private static final class Window {
+        private final AtomicLong startedAt;
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private Window(long startedAt) {
+            this.startedAt = new AtomicLong(startedAt);
+        }
+    }
+}
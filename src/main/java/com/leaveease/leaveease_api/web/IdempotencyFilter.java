@@ -0,0 +1,138 @@
+package com.leaveease.leaveease_api.web;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.entity.IdempotencyRecord;
+import com.leaveease.leaveease_api.exception.ProblemType;
+import com.leaveease.leaveease_api.service.IdempotencyStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Replays the stored response for write requests that repeat an {@code Idempotency-Key}.
+ * Runs after the Spring Security chain so keys of authenticated requests are scoped to the caller.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final AppProperties appProperties;
+    private final ProblemResponseWriter problemResponseWriter;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        AppProperties.Idempotency config = appProperties.getIdempotency();
+        return !config.isEnabled()
+                || !"POST".equals(request.getMethod())
+                || request.getHeader(HEADER) == null
+                || !config.getPaths().contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String clientKey = request.getHeader(HEADER).strip();
+        if (clientKey.isEmpty() || clientKey.length() > MAX_KEY_LENGTH) {
+            problemResponseWriter.write(request, response, ProblemType.INVALID_IDEMPOTENCY_KEY,
+                    HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(request);
+        String key = scope() + ":" + request.getRequestURI() + ":" + clientKey;
+        String fingerprint = fingerprint(cachedRequest.getBody());
+
+        IdempotencyRecord existing = idempotencyStore.reserve(key, fingerprint);
+        if (existing != null) {
+            replay(existing, fingerprint, request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(cachedRequest, cachedResponse);
+            if (isReplayable(cachedResponse.getStatus())) {
+                idempotencyStore.complete(key, cachedResponse.getStatus(),
+                        cachedResponse.getContentType(), cachedResponse.getContentAsByteArray());
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyStore.release(key);
+            }
+            cachedResponse.copyBodyToResponse();
+        }
+    }
+
+    private void replay(IdempotencyRecord record, String fingerprint, HttpServletRequest request,
+                        HttpServletResponse response) throws IOException {
+        if (!record.getFingerprint().equals(fingerprint)) {
+            problemResponseWriter.write(request, response, ProblemType.IDEMPOTENCY_KEY_REUSED,
+                    HEADER + " was already used with a different request body");
+            return;
+        }
+        if (!record.isCompleted()) {
+            problemResponseWriter.write(request, response, ProblemType.REQUEST_IN_PROGRESS,
+                    "A request with this " + HEADER + " is still being processed");
+            return;
+        }
+
+        response.setStatus(record.getResponseStatus());
+        if (record.getContentType() != null) {
+            response.setContentType(record.getContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        byte[] body = record.getResponseBody();
+        if (body != null) {
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    private boolean isReplayable(int status) {
+        return status < 500
+                && status != HttpStatus.UNAUTHORIZED.value()
+                && status != HttpStatus.FORBIDDEN.value()
+                && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private String scope() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && !(authentication instanceof AnonymousAuthenticationToken)
+                ? "user:" + authentication.getName()
+                : "anonymous";
+    }
+
+    private static String fingerprint(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.leaveease.leaveease_api.web;
+
+import com.leaveease.leaveease_api.dto.ProblemResponse;
+import com.leaveease.leaveease_api.exception.ProblemType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link ProblemResponse} from a servlet filter, where the exception handlers do not
+ * reach, so a request rejected before the controller gets the same body as one rejected by it.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProblemResponseWriter {
+
+    private final JsonMapper jsonMapper;
+
+    public void write(HttpServletRequest request, HttpServletResponse response, ProblemType type, String detail)
+            throws IOException {
+        byte[] body = jsonMapper.writeValueAsBytes(ProblemResponse.of(type, detail, request.getRequestURI()));
+        response.setStatus(type.status().value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,33 @@
+package com.leaveease.leaveease_api.web;
+
+/**
+ * Deadline of the request running on the current thread, set by {@link RequestDeadlineFilter}.
+ * Threads that are not serving a request, such as schedulers and report workers, have none.
+ */
+public final class RequestDeadline {
+
+    /** Request attribute naming why the deadline was missed, for {@link RequestDeadlineFilter}'s metrics. */
+    public static final String EXPIRED_ATTRIBUTE = RequestDeadline.class.getName() + ".expired";
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    static void begin(long deadlineNanos) {
+        DEADLINE_NANOS.set(deadlineNanos);
+    }
+
+    static void end() {
+        DEADLINE_NANOS.remove();
+    }
+
+    /**
+     * Nanoseconds left before the current request's deadline, negative once it has passed, or
+     * {@code null} when the thread has no deadline.
+     */
+    public static Long remainingNanos() {
+        Long deadline = DEADLINE_NANOS.get();
+        return deadline != null ? deadline - System.nanoTime() : null;
+    }
+}
@@ -0,0 +1,115 @@
+package com.leaveease.leaveease_api.web;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Gives every API request a {@link RequestDeadline}: the first matching
+ * {@code app.deadlines.endpoints} entry or {@code app.deadlines.default-timeout}, shortened by the
+ * client's timeout header when that is smaller. Runs right after {@link RequestTimingFilter}, so
+ * time spent queuing for the rate limiter and tenant bulkhead counts against the deadline.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private record Rule(String method, PathPattern pattern, Duration timeout) {
+    }
+
+    private final AppProperties.Deadlines config;
+    private final List<Rule> rules;
+    private final MeterRegistry meterRegistry;
+
+    public RequestDeadlineFilter(AppProperties appProperties, MeterRegistry meterRegistry) {
+        this.config = appProperties.getDeadlines();
+        this.rules = config.getEndpoints().stream()
+                .map(endpoint -> new Rule(endpoint.getMethod(),
+                        PathPatternParser.defaultInstance.parse(endpoint.getPath()),
+                        endpoint.getTimeout()))
+                .toList();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !config.isEnabled()
+                || !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        long timeoutNanos = timeoutFor(request).toNanos();
+        Long clientMillis = clientTimeoutMillis(request);
+        if (clientMillis != null) {
+            timeoutNanos = Math.min(timeoutNanos, clientMillis * 1_000_000);
+        }
+        if (timeoutNanos <= 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RequestDeadline.begin(System.nanoTime() + timeoutNanos);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.end();
+            Object cause = request.getAttribute(RequestDeadline.EXPIRED_ATTRIBUTE);
+            if (cause != null) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                Counter.builder("leaveease.deadline.expired")
+                        .description("Requests answered with 503 because their deadline passed")
+                        .tag("endpoint", request.getMethod() + " " + (pattern != null ? pattern : "unmapped"))
+                        .tag("cause", cause.toString())
+                        .register(meterRegistry)
+                        .increment();
+            }
+        }
+    }
+
+    private Duration timeoutFor(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(
+                request.getRequestURI().substring(request.getContextPath().length()));
+        for (Rule rule : rules) {
+            if ((rule.method() == null || rule.method().equalsIgnoreCase(request.getMethod()))
+                    && rule.pattern().matches(path)) {
+                return rule.timeout();
+            }
+        }
+        return config.getDefaultTimeout();
+    }
+
+    private Long clientTimeoutMillis(HttpServletRequest request) {
+        String header = request.getHeader(config.getHeader());
+        if (header == null) {
+            return null;
+        }
+        try {
+            long millis = Long.parseLong(header.strip());
+            return millis > 0 ? millis : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.leaveease.leaveease_api.web;
+
+/**
+ * Phase clock for the request running on the current thread. One instance per thread is reused
+ * across requests, so recording a phase is a {@code nanoTime()} call and a field write; nothing is
+ * allocated unless the request ends up in the slow-request log.
+ */
+public final class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = ThreadLocal.withInitial(RequestTiming::new);
+
+    private boolean active;
+    private long startNanos;
+    private long authNanos;
+    private long handlerStartNanos;
+    private long bodyWriteStartNanos;
+    private long handlerEndNanos;
+    private int sqlCount;
+    private long sqlNanos;
+    private long sqlStartNanos;
+    private long connectionNanos;
+    private long connectionStartNanos;
+
+    private RequestTiming() {
+    }
+
+    static RequestTiming begin() {
+        RequestTiming timing = CURRENT.get();
+        timing.active = true;
+        timing.startNanos = System.nanoTime();
+        timing.authNanos = 0;
+        timing.handlerStartNanos = 0;
+        timing.bodyWriteStartNanos = 0;
+        timing.handlerEndNanos = 0;
+        timing.sqlCount = 0;
+        timing.sqlNanos = 0;
+        timing.connectionNanos = 0;
+        return timing;
+    }
+
+    /**
+     * The timing of the request on this thread, or {@code null} outside an instrumented request
+     * (scheduled jobs, startup).
+     */
+    public static RequestTiming current() {
+        RequestTiming timing = CURRENT.get();
+        return timing.active ? timing : null;
+    }
+
+    void end() {
+        active = false;
+    }
+
+    public void addAuth(long nanos) {
+        authNanos += nanos;
+    }
+
+    void handlerStarted() {
+        handlerStartNanos = System.nanoTime();
+    }
+
+    void bodyWriteStarted() {
+        if (bodyWriteStartNanos == 0) {
+            bodyWriteStartNanos = System.nanoTime();
+        }
+    }
+
+    void handlerEnded() {
+        handlerEndNanos = System.nanoTime();
+    }
+
+    void sqlStarted() {
+        sqlStartNanos = System.nanoTime();
+    }
+
+    void sqlEnded() {
+        sqlCount++;
+        sqlNanos += System.nanoTime() - sqlStartNanos;
+    }
+
+    void connectionRequested() {
+        connectionStartNanos = System.nanoTime();
+    }
+
+    void connectionAcquired() {
+        connectionNanos += System.nanoTime() - connectionStartNanos;
+    }
+
+    long totalNanos(long nowNanos) {
+        return nowNanos - startNanos;
+    }
+
+    long authNanos() {
+        return authNanos;
+    }
+
+    long serviceNanos() {
+        if (handlerStartNanos == 0) {
+            return 0;
+        }
+        long serviceEnd = bodyWriteStartNanos != 0 ? bodyWriteStartNanos : handlerEndNanos;
+        return serviceEnd == 0 ? 0 : serviceEnd - handlerStartNanos;
+    }
+
+    long serializationNanos() {
+        return bodyWriteStartNanos == 0 || handlerEndNanos == 0 ? 0 : handlerEndNanos - bodyWriteStartNanos;
+    }
+
+    int sqlCount() {
+        return sqlCount;
+    }
+
+    long sqlNanos() {
+        return sqlNanos;
+    }
+
+    long connectionNanos() {
+        return connectionNanos;
+    }
+}
@@ -0,0 +1,17 @@
+package com.leaveease.leaveease_api.web;
+
+import java.time.Instant;
+
+public record RequestTimingSnapshot(
+        Instant at,
+        String method,
+        String path,
+        int status,
+        long totalMs,
+        long authMs,
+        long serviceMs,
+        long serializationMs,
+        int sqlCount,
+        long sqlMs,
+        long connectionWaitMs) {
+}
@@ -0,0 +1,104 @@
+package com.leaveease.leaveease_api.web;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logs requests slower than the threshold with their phase breakdown and keeps the slowest
+ * {@code top-size} requests of the recent window for the {@code slowrequests} actuator endpoint.
+ * Requests faster than both the threshold and the current top-N floor are rejected after two
+ * volatile reads, without allocating.
+ */
+@Slf4j
+@Component
+public class SlowRequestLog {
+
+    private final AppProperties.RequestTiming config;
+    private final long thresholdNanos;
+    private final PriorityQueue<Entry> slowest = new PriorityQueue<>(Comparator.comparingLong(Entry::totalNanos));
+    private volatile long admissionFloorNanos;
+    private volatile long floorValidUntilNanos;
+
+    public SlowRequestLog(AppProperties appProperties) {
+        this.config = appProperties.getRequestTiming();
+        this.thresholdNanos = config.getSlowThreshold().toNanos();
+    }
+
+    void record(RequestTiming timing, long nowNanos, String method, String path, int status) {
+        long totalNanos = timing.totalNanos(nowNanos);
+        boolean slow = totalNanos >= thresholdNanos;
+        if (!slow && totalNanos <= admissionFloorNanos && nowNanos - floorValidUntilNanos < 0) {
+            return;
+        }
+
+        RequestTimingSnapshot snapshot = new RequestTimingSnapshot(
+                Instant.now(), method, path, status,
+                millis(totalNanos), millis(timing.authNanos()), millis(timing.serviceNanos()),
+                millis(timing.serializationNanos()), timing.sqlCount(), millis(timing.sqlNanos()),
+                millis(timing.connectionNanos()));
+
+        if (slow) {
+            log.warn("Slow request {} {} -> {} in {} ms [auth={} ms, service={} ms, sql={} statements/{} ms, "
+                            + "connection wait={} ms, serialization={} ms]",
+                    method, path, status, snapshot.totalMs(), snapshot.authMs(), snapshot.serviceMs(),
+                    snapshot.sqlCount(), snapshot.sqlMs(), snapshot.connectionWaitMs(), snapshot.serializationMs());
+        }
+        admit(new Entry(totalNanos, nowNanos, snapshot));
+    }
+
+    public synchronized List<RequestTimingSnapshot> slowest() {
+        evictExpired(System.nanoTime());
+        List<Entry> entries = new ArrayList<>(slowest);
+        entries.sort(Comparator.comparingLong(Entry::totalNanos).reversed());
+        return entries.stream().map(Entry::snapshot).toList();
+    }
+
+    private synchronized void admit(Entry entry) {
+        evictExpired(entry.recordedAtNanos());
+        if (slowest.size() < config.getTopSize()) {
+            slowest.add(entry);
+        } else if (entry.totalNanos() > slowest.peek().totalNanos()) {
+            slowest.poll();
+            slowest.add(entry);
+        }
+        updateFloor();
+    }
+
+    private void evictExpired(long nowNanos) {
+        long windowNanos = config.getWindow().toNanos();
+        if (slowest.removeIf(e -> nowNanos - e.recordedAtNanos() > windowNanos)) {
+            updateFloor();
+        }
+    }
+
+    /**
+     * The floor only holds until the oldest retained entry leaves the window.
+     */
+    private void updateFloor() {
+        if (slowest.size() < config.getTopSize()) {
+            admissionFloorNanos = 0;
+            return;
+        }
+        long oldest = Long.MAX_VALUE;
+        for (Entry entry : slowest) {
+            oldest = Math.min(oldest, entry.recordedAtNanos());
+        }
+        admissionFloorNanos = slowest.peek().totalNanos();
+        floorValidUntilNanos = oldest + config.getWindow().toNanos();
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private record Entry(long totalNanos, long recordedAtNanos, RequestTimingSnapshot snapshot) {
+    }
+}
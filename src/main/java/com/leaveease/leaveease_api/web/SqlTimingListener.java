@@ -0,0 +1,52 @@
+package com.leaveease.leaveease_api.web;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener (registered through {@code hibernate.session.events.auto}) that adds
+ * statement counts and JDBC time to the {@link RequestTiming} of the current request.
+ */
+public class SqlTimingListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.sqlStarted();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.sqlEnded();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.connectionRequested();
+        }
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.connectionAcquired();
+        }
+    }
+}
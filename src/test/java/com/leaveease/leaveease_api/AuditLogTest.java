@@ -0,0 +1,90 @@
+package com.leaveease.leaveease_api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leaveease.leaveease_api.service.AuditWorker;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AuditLogTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuditWorker auditWorker;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+    private String employeeToken;
+    private String adminToken;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        adminToken = TestAccounts.registerAdmin(mockMvc, "aud-" + suffix, "aud_adm_" + suffix);
+        employeeToken = TestAccounts.provision(mockMvc, adminToken, "aud_emp_" + suffix, "EMPLOYEE");
+    }
+
+    @Test
+    @DisplayName("Create + approve → both lifecycle events appear in GET /api/audit after the worker runs")
+    void lifecycleEvents_areAudited() throws Exception {
+        LocalDate start = LocalDate.now().plusDays(30);
+        String body = """
+                {
+                    "leaveType": "SICK",
+                    "startDate": "%s",
+                    "endDate": "%s"
+                }
+                """.formatted(start, start.plusDays(1));
+
+        MvcResult created = mockMvc.perform(post("/api/leaves")
+                        .header("Authorization", "Bearer " + employeeToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn();
+        JsonNode json = objectMapper.readTree(created.getResponse().getContentAsString());
+        long leaveId = json.get("id").asLong();
+
+        mockMvc.perform(put("/api/leaves/" + leaveId + "/approve")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+
+        auditWorker.drain();
+
+        mockMvc.perform(get("/api/audit")
+                        .param("leaveRequestId", Long.toString(leaveId))
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].eventType").value("APPROVED"))
+                .andExpect(jsonPath("$.content[0].actorUsername").value("aud_adm_" + suffix))
+                .andExpect(jsonPath("$.content[1].eventType").value("CREATED"))
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    @DisplayName("EMPLOYEE: GET /api/audit → 403 Forbidden")
+    void employee_cannotReadAudit() throws Exception {
+        mockMvc.perform(get("/api/audit")
+                        .header("Authorization", "Bearer " + employeeToken))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,157 @@
+package com.leaveease.leaveease_api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CalendarFeedTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+    private String employeeToken;
+    private String adminToken;
+
+    private JsonNode links(String token) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/calendar/feeds")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private String path(String url) {
+        return URI.create(url).getPath();
+    }
+
+    @BeforeAll
+    void setUp() throws Exception {
+        adminToken = TestAccounts.registerAdmin(mockMvc, "cal-" + suffix, "cal_adm_" + suffix);
+        employeeToken = TestAccounts.provision(mockMvc, adminToken, "cal_emp_" + suffix, "EMPLOYEE");
+    }
+
+    @Test
+    @DisplayName("Feeds are served with ETag, answer 304 when unchanged, and pick up an approval without a reload")
+    void feed_isCachedAndUpdatedOnApproval() throws Exception {
+        String personal = path(links(employeeToken).get("personal").asText());
+        String organization = path(links(adminToken).get("organization").asText());
+
+        LocalDate start = LocalDate.now().plusDays(12);
+        MvcResult created = mockMvc.perform(post("/api/leaves")
+                        .header("Authorization", "Bearer " + employeeToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"leaveType": "ANNUAL", "startDate": "%s", "endDate": "%s", "reason": "Trip; Paris, France"}
+                                """.formatted(start, start.plusDays(2))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long leaveId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        MvcResult first = mockMvc.perform(get(personal))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/calendar"))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(content().string(containsString("BEGIN:VCALENDAR\r\n")))
+                .andExpect(content().string(not(containsString("BEGIN:VEVENT"))))
+                .andReturn();
+        String etag = first.getResponse().getHeader("ETag");
+
+        mockMvc.perform(get(personal).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get(organization))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(put("/api/leaves/" + leaveId + "/approve")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+
+        MvcResult updated = mockMvc.perform(get(personal).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("UID:leave-" + leaveId + "@leaveease")))
+                .andExpect(content().string(containsString("DTSTART;VALUE=DATE:" + start.toString().replace("-", ""))))
+                .andExpect(content().string(containsString(
+                        "DTEND;VALUE=DATE:" + start.plusDays(3).toString().replace("-", ""))))
+                .andExpect(content().string(containsString("DESCRIPTION:Trip\\; Paris\\, France")))
+                .andReturn();
+        assertNotEquals(etag, updated.getResponse().getHeader("ETag"));
+
+        mockMvc.perform(get(organization))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("SUMMARY:cal_emp_" + suffix + ": Annual leave")))
+                .andExpect(content().string(not(containsString("DESCRIPTION"))));
+    }
+
+    @Test
+    @DisplayName("EMPLOYEE gets only a personal feed; a tampered token → 404")
+    void feedLinks_areScopedAndSigned() throws Exception {
+        JsonNode links = links(employeeToken);
+        assertNull(links.get("organization"));
+
+        String personal = path(links.get("personal").asText());
+        String tampered = personal.replace(".ics", "A.ics");
+        mockMvc.perform(get(tampered))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Rotating revokes the caller's old feed URLs; the new ones resolve")
+    void rotate_revokesOldUrls() throws Exception {
+        String before = path(links(employeeToken).get("personal").asText());
+        mockMvc.perform(get(before))
+                .andExpect(status().isOk());
+
+        MvcResult result = mockMvc.perform(post("/api/calendar/feeds/rotate")
+                        .header("Authorization", "Bearer " + employeeToken))
+                .andExpect(status().isOk())
+                .andReturn();
+        String after = path(objectMapper.readTree(result.getResponse().getContentAsString()).get("personal").asText());
+
+        assertNotEquals(before, after);
+        mockMvc.perform(get(before))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get(after))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("An organization feed stops resolving once its owner is no longer an admin")
+    void organizationFeed_requiresAdminOwner() throws Exception {
+        String adminName = "cal_dem_" + suffix;
+        String demotedToken = TestAccounts.provision(mockMvc, adminToken, adminName, "ADMIN");
+        String organization = path(links(demotedToken).get("organization").asText());
+
+        jdbcTemplate.update("UPDATE users SET role = 'EMPLOYEE' WHERE username = ?", adminName);
+
+        mockMvc.perform(get(organization))
+                .andExpect(status().isNotFound());
+    }
+}
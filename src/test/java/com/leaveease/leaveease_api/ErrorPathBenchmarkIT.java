@@ -0,0 +1,129 @@
+package com.leaveease.leaveease_api;
+
+import com.leaveease.leaveease_api.exception.GlobalExceptionHandler;
+import com.leaveease.leaveease_api.exception.LeaveOverlapException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Overlap rejection as it reaches the client: throw at a servlet-like stack depth, map in the exception
+ * handler and serialize. Compares the previous path (stack-trace exception, map body) with the domain
+ * exception and problem record. Timing depends on the machine, so like {@link StartupBenchmarkIT} this runs
+ * under failsafe in the {@code fast-start} profile only; results go to
+ * {@code target/error-path-benchmark.properties}.
+ */
+class ErrorPathBenchmarkIT {
+
+    private static final int STACK_DEPTH = 120;
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/leaves");
+
+    private long sink;
+
+    @Test
+    @DisplayName("Domain exception + problem record allocate less and run faster than stack-trace exception + map")
+    void domainPath_beatsLegacyPath() throws Exception {
+        Runnable legacy = () -> {
+            try {
+                throwAt(STACK_DEPTH, () -> new LegacyOverlapException("You already have a leave request overlapping these dates"));
+            } catch (LegacyOverlapException e) {
+                sink += jsonMapper.writeValueAsBytes(legacyResponse(e.getMessage()).getBody()).length;
+            }
+        };
+        Runnable domain = () -> {
+            try {
+                throwAt(STACK_DEPTH, () -> new LeaveOverlapException("You already have a leave request overlapping these dates"));
+            } catch (LeaveOverlapException e) {
+                sink += jsonMapper.writeValueAsBytes(handler.handleDomain(e, request).getBody()).length;
+            }
+        };
+
+        run(legacy, WARMUP);
+        run(domain, WARMUP);
+        long[] legacyResult = measure(legacy);
+        long[] domainResult = measure(domain);
+
+        Properties results = new Properties();
+        results.setProperty("iterations", Integer.toString(ITERATIONS));
+        results.setProperty("stack-depth", Integer.toString(STACK_DEPTH));
+        results.setProperty("legacy.bytes-per-op", Long.toString(legacyResult[0]));
+        results.setProperty("legacy.ns-per-op", Long.toString(legacyResult[1]));
+        results.setProperty("domain.bytes-per-op", Long.toString(domainResult[0]));
+        results.setProperty("domain.ns-per-op", Long.toString(domainResult[1]));
+        Files.createDirectories(Path.of("target"));
+        try (OutputStream out = Files.newOutputStream(Path.of("target", "error-path-benchmark.properties"))) {
+            results.store(out, "Overlap rejection: throw, map to response body, serialize");
+        }
+
+        assertTrue(sink > 0);
+        assertEquals(0, new LeaveOverlapException("overlap").getStackTrace().length);
+        assertTrue(domainResult[0] < legacyResult[0],
+                "domain path allocated " + domainResult[0] + " B/op vs legacy " + legacyResult[0] + " B/op");
+        assertTrue(domainResult[1] < legacyResult[1],
+                "domain path took " + domainResult[1] + " ns/op vs legacy " + legacyResult[1] + " ns/op");
+    }
+
+    /**
+     * @return allocated bytes per operation and nanoseconds per operation
+     */
+    private long[] measure(Runnable operation) {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        run(operation, ITERATIONS);
+        long elapsed = System.nanoTime() - startedAt;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        return new long[]{allocated / ITERATIONS, elapsed / ITERATIONS};
+    }
+
+    private static void run(Runnable operation, int times) {
+        for (int i = 0; i < times; i++) {
+            operation.run();
+        }
+    }
+
+    private static void throwAt(int depth, Supplier<RuntimeException> exception) {
+        if (depth == 0) {
+            throw exception.get();
+        }
+        throwAt(depth - 1, exception);
+    }
+
+    private static ResponseEntity<Map<String, Object>> legacyResponse(String message) {
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now().toString());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", message);
+        return ResponseEntity.status(status).body(body);
+    }
+
+    private static class LegacyOverlapException extends RuntimeException {
+        LegacyOverlapException(String message) {
+            super(message);
+        }
+    }
+}
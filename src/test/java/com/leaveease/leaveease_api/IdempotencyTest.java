@@ -0,0 +1,126 @@
+package com.leaveease.leaveease_api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IdempotencyTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String username = "idem_" + UUID.randomUUID().toString().substring(0, 8);
+
+    private String employeeToken;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        employeeToken = TestAccounts.employee(mockMvc, username);
+    }
+
+    private String leaveBody(int offsetDays, String reason) {
+        LocalDate start = LocalDate.now().plusDays(offsetDays);
+        return """
+                {
+                    "leaveType": "ANNUAL",
+                    "startDate": "%s",
+                    "endDate": "%s",
+                    "reason": "%s"
+                }
+                """.formatted(start, start.plusDays(2), reason);
+    }
+
+    @Test
+    @DisplayName("POST /api/leaves retried with the same Idempotency-Key → original response replayed")
+    void createLeave_sameKey_replaysOriginalResponse() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = leaveBody(40, "Retry me");
+
+        MvcResult first = mockMvc.perform(post("/api/leaves")
+                        .header("Authorization", "Bearer " + employeeToken)
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andReturn();
+
+        MvcResult second = mockMvc.perform(post("/api/leaves")
+                        .header("Authorization", "Bearer " + employeeToken)
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andReturn();
+
+        JsonNode original = objectMapper.readTree(first.getResponse().getContentAsString());
+        JsonNode replayed = objectMapper.readTree(second.getResponse().getContentAsString());
+        assertEquals(original.get("id").asLong(), replayed.get("id").asLong());
+    }
+
+    @Test
+    @DisplayName("POST /api/leaves reusing an Idempotency-Key with a different body → 422")
+    void createLeave_sameKeyDifferentBody_returns422() throws Exception {
+        String key = UUID.randomUUID().toString();
+
+        mockMvc.perform(post("/api/leaves")
+                        .header("Authorization", "Bearer " + employeeToken)
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(leaveBody(60, "First")))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/leaves")
+                        .header("Authorization", "Bearer " + employeeToken)
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(leaveBody(80, "Second")))
+                .andExpect(status().isUnprocessableContent())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.type").value("/problems/idempotency-key-reused"))
+                .andExpect(jsonPath("$.detail").value("Idempotency-Key was already used with a different request body"));
+    }
+
+    @Test
+    @DisplayName("POST /api/auth/register retried with the same Idempotency-Key → 201 replayed, no duplicate error")
+    void register_sameKey_replaysOriginalResponse() throws Exception {
+        String name = "idem_" + UUID.randomUUID().toString().substring(0, 8);
+        String key = UUID.randomUUID().toString();
+        String body = """
+                {
+                    "username": "%s",
+                    "email": "%s@test.com",
+                    "password": "Test@12345",
+                    "organization": "org-%s"
+                }
+                """.formatted(name, name, name.replace('_', '-'));
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/auth/register")
+                            .header("Idempotency-Key", key)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.username").value(name));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.leaveease.leaveease_api;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.security.TenantPrincipal;
+import com.leaveease.leaveease_api.service.InMemoryIdempotencyStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class InMemoryIdempotencyStoreTest {
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static void actAs(Long organizationId) {
+        SecurityContextHolder.getContext().setAuthentication(organizationId == null ? null
+                : new UsernamePasswordAuthenticationToken(new TenantPrincipal("u" + organizationId, organizationId),
+                null, List.of()));
+    }
+
+    @Test
+    @DisplayName("More organizations than partitions → idle partitions evicted, active tenants and registrations kept")
+    void manyOrganizations_evictOnlyIdlePartitions() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.getIdempotency().setMaxEntries(6);
+        appProperties.getIdempotency().setMaxEntriesPerTenant(2);
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(appProperties);
+
+        actAs(null);
+        assertNull(store.reserve("register", "r"));
+        actAs(1L);
+        assertNull(store.reserve("hot", "h"));
+
+        for (long organization = 2; organization <= 10; organization++) {
+            actAs(organization);
+            for (int i = 0; i < 50; i++) {
+                store.reserve("k" + i, "f");
+            }
+            actAs(1L);
+            assertNotNull(store.reserve("hot", "h"), "evicted after organization " + organization);
+        }
+
+        actAs(null);
+        assertNotNull(store.reserve("register", "r"));
+        actAs(2L);
+        assertNull(store.reserve("k49", "f"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.leaveease.leaveease_api;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Inserts one row in a transaction that stays open on another thread until {@link #commit()}, so
+ * the row takes its id now but only becomes visible after rows inserted in the meantime.
+ */
+final class LateCommit {
+
+    private final CountDownLatch inserted = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicLong id = new AtomicLong();
+    private final Thread writer;
+
+    private LateCommit(PlatformTransactionManager transactionManager, JdbcTemplate jdbcTemplate,
+                       String insertSql, Object... args) {
+        this.writer = new Thread(() -> new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                var statement = connection.prepareStatement(insertSql, new String[]{"id"});
+                for (int i = 0; i < args.length; i++) {
+                    statement.setObject(i + 1, args[i]);
+                }
+                return statement;
+            }, keyHolder);
+            id.set(keyHolder.getKey().longValue());
+            inserted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+    }
+
+    static LateCommit insert(PlatformTransactionManager transactionManager, JdbcTemplate jdbcTemplate,
+                             String insertSql, Object... args) throws InterruptedException {
+        LateCommit lateCommit = new LateCommit(transactionManager, jdbcTemplate, insertSql, args);
+        lateCommit.writer.start();
+        assertTrue(lateCommit.inserted.await(10, TimeUnit.SECONDS));
+        return lateCommit;
+    }
+
+    long id() {
+        return id.get();
+    }
+
+    void commit() throws InterruptedException {
+        release.countDown();
+        writer.join(10_000);
+    }
+}
@@ -0,0 +1,82 @@
+package com.leaveease.leaveease_api;
+
+import com.leaveease.leaveease_api.dto.LeaveRequestResponseDto;
+import com.leaveease.leaveease_api.entity.LeaveRequest;
+import com.leaveease.leaveease_api.entity.LeaveStatus;
+import com.leaveease.leaveease_api.entity.LeaveType;
+import com.leaveease.leaveease_api.entity.User;
+import com.leaveease.leaveease_api.repository.ArchivedLeaveRequestRepository;
+import com.leaveease.leaveease_api.repository.LeaveRequestRepository;
+import com.leaveease.leaveease_api.service.LeaveArchiver;
+import com.leaveease.leaveease_api.service.LeaveService;
+import com.leaveease.leaveease_api.service.OrganizationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class LeaveArchiverTest {
+
+    @Autowired
+    private LeaveArchiver leaveArchiver;
+
+    @Autowired
+    private LeaveService leaveService;
+
+    @Autowired
+    private OrganizationService organizationService;
+
+    @Autowired
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Autowired
+    private ArchivedLeaveRequestRepository archivedLeaveRequestRepository;
+
+    private LeaveRequest leave(User user, LocalDate start, LeaveStatus status) {
+        return leaveRequestRepository.save(LeaveRequest.builder()
+                .organization(user.getOrganization())
+                .user(user)
+                .leaveType(LeaveType.ANNUAL)
+                .startDate(start)
+                .endDate(start.plusDays(2))
+                .status(status)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Closed requests past the horizon move to the archive and are still returned for ranges that need them")
+    void archive_movesOldClosedRequests() {
+        String username = "arc_" + UUID.randomUUID().toString().substring(0, 8);
+        User user = organizationService.registerOrganization(username.replace('_', '-'), User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password("irrelevant")
+                .build());
+
+        LeaveRequest old = leave(user, LocalDate.now().minusYears(2), LeaveStatus.APPROVED);
+        LeaveRequest oldPending = leave(user, LocalDate.now().minusYears(2).plusDays(10), LeaveStatus.PENDING);
+        LeaveRequest recent = leave(user, LocalDate.now().plusDays(5), LeaveStatus.APPROVED);
+
+        leaveArchiver.archive();
+
+        assertFalse(leaveRequestRepository.existsById(old.getId()));
+        assertTrue(archivedLeaveRequestRepository.existsById(old.getId()));
+        assertTrue(leaveRequestRepository.existsById(oldPending.getId()));
+        assertTrue(leaveRequestRepository.existsById(recent.getId()));
+
+        List<Long> everything = leaveService.getMyLeaves(username).stream().map(LeaveRequestResponseDto::getId).toList();
+        assertTrue(everything.containsAll(List.of(old.getId(), oldPending.getId(), recent.getId())));
+
+        List<Long> thisYear = leaveService.getMyLeaves(username, LocalDate.now().minusMonths(1), null).stream()
+                .map(LeaveRequestResponseDto::getId)
+                .toList();
+        assertEquals(List.of(recent.getId()), thisYear);
+    }
+}
@@ -0,0 +1,106 @@
+package com.leaveease.leaveease_api;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class LeaveBatchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private String register() throws Exception {
+        return TestAccounts.employee(mockMvc, "bat_" + UUID.randomUUID().toString().substring(0, 8));
+    }
+
+    private String range(LocalDate start, LocalDate end) {
+        return """
+                {"leaveType": "CASUAL", "startDate": "%s", "endDate": "%s"}""".formatted(start, end);
+    }
+
+    private String batch(String... ranges) {
+        return "{\"leaves\": [" + String.join(",", ranges) + "]}";
+    }
+
+    @Test
+    @DisplayName("POST /api/leaves/batch with disjoint ranges → 201 with every request, in submission order")
+    void createBatch_disjointRanges_returns201() throws Exception {
+        String token = register();
+        LocalDate base = LocalDate.now().plusDays(40);
+
+        mockMvc.perform(post("/api/leaves/batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch(
+                                range(base.plusDays(14), base.plusDays(15)),
+                                range(base, base.plusDays(1)),
+                                range(base.plusDays(7), base.plusDays(8)))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].startDate").value(base.plusDays(14).toString()))
+                .andExpect(jsonPath("$[1].startDate").value(base.toString()))
+                .andExpect(jsonPath("$[2].status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("POST /api/leaves/batch with ranges overlapping each other → 400, nothing created")
+    void createBatch_selfOverlap_createsNothing() throws Exception {
+        String token = register();
+        LocalDate base = LocalDate.now().plusDays(40);
+
+        mockMvc.perform(post("/api/leaves/batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch(
+                                range(base, base.plusDays(3)),
+                                range(base.plusDays(10), base.plusDays(11)),
+                                range(base.plusDays(3), base.plusDays(5)))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Ranges 1 and 3 overlap each other"));
+
+        mockMvc.perform(get("/api/leaves/my")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("POST /api/leaves/batch with one range overlapping an existing leave → 400, nothing created")
+    void createBatch_overlapWithExisting_createsNothing() throws Exception {
+        String token = register();
+        LocalDate base = LocalDate.now().plusDays(40);
+
+        mockMvc.perform(post("/api/leaves")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(range(base.plusDays(20), base.plusDays(22))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/leaves/batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch(
+                                range(base, base.plusDays(1)),
+                                range(base.plusDays(21), base.plusDays(25)))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.type").value("/problems/leave-overlap"));
+
+        mockMvc.perform(get("/api/leaves/my")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+}
@@ -4,7 +4,6 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.leaveease.leaveease_api.entity.Role;
-import com.leaveease.leaveease_api.entity.User;
 import com.leaveease.leaveease_api.repository.UserRepository;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +17,7 @@ import java.time.LocalDate;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -52,9 +52,10 @@ class LeaveEndpointsTest {
                 {
                     "username": "%s",
                     "email": "%s",
-                    "password": "%s"
+                    "password": "%s",
+                    "organization": "org-%s"
                 }
-                """.formatted(username, email, password);
+                """.formatted(username, email, password, uniqueSuffix);
 
         MvcResult result = mockMvc.perform(post("/api/auth/register")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -90,13 +91,11 @@ class LeaveEndpointsTest {
 
     @BeforeAll
     void setUp() throws Exception {
-        employeeToken = registerUser(employeeUsername, employeeUsername + "@test.com");
+        adminToken = registerUser(adminUsername, adminUsername + "@test.com");
+        assertEquals(Role.ADMIN, userRepository.findByUsername(adminUsername).orElseThrow().getRole());
 
-        registerUser(adminUsername, adminUsername + "@test.com");
-        User adminUser = userRepository.findByUsername(adminUsername).orElseThrow();
-        adminUser.setRole(Role.ADMIN);
-        userRepository.save(adminUser);
-        adminToken = loginUser(adminUsername);
+        TestAccounts.add(mockMvc, adminToken, employeeUsername, "EMPLOYEE");
+        employeeToken = loginUser(employeeUsername);
     }
 
     // ───────────────────── EMPLOYEE: create leave ─────────────────────
@@ -276,6 +275,11 @@ class LeaveEndpointsTest {
     void admin_approveNonExistent_returns404() throws Exception {
         mockMvc.perform(put("/api/leaves/999999/approve")
                         .header("Authorization", "Bearer " + adminToken))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.type").value("/problems/not-found"))
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.detail").value("Leave request not found with id: 999999"))
+                .andExpect(jsonPath("$.instance").value("/api/leaves/999999/approve"));
     }
 }
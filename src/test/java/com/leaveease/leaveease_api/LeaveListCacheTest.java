@@ -0,0 +1,250 @@
+package com.leaveease.leaveease_api;
+
+import com.leaveease.leaveease_api.dto.LeaveRequestResponseDto;
+import com.leaveease.leaveease_api.exception.DatabaseUnavailableException;
+import com.leaveease.leaveease_api.service.LeaveListCache;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "app.leave-cache.fresh-for=PT0S",
+        "app.leave-cache.stale-while-revalidate=PT2S",
+        "app.leave-cache.stale-if-error=PT1H",
+        "app.leave-cache.breaker.failure-threshold=2",
+        "app.leave-cache.breaker.open-duration=PT1H",
+        "app.leave-cache.max-entries=50",
+        "app.leave-cache.max-entries-per-tenant=1",
+        "app.read-replicas.read-your-writes-window=PT1S"
+})
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class LeaveListCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LeaveListCache leaveListCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static List<LeaveRequestResponseDto> leaves(long id) {
+        return List.of(LeaveRequestResponseDto.builder().id(id).build());
+    }
+
+    private static LeaveListCache.Key key() {
+        return new LeaveListCache.Key(ThreadLocalRandom.current().nextLong(1_000_000, 2_000_000), null, null, null);
+    }
+
+    private static Supplier<List<LeaveRequestResponseDto>> blockingLoader(CountDownLatch release, AtomicInteger calls,
+                                                                          long id) {
+        return () -> {
+            calls.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return leaves(id);
+        };
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("GET /api/leaves/my reads past the cache right after the caller's own write, then serves the cached list flagged while it revalidates")
+    void myLeaves_invalidatedByOwnWrite() throws Exception {
+        String username = "llc_" + UUID.randomUUID().toString().substring(0, 8);
+        String token = TestAccounts.employee(mockMvc, username);
+
+        mockMvc.perform(get("/api/leaves/my").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        LocalDate start = LocalDate.now().plusDays(30);
+        mockMvc.perform(post("/api/leaves")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"leaveType": "ANNUAL", "startDate": "%s", "endDate": "%s"}
+                                """.formatted(start, start.plusDays(1))))
+                .andExpect(status().isCreated());
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/leaves/my").header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("X-Data-Stale"))
+                    .andExpect(jsonPath("$", hasSize(1)));
+        }
+
+        Thread.sleep(1_100);
+        leaveListCache.catchUp();
+        mockMvc.perform(get("/api/leaves/my").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/leaves/my").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Data-Stale", "revalidating"))
+                .andExpect(header().exists("Age"))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Concurrent misses and stale hits share one load per key")
+    void loads_areCoalesced() throws Exception {
+        LeaveListCache.Key missKey = key();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        int threads = 8;
+        CountDownLatch ready = new CountDownLatch(threads);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<LeaveListCache.Result>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(pool.submit(() -> {
+                    ready.countDown();
+                    return leaveListCache.read(missKey, blockingLoader(release, calls, 1));
+                }));
+            }
+            ready.await();
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<LeaveListCache.Result> result : results) {
+                assertEquals(1L, result.get(5, TimeUnit.SECONDS).leaves().getFirst().getId());
+            }
+            assertEquals(1, calls.get());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        LeaveListCache.Key staleKey = key();
+        leaveListCache.read(staleKey, () -> leaves(1));
+        CountDownLatch refreshRelease = new CountDownLatch(1);
+        AtomicInteger refreshes = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            LeaveListCache.Result result = leaveListCache.read(staleKey, blockingLoader(refreshRelease, refreshes, 2));
+            assertEquals(LeaveListCache.REVALIDATING, result.stale());
+            assertEquals(1L, result.leaves().getFirst().getId());
+        }
+        refreshRelease.countDown();
+        for (int attempt = 0; attempt < 50 && refreshes.get() == 0; attempt++) {
+            Thread.sleep(20);
+        }
+        assertEquals(1, refreshes.get());
+        long id = 0;
+        for (int attempt = 0; attempt < 50 && id != 2; attempt++) {
+            Thread.sleep(20);
+            id = leaveListCache.read(staleKey, () -> leaves(2)).leaves().getFirst().getId();
+        }
+        assertEquals(2L, id);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("A change committed on another node drops the cached list once the outbox is tailed")
+    void myLeaves_invalidatedByOutbox() throws Exception {
+        String username = "llc_" + UUID.randomUUID().toString().substring(0, 8);
+        String token = TestAccounts.employee(mockMvc, username);
+        LocalDate start = LocalDate.now().plusDays(40);
+        mockMvc.perform(post("/api/leaves")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"leaveType": "ANNUAL", "startDate": "%s", "endDate": "%s"}
+                                """.formatted(start, start.plusDays(1))))
+                .andExpect(status().isCreated());
+        Thread.sleep(1_100);
+        leaveListCache.catchUp();
+
+        mockMvc.perform(get("/api/leaves/my").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("PENDING"));
+
+        Map<String, Object> leave = jdbcTemplate.queryForMap("""
+                SELECT lr.id, lr.organization_id FROM leave_requests lr JOIN users u ON u.id = lr.user_id
+                WHERE u.username = ?
+                """, username);
+        jdbcTemplate.update("UPDATE leave_requests SET status = 'REJECTED' WHERE id = ?", leave.get("ID"));
+        jdbcTemplate.update("""
+                INSERT INTO outbox_events (event_type, organization_id, leave_request_id, actor_username,
+                                           subject_username, payload, occurred_at)
+                VALUES ('REJECTED', ?, ?, 'other-node', ?, '{}', ?)
+                """, leave.get("ORGANIZATION_ID"), leave.get("ID"), username, LocalDateTime.now());
+
+        leaveListCache.catchUp();
+
+        mockMvc.perform(get("/api/leaves/my").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Data-Stale"))
+                .andExpect(jsonPath("$[0].status").value("REJECTED"));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Failing database → stale list served, then the breaker opens and stops calling it")
+    void databaseFailure_servesStaleAndOpensBreaker() throws Exception {
+        LeaveListCache.Key key = key();
+        leaveListCache.read(key, () -> leaves(7));
+        Thread.sleep(2_100);
+
+        Supplier<List<LeaveRequestResponseDto>> failing = () -> {
+            throw new DataAccessResourceFailureException("connection refused");
+        };
+        for (int i = 0; i < 2; i++) {
+            LeaveListCache.Result result = leaveListCache.read(key, failing);
+            assertEquals(LeaveListCache.DATABASE_ERROR, result.stale());
+            assertEquals(7L, result.leaves().getFirst().getId());
+        }
+
+        AtomicInteger calls = new AtomicInteger();
+        LeaveListCache.Result result = leaveListCache.read(key, () -> {
+            calls.incrementAndGet();
+            return leaves(8);
+        });
+        assertEquals(LeaveListCache.CIRCUIT_OPEN, result.stale());
+        assertEquals(7L, result.leaves().getFirst().getId());
+        assertEquals(0, calls.get());
+
+        LeaveListCache.Key sameOrganization = new LeaveListCache.Key(key.organizationId(), "someone", null, null);
+        assertThrows(DatabaseUnavailableException.class, () -> leaveListCache.read(sameOrganization, () -> leaves(9)));
+        assertEquals(9L, leaveListCache.read(key(), () -> leaves(9)).leaves().getFirst().getId());
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("More organizations than partitions → the least recently read one is evicted, newcomers are still cached")
+    void manyOrganizations_evictLeastRecentlyRead() {
+        LeaveListCache.Key first = key();
+        leaveListCache.read(first, () -> leaves(1));
+        for (int i = 0; i < 60; i++) {
+            leaveListCache.read(key(), () -> leaves(2));
+        }
+
+        LeaveListCache.Key newcomer = key();
+        leaveListCache.read(newcomer, () -> leaves(3));
+        assertEquals(LeaveListCache.REVALIDATING, leaveListCache.read(newcomer, () -> leaves(4)).stale());
+        assertNull(leaveListCache.read(first, () -> leaves(5)).stale());
+    }
+}
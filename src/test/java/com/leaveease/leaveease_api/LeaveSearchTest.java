@@ -0,0 +1,174 @@
+package com.leaveease.leaveease_api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leaveease.leaveease_api.service.LeaveSearchIndexer;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LeaveSearchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LeaveSearchIndexer leaveSearchIndexer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String employee = "srch_" + UUID.randomUUID().toString().substring(0, 8);
+
+    private String employeeToken;
+    private String adminToken;
+    private long weddingLeaveId;
+
+    private long createLeave(String type, int offsetDays, String reason) throws Exception {
+        return createLeave(employeeToken, type, offsetDays, reason);
+    }
+
+    private long createLeave(String token, String type, int offsetDays, String reason) throws Exception {
+        LocalDate start = LocalDate.now().plusDays(offsetDays);
+        MvcResult result = mockMvc.perform(post("/api/leaves")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "leaveType": "%s",
+                                    "startDate": "%s",
+                                    "endDate": "%s",
+                                    "reason": "%s"
+                                }
+                                """.formatted(type, start, start.plusDays(2), reason)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    @BeforeAll
+    void setUp() throws Exception {
+        adminToken = TestAccounts.registerAdmin(mockMvc, TestAccounts.orgFor(employee), employee + "_adm");
+        employeeToken = TestAccounts.provision(mockMvc, adminToken, employee, "EMPLOYEE");
+        weddingLeaveId = createLeave("ANNUAL", 100, "Sister's wedding in Goa");
+        createLeave("SICK", 110, "Dentist appointment");
+        createLeave("ANNUAL", 120, "Family trip");
+        leaveSearchIndexer.rebuild();
+    }
+
+    @Test
+    @DisplayName("GET /api/leaves/search?q=wedding → matching leave plus facet counts")
+    void search_fullText_returnsMatchesAndFacets() throws Exception {
+        mockMvc.perform(get("/api/leaves/search")
+                        .param("q", "wedding")
+                        .param("username", employee)
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].id").value(weddingLeaveId))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.facets.leaveType.ANNUAL").value(1))
+                .andExpect(jsonPath("$.facets.leaveType.SICK").value(0));
+    }
+
+    @Test
+    @DisplayName("GET /api/leaves/search filtered by username → facets by type and status over all matches")
+    void search_byUsername_countsFacets() throws Exception {
+        mockMvc.perform(get("/api/leaves/search")
+                        .param("username", employee)
+                        .param("size", "2")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.totalPages").value(2))
+                .andExpect(jsonPath("$.facets.leaveType.ANNUAL").value(2))
+                .andExpect(jsonPath("$.facets.leaveType.SICK").value(1))
+                .andExpect(jsonPath("$.facets.status.PENDING").value(3));
+    }
+
+    @Test
+    @DisplayName("Approving a leave is reflected in the index after the next catch-up")
+    void search_afterApproval_seesNewStatus() throws Exception {
+        long leaveId = createLeave("CASUAL", 130, "Moving house");
+        mockMvc.perform(put("/api/leaves/" + leaveId + "/approve")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+        leaveSearchIndexer.catchUp();
+
+        mockMvc.perform(get("/api/leaves/search")
+                        .param("username", employee)
+                        .param("status", "APPROVED")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].id").value(leaveId))
+                .andExpect(jsonPath("$.content[0].approvedByUsername").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("An outbox event committed after a higher id was applied → still applied")
+    void search_lateEvent_isApplied() throws Exception {
+        String colleague = employee + "_c";
+        String colleagueToken = TestAccounts.provision(mockMvc, adminToken, colleague, "EMPLOYEE");
+        long leaveId = createLeave(colleagueToken, "CASUAL", 140, "Conference travel");
+        leaveSearchIndexer.catchUp();
+
+        jdbcTemplate.update("UPDATE leave_requests SET reason = 'Sabbatical in Lisbon' WHERE id = ?", leaveId);
+        LateCommit late = LateCommit.insert(transactionManager, jdbcTemplate, """
+                INSERT INTO outbox_events (event_type, organization_id, leave_request_id,
+                                           actor_username, subject_username, payload, occurred_at)
+                SELECT event_type, organization_id, leave_request_id,
+                       actor_username, subject_username, payload, occurred_at
+                FROM outbox_events WHERE leave_request_id = ?
+                """, leaveId);
+        createLeave(colleagueToken, "CASUAL", 150, "Workshop");
+        leaveSearchIndexer.catchUp();
+
+        mockMvc.perform(get("/api/leaves/search")
+                        .param("q", "sabbatical")
+                        .param("username", colleague)
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(0)));
+
+        late.commit();
+        leaveSearchIndexer.catchUp();
+
+        mockMvc.perform(get("/api/leaves/search")
+                        .param("q", "sabbatical")
+                        .param("username", colleague)
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].id").value(leaveId));
+    }
+
+    @Test
+    @DisplayName("EMPLOYEE: GET /api/leaves/search → 403 Forbidden")
+    void employee_cannotSearch() throws Exception {
+        mockMvc.perform(get("/api/leaves/search")
+                        .header("Authorization", "Bearer " + employeeToken))
+                .andExpect(status().isForbidden());
+    }
+}
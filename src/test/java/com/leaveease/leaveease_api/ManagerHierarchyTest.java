@@ -0,0 +1,126 @@
+package com.leaveease.leaveease_api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ManagerHierarchyTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+    private final String organization = "hier-" + suffix;
+    private final String director = "hier_dir_" + suffix;
+    private final String lead = "hier_lead_" + suffix;
+    private final String outsider = "hier_out_" + suffix;
+    private final String employee = "hier_emp_" + suffix;
+
+    private String directorToken;
+    private String leadToken;
+    private String outsiderToken;
+    private String employeeToken;
+
+    private void setManager(String username, String manager) throws Exception {
+        mockMvc.perform(put("/api/users/" + username + "/manager")
+                        .header("Authorization", "Bearer " + directorToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(manager == null ? "{}" : "{\"managerUsername\": \"" + manager + "\"}"))
+                .andExpect(status().isNoContent());
+    }
+
+    private long createLeave(int offsetDays) throws Exception {
+        LocalDate start = LocalDate.now().plusDays(offsetDays);
+        MvcResult result = mockMvc.perform(post("/api/leaves")
+                        .header("Authorization", "Bearer " + employeeToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "leaveType": "CASUAL",
+                                    "startDate": "%s",
+                                    "endDate": "%s"
+                                }
+                                """.formatted(start, start.plusDays(1))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    @BeforeAll
+    void setUp() throws Exception {
+        directorToken = TestAccounts.registerAdmin(mockMvc, organization, director);
+        leadToken = TestAccounts.provision(mockMvc, directorToken, lead, "ADMIN");
+        outsiderToken = TestAccounts.provision(mockMvc, directorToken, outsider, "ADMIN");
+        employeeToken = TestAccounts.provision(mockMvc, directorToken, employee, "EMPLOYEE");
+        setManager(lead, director);
+        setManager(employee, lead);
+    }
+
+    @Test
+    @DisplayName("GET /api/leaves/pending → requests of direct and indirect reports only; outsiders cannot approve")
+    void pendingQueue_andApproval_followReportingLines() throws Exception {
+        long leaveId = createLeave(90);
+
+        mockMvc.perform(get("/api/leaves/pending")
+                        .header("Authorization", "Bearer " + directorToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", hasItem((int) leaveId)));
+        mockMvc.perform(get("/api/leaves/pending")
+                        .header("Authorization", "Bearer " + outsiderToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+
+        mockMvc.perform(put("/api/leaves/" + leaveId + "/approve")
+                        .header("Authorization", "Bearer " + outsiderToken))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.type").value("/problems/not-an-approver"));
+
+        mockMvc.perform(put("/api/leaves/" + leaveId + "/approve")
+                        .header("Authorization", "Bearer " + leadToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("APPROVED"));
+    }
+
+    @Test
+    @DisplayName("Moving a subtree updates the queues incrementally; a cycle is rejected with 400")
+    void move_updatesQueues_andRejectsCycles() throws Exception {
+        long leaveId = createLeave(120);
+
+        mockMvc.perform(put("/api/users/" + director + "/manager")
+                        .header("Authorization", "Bearer " + directorToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"managerUsername\": \"" + employee + "\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.type").value("/problems/invalid-hierarchy"));
+
+        setManager(lead, outsider);
+
+        mockMvc.perform(get("/api/leaves/pending")
+                        .header("Authorization", "Bearer " + outsiderToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", hasItem((int) leaveId)));
+        mockMvc.perform(get("/api/leaves/pending")
+                        .header("Authorization", "Bearer " + directorToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", not(hasItem((int) leaveId))));
+
+        setManager(lead, director);
+    }
+}
@@ -0,0 +1,159 @@
+package com.leaveease.leaveease_api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leaveease.leaveease_api.entity.OutboxCursor;
+import com.leaveease.leaveease_api.repository.OutboxCursorRepository;
+import com.leaveease.leaveease_api.service.InMemoryEventSink;
+import com.leaveease.leaveease_api.service.OutboxCursorService;
+import com.leaveease.leaveease_api.service.OutboxRelay;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.outbox.memory.enabled=true")
+@AutoConfigureMockMvc
+class OutboxRelayTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryEventSink inMemoryEventSink;
+
+    @Autowired
+    private OutboxCursorService cursorService;
+
+    @Autowired
+    private OutboxCursorRepository cursorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("POST /api/leaves → CREATED event is relayed to the configured sinks")
+    void createdLeave_isRelayed() throws Exception {
+        String username = "obx_" + UUID.randomUUID().toString().substring(0, 8);
+        String token = TestAccounts.employee(mockMvc, username);
+
+        long leaveId = createLeave(token, LocalDate.now().plusDays(15));
+
+        outboxRelay.relay();
+
+        List<JsonNode> events = inMemoryEventSink.getDelivered().stream()
+                .map(this::parse)
+                .filter(e -> e.get("data").get("leaveRequestId").asLong() == leaveId)
+                .toList();
+        assertEquals(1, events.size());
+        assertEquals("CREATED", events.get(0).get("type").asText());
+        assertEquals(username, events.get(0).get("data").get("username").asText());
+        assertTrue(events.get(0).get("id").asLong() > 0);
+    }
+
+    @Test
+    @DisplayName("An event committed after a higher id was relayed → still relayed")
+    void lateCommit_isNotSkipped() throws Exception {
+        String token = TestAccounts.employee(mockMvc, "obx_" + UUID.randomUUID().toString().substring(0, 8));
+        long firstLeave = createLeave(token, LocalDate.now().plusDays(30));
+        outboxRelay.relay();
+
+        LateCommit late = LateCommit.insert(transactionManager, jdbcTemplate, """
+                INSERT INTO outbox_events (event_type, organization_id, leave_request_id,
+                                           actor_username, subject_username, payload, occurred_at)
+                SELECT event_type, organization_id, leave_request_id,
+                       actor_username, subject_username, payload, occurred_at
+                FROM outbox_events WHERE leave_request_id = ?
+                """, firstLeave);
+
+        long secondLeave = createLeave(token, LocalDate.now().plusDays(40));
+        outboxRelay.relay();
+        assertEquals(List.of(), deliveredIds(late.id()));
+        assertEquals(1, inMemoryEventSink.getDelivered().stream()
+                .map(this::parse)
+                .filter(e -> e.get("data").get("leaveRequestId").asLong() == secondLeave)
+                .count());
+
+        late.commit();
+        outboxRelay.relay();
+        assertEquals(List.of(late.id()), deliveredIds(late.id()));
+    }
+
+    @Test
+    @DisplayName("A consumer that is not running on this node still holds back pruning")
+    void prune_respectsEveryCursor() throws Exception {
+        String token = TestAccounts.employee(mockMvc, "obx_" + UUID.randomUUID().toString().substring(0, 8));
+        long leaveId = createLeave(token, LocalDate.now().plusDays(50));
+        outboxRelay.relay();
+
+        String remote = "remote:" + UUID.randomUUID();
+        cursorRepository.saveAndFlush(OutboxCursor.builder()
+                .consumer(remote)
+                .lastEventId(0)
+                .updatedAt(LocalDateTime.now())
+                .build());
+        try {
+            assertEquals(0, cursorService.pruneConsumed(LocalDateTime.now().plusDays(1)));
+            assertEquals(1, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM outbox_events WHERE leave_request_id = ?", Integer.class, leaveId));
+        } finally {
+            cursorRepository.deleteById(remote);
+        }
+    }
+
+    private long createLeave(String token, LocalDate start) throws Exception {
+        MvcResult created = mockMvc.perform(post("/api/leaves")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "leaveType": "CASUAL",
+                                    "startDate": "%s",
+                                    "endDate": "%s"
+                                }
+                                """.formatted(start, start.plusDays(1))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private List<Long> deliveredIds(long eventId) {
+        return inMemoryEventSink.getDelivered().stream()
+                .map(this::parse)
+                .map(e -> e.get("id").asLong())
+                .filter(id -> id == eventId)
+                .toList();
+    }
+
+    private JsonNode parse(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.leaveease.leaveease_api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leaveease.leaveease_api.entity.LeaveEventType;
+import com.leaveease.leaveease_api.entity.LeaveRequest;
+import com.leaveease.leaveease_api.entity.LeaveStatus;
+import com.leaveease.leaveease_api.entity.Organization;
+import com.leaveease.leaveease_api.service.LeaveLifecycleEvent;
+import com.leaveease.leaveease_api.service.PendingInboxSynchronizer;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PendingInboxTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PendingInboxSynchronizer pendingInboxSynchronizer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+    private final String organization = "inbox-" + suffix;
+
+    private String employeeToken;
+    private String adminToken;
+
+    private long createLeave(int offsetDays) throws Exception {
+        LocalDate start = LocalDate.now().plusDays(offsetDays);
+        MvcResult created = mockMvc.perform(post("/api/leaves")
+                        .header("Authorization", "Bearer " + employeeToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "leaveType": "ANNUAL",
+                                    "startDate": "%s",
+                                    "endDate": "%s"
+                                }
+                                """.formatted(start, start.plusDays(1))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    @BeforeAll
+    void setUp() throws Exception {
+        adminToken = TestAccounts.registerAdmin(mockMvc, organization, "inb_adm_" + suffix);
+        employeeToken = TestAccounts.provision(mockMvc, adminToken, "inb_emp_" + suffix, "EMPLOYEE");
+    }
+
+    @Test
+    @DisplayName("Create, approve → inbox and summary follow immediately, oldest first")
+    void inbox_followsLocalChanges() throws Exception {
+        long first = createLeave(200);
+        long second = createLeave(210);
+
+        mockMvc.perform(get("/api/leaves/inbox")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].id").value(first))
+                .andExpect(jsonPath("$.content[1].id").value(second))
+                .andExpect(jsonPath("$.totalElements").value(2));
+
+        mockMvc.perform(put("/api/leaves/" + first + "/approve")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/leaves/inbox/summary")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pending").value(1));
+
+        mockMvc.perform(get("/api/leaves/inbox")
+                        .param("size", "1")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(second))
+                .andExpect(jsonPath("$.totalPages").value(1));
+
+        mockMvc.perform(put("/api/leaves/" + second + "/reject")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("A change committed by another node is applied from the outbox on the next catch-up")
+    void inbox_appliesRemoteChangesFromOutbox() throws Exception {
+        long leaveId = createLeave(230);
+        Long organizationId = jdbcTemplate.queryForObject(
+                "SELECT organization_id FROM leave_requests WHERE id = ?", Long.class, leaveId);
+
+        jdbcTemplate.update("UPDATE leave_requests SET status = 'REJECTED' WHERE id = ?", leaveId);
+        jdbcTemplate.update("""
+                INSERT INTO outbox_events (event_type, organization_id, leave_request_id, actor_username,
+                                           subject_username, payload, occurred_at)
+                VALUES ('REJECTED', ?, ?, 'other-node', ?, '{}', ?)
+                """, organizationId, leaveId, "inb_emp_" + suffix, LocalDateTime.now());
+
+        pendingInboxSynchronizer.catchUp();
+
+        mockMvc.perform(get("/api/leaves/inbox/summary")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pending").value(0));
+    }
+
+    @Test
+    @DisplayName("A local create applied after another node decided the request → not brought back")
+    void inbox_localCreateAfterRemoteDecision_staysOut() throws Exception {
+        long leaveId = createLeave(240);
+        Long organizationId = jdbcTemplate.queryForObject(
+                "SELECT organization_id FROM leave_requests WHERE id = ?", Long.class, leaveId);
+        jdbcTemplate.update("UPDATE leave_requests SET status = 'APPROVED' WHERE id = ?", leaveId);
+
+        pendingInboxSynchronizer.onLeaveEvent(new LeaveLifecycleEvent(0, LeaveEventType.CREATED,
+                LeaveRequest.builder()
+                        .id(leaveId)
+                        .organization(Organization.builder().id(organizationId).build())
+                        .status(LeaveStatus.PENDING)
+                        .build(),
+                "inb_emp_" + suffix));
+
+        mockMvc.perform(get("/api/leaves/inbox/summary")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pending").value(0));
+    }
+
+    @Test
+    @DisplayName("An outbox event committed after a higher id was applied → still applied")
+    void inbox_lateEvent_isApplied() throws Exception {
+        long leaveId = createLeave(250);
+        Long organizationId = jdbcTemplate.queryForObject(
+                "SELECT organization_id FROM leave_requests WHERE id = ?", Long.class, leaveId);
+        pendingInboxSynchronizer.catchUp();
+
+        jdbcTemplate.update("UPDATE leave_requests SET status = 'REJECTED' WHERE id = ?", leaveId);
+        LateCommit late = LateCommit.insert(transactionManager, jdbcTemplate, """
+                INSERT INTO outbox_events (event_type, organization_id, leave_request_id, actor_username,
+                                           subject_username, payload, occurred_at)
+                VALUES ('REJECTED', ?, ?, 'other-node', ?, '{}', ?)
+                """, organizationId, leaveId, "inb_emp_" + suffix, LocalDateTime.now());
+        long other = createLeave(260);
+        mockMvc.perform(put("/api/leaves/" + other + "/approve")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+        pendingInboxSynchronizer.catchUp();
+
+        mockMvc.perform(get("/api/leaves/inbox/summary")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pending").value(1));
+
+        late.commit();
+        pendingInboxSynchronizer.catchUp();
+
+        mockMvc.perform(get("/api/leaves/inbox/summary")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pending").value(0));
+    }
+}
@@ -0,0 +1,78 @@
+package com.leaveease.leaveease_api;
+
+import com.leaveease.leaveease_api.entity.LeaveRequest;
+import com.leaveease.leaveease_api.entity.LeaveStatus;
+import com.leaveease.leaveease_api.entity.LeaveType;
+import com.leaveease.leaveease_api.entity.User;
+import com.leaveease.leaveease_api.repository.LeaveRequestRepository;
+import com.leaveease.leaveease_api.service.OrganizationService;
+import com.leaveease.leaveease_api.service.PendingLeaveSweeper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class PendingLeaveSweeperTest {
+
+    @Autowired
+    private PendingLeaveSweeper sweeper;
+
+    @Autowired
+    private OrganizationService organizationService;
+
+    @Autowired
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LeaveRequest pendingLeave(User user, int startInDays, int ageInDays) {
+        LocalDate start = LocalDate.now().plusDays(startInDays);
+        LeaveRequest leave = leaveRequestRepository.save(LeaveRequest.builder()
+                .organization(user.getOrganization())
+                .user(user)
+                .leaveType(LeaveType.ANNUAL)
+                .startDate(start)
+                .endDate(start.plusDays(1))
+                .build());
+        jdbcTemplate.update("UPDATE leave_requests SET created_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(ageInDays)), leave.getId());
+        return leave;
+    }
+
+    @Test
+    @DisplayName("Sweep expires requests past the SLA and escalates those past the escalation threshold")
+    void sweep_expiresAndEscalatesStaleRequests() {
+        String username = "sla_" + UUID.randomUUID().toString().substring(0, 8);
+        User user = organizationService.registerOrganization(username.replace('_', '-'), User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password("irrelevant")
+                .build());
+
+        LeaveRequest fresh = pendingLeave(user, 30, 0);
+        LeaveRequest overdue = pendingLeave(user, 40, 5);
+        LeaveRequest abandoned = pendingLeave(user, 50, 20);
+
+        sweeper.sweep();
+
+        LeaveRequest freshAfter = leaveRequestRepository.findById(fresh.getId()).orElseThrow();
+        assertEquals(LeaveStatus.PENDING, freshAfter.getStatus());
+        assertNull(freshAfter.getEscalatedAt());
+
+        LeaveRequest overdueAfter = leaveRequestRepository.findById(overdue.getId()).orElseThrow();
+        assertEquals(LeaveStatus.PENDING, overdueAfter.getStatus());
+        assertNotNull(overdueAfter.getEscalatedAt());
+
+        assertEquals(LeaveStatus.EXPIRED, leaveRequestRepository.findById(abandoned.getId()).orElseThrow().getStatus());
+    }
+}
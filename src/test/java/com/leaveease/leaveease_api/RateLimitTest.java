@@ -0,0 +1,99 @@
+package com.leaveease.leaveease_api;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.security.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "app.rate-limit.auth-ip.capacity=100",
+        "app.rate-limit.auth-username.capacity=3",
+        "app.rate-limit.auth-username.refill-per-minute=1"
+})
+@AutoConfigureMockMvc
+class RateLimitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("POST /api/auth/login beyond the per-username budget → 429 with Retry-After")
+    void login_overUsernameBudget_returns429() throws Exception {
+        String body = """
+                {
+                    "username": "rl_%s",
+                    "password": "wrong-password"
+                }
+                """.formatted(UUID.randomUUID().toString().substring(0, 8));
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.type").value("/problems/rate-limited"));
+    }
+
+    @Test
+    @DisplayName("Auth calls beyond the per-IP budget → 429 problem from the filter, shaped like the controller's")
+    void auth_overIpBudget_returnsProblem() throws Exception {
+        RequestPostProcessor client = TestAccounts.newClient();
+        for (int i = 0; i < 100; i++) {
+            mockMvc.perform(post("/api/auth/login").with(client)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{}"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        mockMvc.perform(post("/api/auth/login").with(client)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.type").value("/problems/rate-limited"))
+                .andExpect(jsonPath("$.instance").value("/api/auth/login"));
+    }
+
+    @Test
+    @DisplayName("Keys overflowing a full stripe share a bucket with their own budget's limit, not the API's")
+    void overflow_usesBudgetLimit() {
+        AppProperties appProperties = new AppProperties();
+        AppProperties.RateLimit config = appProperties.getRateLimit();
+        config.setMaxBuckets(16);
+        config.getApi().setCapacity(1_000);
+        config.getApi().setRefillPerMinute(1);
+        config.getAuthUsername().setCapacity(1);
+        config.getAuthUsername().setRefillPerMinute(1);
+        RateLimiter rateLimiter = new RateLimiter(appProperties, new SimpleMeterRegistry());
+
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(0, rateLimiter.tryAcquire(RateLimiter.Budget.API, "client-" + i));
+        }
+
+        assertEquals(0, rateLimiter.tryAcquire(RateLimiter.Budget.AUTH_USERNAME, "sprayed"));
+        assertTrue(rateLimiter.tryAcquire(RateLimiter.Budget.AUTH_USERNAME, "sprayed") > 0);
+    }
+}
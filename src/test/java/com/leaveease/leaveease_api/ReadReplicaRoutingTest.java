@@ -0,0 +1,112 @@
+package com.leaveease.leaveease_api;
+
+import com.leaveease.leaveease_api.config.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.read-replicas.enabled=true",
+        "app.read-replicas.nodes[0].url=jdbc:h2:mem:leaveease;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.read-replicas.nodes[0].username=sa",
+        "spring.datasource.hikari.maximum-pool-size=7"
+})
+@AutoConfigureMockMvc
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private String poolNameIn(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> pool(routingDataSource.currentTarget()).getPoolName());
+    }
+
+    private static HikariDataSource pool(DataSource dataSource) {
+        try {
+            return dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    @DisplayName("Read-only transactions go to the replica, read-write transactions to the primary")
+    void routesByTransactionReadOnlyFlag() {
+        assertEquals("replica-0", poolNameIn(true));
+        assertEquals("primary", poolNameIn(false));
+    }
+
+    @Test
+    @DisplayName("spring.datasource.hikari.* settings apply to the primary pool")
+    void primaryPool_bindsHikariProperties() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        HikariDataSource primary = template.execute(status -> pool(routingDataSource.currentTarget()));
+        assertEquals("primary", primary.getPoolName());
+        assertEquals(7, primary.getMaximumPoolSize());
+    }
+
+    @Test
+    @DisplayName("A user who just created a leave reads from the primary, and sees the new leave")
+    void recentWriter_readsFromPrimary() throws Exception {
+        String username = "rr_" + UUID.randomUUID().toString().substring(0, 8);
+        String token = TestAccounts.employee(mockMvc, username);
+
+        LocalDate start = LocalDate.now().plusDays(12);
+        mockMvc.perform(post("/api/leaves")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "leaveType": "ANNUAL",
+                                    "startDate": "%s",
+                                    "endDate": "%s"
+                                }
+                                """.formatted(start, start.plusDays(1))))
+                .andExpect(status().isCreated());
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+        assertEquals("primary", poolNameIn(true));
+        SecurityContextHolder.clearContext();
+
+        mockMvc.perform(get("/api/leaves/my")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].username").value(username));
+    }
+}
@@ -0,0 +1,202 @@
+package com.leaveease.leaveease_api;
+
+import com.leaveease.leaveease_api.service.AccountAvailabilityService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class RegistrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AccountAvailabilityService accountAvailabilityService;
+
+    private String body(String username, String email) {
+        return body(username, email, "reg-" + UUID.randomUUID());
+    }
+
+    private String body(String username, String email, String organization) {
+        return """
+                {
+                    "username": "%s",
+                    "email": "%s",
+                    "password": "Test@12345",
+                    "organization": "%s"
+                }
+                """.formatted(username, email, organization);
+    }
+
+    private int register(String username, String email) throws Exception {
+        return mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(username, email)))
+                .andReturn().getResponse().getStatus();
+    }
+
+    @Test
+    @DisplayName("Duplicate username or email → 400 from the unique constraint, with the clashing field named")
+    void register_duplicate_returns400() throws Exception {
+        String name = "reg_" + UUID.randomUUID().toString().substring(0, 8);
+        assertEquals(201, register(name, name + "@test.com"));
+
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(name, name + "-other@test.com")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Username already taken"));
+
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(name + "x", name + "@test.com")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Email already registered"));
+    }
+
+    @Test
+    @DisplayName("Registering an existing organization → 409 whatever role is asked for; nothing is created")
+    void register_existingOrganization_returns409() throws Exception {
+        String name = "reg_" + UUID.randomUUID().toString().substring(0, 8);
+        String organization = "reg-" + UUID.randomUUID();
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(name, name + "@test.com", organization)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.role").value("ADMIN"));
+
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "username": "%1$s_2",
+                                    "email": "%1$s_2@test.com",
+                                    "password": "Test@12345",
+                                    "role": "ADMIN",
+                                    "organization": "%2$s"
+                                }
+                                """.formatted(name, organization)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.type").value("/problems/organization-exists"));
+
+        mockMvc.perform(get("/api/auth/availability").param("username", name + "_2"))
+                .andExpect(jsonPath("$.usernameAvailable").value(true));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE username = ?", Integer.class, name + "_2"));
+    }
+
+    @Test
+    @DisplayName("A rejected account leaves no organization behind")
+    void register_rejectedAccount_createsNoOrganization() throws Exception {
+        String name = "reg_" + UUID.randomUUID().toString().substring(0, 8);
+        assertEquals(201, register(name, name + "@test.com"));
+
+        String organization = "reg-" + UUID.randomUUID();
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(name, name + "-other@test.com", organization)))
+                .andExpect(status().isBadRequest());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM organizations WHERE slug = ?", Integer.class, organization));
+    }
+
+    @Test
+    @DisplayName("Concurrent registrations of one username → exactly one 201, the rest 400")
+    void register_concurrent_exactlyOneWins() throws Exception {
+        String name = "reg_" + UUID.randomUUID().toString().substring(0, 8);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<Integer>> attempts = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                String email = name + "-" + i + "@test.com";
+                attempts.add(() -> register(name, email));
+            }
+            int created = 0;
+            for (Future<Integer> result : executor.invokeAll(attempts)) {
+                int status = result.get();
+                if (status == 201) {
+                    created++;
+                } else {
+                    assertEquals(400, status);
+                }
+            }
+            assertEquals(1, created);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/auth/availability → free names are available, registered ones are not")
+    void availability_reflectsRegisteredAccounts() throws Exception {
+        String name = "reg_" + UUID.randomUUID().toString().substring(0, 8);
+
+        mockMvc.perform(get("/api/auth/availability").param("username", name))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usernameAvailable").value(true))
+                .andExpect(jsonPath("$.emailAvailable").doesNotExist());
+
+        assertEquals(201, register(name, name + "@test.com"));
+
+        mockMvc.perform(get("/api/auth/availability")
+                        .param("username", name)
+                        .param("email", name + "@test.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usernameAvailable").value(false))
+                .andExpect(jsonPath("$.emailAvailable").value(false));
+
+        mockMvc.perform(get("/api/auth/availability"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("An account committed after a higher id was synced → reported as taken")
+    void availability_lateCommit_isPickedUp() throws Exception {
+        String name = "reg_" + UUID.randomUUID().toString().substring(0, 8);
+        TestAccounts.registerOrganization(mockMvc, "reg-" + UUID.randomUUID(), name);
+        Long organizationId = jdbcTemplate.queryForObject(
+                "SELECT organization_id FROM users WHERE username = ?", Long.class, name);
+
+        String late = name + "_l";
+        LateCommit lateCommit = LateCommit.insert(transactionManager, jdbcTemplate, """
+                INSERT INTO users (username, email, password, role, organization_id, created_at, updated_at)
+                VALUES (?, ?, 'x', 'EMPLOYEE', ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, late, late + "@test.com", organizationId);
+        TestAccounts.registerOrganization(mockMvc, "reg-" + UUID.randomUUID(), name + "_n");
+        accountAvailabilityService.sync();
+        lateCommit.commit();
+        accountAvailabilityService.sync();
+
+        mockMvc.perform(get("/api/auth/availability").param("username", late))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usernameAvailable").value(false));
+    }
+}
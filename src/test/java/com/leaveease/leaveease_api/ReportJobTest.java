@@ -0,0 +1,266 @@
+package com.leaveease.leaveease_api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.dto.ReportJobResponse;
+import com.leaveease.leaveease_api.dto.ReportJobStatus;
+import com.leaveease.leaveease_api.dto.ReportType;
+import com.leaveease.leaveease_api.entity.ReportJob;
+import com.leaveease.leaveease_api.repository.OrganizationRepository;
+import com.leaveease.leaveease_api.repository.ReportJobRepository;
+import com.leaveease.leaveease_api.service.ReportGenerator;
+import com.leaveease.leaveease_api.service.ReportJobService;
+import com.leaveease.leaveease_api.service.UserProvisioningService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReportJobTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReportGenerator reportGenerator;
+
+    @Autowired
+    private UserProvisioningService userProvisioningService;
+
+    @Autowired
+    private ReportJobRepository reportJobRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AppProperties appProperties;
+
+    @Autowired
+    private ReportJobService reportJobService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+    private String adminToken;
+    private String employeeToken;
+    private LocalDate start;
+
+    private String submit(String token, String type) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/reports")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"type": "%s", "from": "%s", "to": "%s"}
+                                """.formatted(type, LocalDate.now(), LocalDate.now().plusDays(60))))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", containsString("/api/reports/")))
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private JsonNode awaitCompletion(String id) throws Exception {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            MvcResult result = mockMvc.perform(get("/api/reports/" + id)
+                            .header("Authorization", "Bearer " + adminToken))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            JsonNode job = objectMapper.readTree(result.getResponse().getContentAsString());
+            String status = job.get("status").asText();
+            if (!"QUEUED".equals(status) && !"RUNNING".equals(status)) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Report job " + id + " did not finish");
+    }
+
+    @BeforeAll
+    void setUp() throws Exception {
+        String organization = "rpt-" + suffix;
+        adminToken = TestAccounts.registerAdmin(mockMvc, organization, "rpt_adm_" + suffix);
+        employeeToken = TestAccounts.provision(mockMvc, adminToken, "rpt_emp_" + suffix, "EMPLOYEE");
+
+        start = LocalDate.now().plusDays(5);
+        MvcResult created = mockMvc.perform(post("/api/leaves")
+                        .header("Authorization", "Bearer " + employeeToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"leaveType": "SICK", "startDate": "%s", "endDate": "%s", "reason": "=HYPERLINK(\\"x\\")"}
+                                """.formatted(start, start.plusDays(2))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long leaveId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+        mockMvc.perform(put("/api/leaves/" + leaveId + "/approve")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Submitted report runs in the background and downloads as CSV, whole or by byte range")
+    void leaveRequestsReport_generatesAndDownloads() throws Exception {
+        String id = submit(adminToken, "LEAVE_REQUESTS");
+        JsonNode job = awaitCompletion(id);
+        assertEquals("SUCCEEDED", job.get("status").asText());
+        assertEquals(1, job.get("rows").asLong());
+
+        MvcResult full = mockMvc.perform(get("/api/reports/" + id + "/result")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Accept-Ranges", "bytes"))
+                .andExpect(header().string("Content-Disposition", containsString("leave-requests-")))
+                .andReturn();
+        String csv = full.getResponse().getContentAsString();
+        assertEquals(job.get("sizeBytes").asLong(), full.getResponse().getContentAsByteArray().length);
+        Assertions.assertTrue(csv.startsWith("id,username,leave_type,start_date,end_date,status,"));
+        Assertions.assertTrue(csv.contains(",rpt_emp_" + suffix + ",SICK," + start + "," + start.plusDays(2)
+                + ",APPROVED,rpt_adm_" + suffix + ",\"'=HYPERLINK(\"\"x\"\")\","), csv);
+
+        mockMvc.perform(get("/api/reports/" + id + "/result")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .header("Range", "bytes=3-11"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 3-11/" + csv.length()))
+                .andExpect(content().string("username,"));
+
+        mockMvc.perform(get("/api/reports/" + id + "/result")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .header("Range", "bytes=" + csv.length() + "-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable());
+    }
+
+    @Test
+    @DisplayName("LEAVE_DAYS_BY_USER sums approved days per employee and leave type")
+    void leaveDaysReport_sumsApprovedDays() throws Exception {
+        String id = submit(adminToken, "LEAVE_DAYS_BY_USER");
+        assertEquals("SUCCEEDED", awaitCompletion(id).get("status").asText());
+
+        mockMvc.perform(get("/api/reports/" + id + "/result")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(content().string(startsWith(
+                        "username,annual_days,sick_days,casual_days,other_days,total_days\r\n")))
+                .andExpect(content().string(containsString("rpt_emp_" + suffix + ",0,3,0,0,3\r\n")));
+    }
+
+    @Test
+    @DisplayName("Jobs are admin-only and invisible to other organizations; an inverted period or a provisioning type → 400")
+    void reports_areScopedAndValidated() throws Exception {
+        mockMvc.perform(post("/api/reports")
+                        .header("Authorization", "Bearer " + employeeToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"type": "LEAVE_REQUESTS", "from": "2026-01-01", "to": "2026-12-31"}
+                                """))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/reports")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"type": "LEAVE_REQUESTS", "from": "2026-12-31", "to": "2026-01-01"}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.type").value("/problems/invalid-report-request"));
+
+        mockMvc.perform(post("/api/reports")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"type": "USER_PROVISIONING", "from": "2026-01-01", "to": "2026-12-31"}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.type").value("/problems/invalid-report-request"));
+
+        String id = submit(adminToken, "LEAVE_REQUESTS");
+        String otherAdmin = TestAccounts.registerAdmin(mockMvc, "rpt-other-" + suffix, "rpt_oth_" + suffix);
+        mockMvc.perform(get("/api/reports/" + id)
+                        .header("Authorization", "Bearer " + otherAdmin))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/reports/" + id + "/result")
+                        .header("Authorization", "Bearer " + otherAdmin))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("A job is visible to every node: another instance reports its status and serves its result")
+    void job_isSharedAcrossNodes() throws Exception {
+        String id = submit(adminToken, "LEAVE_REQUESTS");
+        assertEquals("SUCCEEDED", awaitCompletion(id).get("status").asText());
+
+        ReportJobService otherNode = new ReportJobService(reportGenerator, userProvisioningService,
+                reportJobRepository, organizationRepository, transactionManager, appProperties, new SimpleMeterRegistry());
+        long organizationId = reportJobRepository.findById(UUID.fromString(id)).orElseThrow().getOrganizationId();
+        ReportJobResponse job = otherNode.get(organizationId, UUID.fromString(id));
+        assertEquals(ReportJobStatus.SUCCEEDED, job.status());
+        assertEquals(1L, job.rows());
+        assertEquals(job.sizeBytes(), Files.size(otherNode.result(organizationId, UUID.fromString(id)).path()));
+    }
+
+    @Test
+    @DisplayName("Cleanup fails a job whose lease expired, keeps an old job whose node still renews it; the owner cannot revive it")
+    void abandonedJob_isFailedOnceItsLeaseExpires() {
+        long organizationId = organizationRepository.findBySlug("rpt-" + suffix).orElseThrow().getId();
+        Instant longAgo = Instant.now().minus(Duration.ofHours(2));
+        ReportJob abandoned = reportJobRepository.save(job(organizationId, ReportJobStatus.RUNNING, "gone", longAgo, longAgo));
+        ReportJob renewed = reportJobRepository.save(job(organizationId, ReportJobStatus.QUEUED, "alive", longAgo, Instant.now()));
+        ReportJob stale = reportJobRepository.findById(abandoned.getId()).orElseThrow();
+        try {
+            reportJobService.cleanUp();
+
+            assertEquals(ReportJobStatus.FAILED, reportJobRepository.findById(abandoned.getId()).orElseThrow().getStatus());
+            assertEquals(ReportJobStatus.QUEUED, reportJobRepository.findById(renewed.getId()).orElseThrow().getStatus());
+
+            stale.setStatus(ReportJobStatus.SUCCEEDED);
+            assertThrows(OptimisticLockingFailureException.class, () -> reportJobRepository.save(stale));
+            assertEquals(ReportJobStatus.FAILED, reportJobRepository.findById(abandoned.getId()).orElseThrow().getStatus());
+        } finally {
+            reportJobRepository.deleteAllByIdInBatch(List.of(abandoned.getId(), renewed.getId()));
+        }
+    }
+
+    private static ReportJob job(long organizationId, ReportJobStatus status, String owner,
+                                 Instant submittedAt, Instant heartbeatAt) {
+        return ReportJob.builder()
+                .id(UUID.randomUUID())
+                .organizationId(organizationId)
+                .requestedBy("rpt_adm")
+                .type(ReportType.LEAVE_REQUESTS)
+                .fromDate(LocalDate.now())
+                .toDate(LocalDate.now())
+                .status(status)
+                .submittedAt(submittedAt)
+                .owner(owner)
+                .heartbeatAt(heartbeatAt)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.leaveease.leaveease_api;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "app.deadlines.endpoints[0].method=GET",
+        "app.deadlines.endpoints[0].path=/api/leaves/my",
+        "app.deadlines.endpoints[0].timeout=PT0.000001S"
+})
+@AutoConfigureMockMvc
+class RequestDeadlineTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private String register() throws Exception {
+        return TestAccounts.employee(mockMvc, "ddl_" + UUID.randomUUID().toString().substring(0, 8));
+    }
+
+    @Test
+    @DisplayName("Endpoint past its deadline → 503 problem before any query; other endpoints unaffected")
+    void expiredDeadline_failsFastOnlyForThatEndpoint() throws Exception {
+        String token = register();
+
+        mockMvc.perform(get("/api/leaves/my")
+                        .header("Authorization", "Bearer " + token)
+                        .header("X-Request-Timeout", "60000"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.type").value("/problems/deadline-exceeded"));
+
+        assertEquals(1.0, meterRegistry.get("leaveease.deadline.expired")
+                .tag("endpoint", "GET /api/leaves/my")
+                .tag("cause", "transaction")
+                .counter().count());
+
+        mockMvc.perform(get("/api/calendar/feeds")
+                        .header("Authorization", "Bearer " + token)
+                        .header("X-Request-Timeout", "5000"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Exhausted pool → 503 once the deadline passes, not after Hikari's connection timeout")
+    void exhaustedPool_waitsOnlyUntilTheDeadline() throws Exception {
+        String token = register();
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+
+        List<Connection> held = new ArrayList<>();
+        long elapsedMillis;
+        try {
+            while (held.size() < pool.getMaximumPoolSize()) {
+                held.add(pool.getConnection());
+            }
+            long start = System.nanoTime();
+            mockMvc.perform(get("/api/calendar/feeds")
+                            .header("Authorization", "Bearer " + token)
+                            .header("X-Request-Timeout", "300"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.type").value("/problems/deadline-exceeded"));
+            elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+
+        assertTrue(elapsedMillis < pool.getConnectionTimeout(), "waited " + elapsedMillis + " ms");
+        assertEquals(1.0, meterRegistry.get("leaveease.deadline.expired")
+                .tag("endpoint", "GET /api/calendar/feeds")
+                .tag("cause", "query")
+                .counter().count());
+    }
+}
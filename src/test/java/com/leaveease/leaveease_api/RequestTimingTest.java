@@ -0,0 +1,56 @@
+package com.leaveease.leaveease_api;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.request-timing.slow-threshold=0ms")
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RequestTimingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private String employeeToken;
+    private String adminToken;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        String username = "tim_" + UUID.randomUUID().toString().substring(0, 8);
+        adminToken = TestAccounts.registerAdmin(mockMvc, TestAccounts.orgFor(username), username + "_adm");
+        employeeToken = TestAccounts.provision(mockMvc, adminToken, username, "EMPLOYEE");
+    }
+
+    @Test
+    @DisplayName("GET /actuator/slowrequests lists recent requests with their SQL statement count")
+    void slowRequests_listsBreakdown() throws Exception {
+        mockMvc.perform(get("/api/leaves/my")
+                        .header("Authorization", "Bearer " + employeeToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/slowrequests")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].path", hasItem("/api/leaves/my")))
+                .andExpect(jsonPath("$[?(@.path == '/api/leaves/my')].sqlCount", hasItem(greaterThan(0))));
+    }
+
+    @Test
+    @DisplayName("EMPLOYEE: GET /actuator/slowrequests → 403 Forbidden")
+    void slowRequests_requiresAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/slowrequests")
+                        .header("Authorization", "Bearer " + employeeToken))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,82 @@
+package com.leaveease.leaveease_api;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SparseFieldsTest {
+
+    private static final MediaType APPLICATION_CBOR = MediaType.parseMediaType("application/cbor");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private String employeeToken;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        String username = "spf_" + UUID.randomUUID().toString().substring(0, 8);
+        employeeToken = TestAccounts.employee(mockMvc, username);
+
+        LocalDate start = LocalDate.now().plusDays(20);
+        mockMvc.perform(post("/api/leaves")
+                        .header("Authorization", "Bearer " + employeeToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "leaveType": "ANNUAL",
+                                    "startDate": "%s",
+                                    "endDate": "%s",
+                                    "reason": "Sparse"
+                                }
+                                """.formatted(start, start.plusDays(1))))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("GET /api/leaves/my?fields=id,status → only the requested properties")
+    void getMyLeaves_withFields_returnsOnlyThoseProperties() throws Exception {
+        mockMvc.perform(get("/api/leaves/my")
+                        .param("fields", "id,status")
+                        .header("Authorization", "Bearer " + employeeToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").isNumber())
+                .andExpect(jsonPath("$[0].status").value("PENDING"))
+                .andExpect(jsonPath("$[0].reason").doesNotExist())
+                .andExpect(jsonPath("$[0].username").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/leaves/my?fields=unknown → 400 Bad Request")
+    void getMyLeaves_withUnknownField_returns400() throws Exception {
+        mockMvc.perform(get("/api/leaves/my")
+                        .param("fields", "id,password")
+                        .header("Authorization", "Bearer " + employeeToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/leaves/my with Accept: application/cbor → CBOR body")
+    void getMyLeaves_acceptCbor_returnsCbor() throws Exception {
+        mockMvc.perform(get("/api/leaves/my")
+                        .accept(APPLICATION_CBOR)
+                        .header("Authorization", "Bearer " + employeeToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_CBOR));
+    }
+}
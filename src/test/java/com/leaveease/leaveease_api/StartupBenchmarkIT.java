@@ -0,0 +1,125 @@
+package com.leaveease.leaveease_api;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Time-to-first-request of the plain fat jar versus the AOT + AppCDS layout built by the {@code fast-start}
+ * profile. Runs under failsafe in that profile only; results go to {@code target/startup-benchmark.properties}.
+ */
+class StartupBenchmarkIT {
+
+    private static final int RUNS = 3;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    @Test
+    @DisplayName("AOT + AppCDS start answers its first request faster than the plain fat jar")
+    void fastStart_beatsPlainJar() throws Exception {
+        String profile = System.getProperty("benchmark.profile", "prod");
+        Path fatJar = Path.of(System.getProperty("benchmark.fatJar"));
+        Path cdsDir = Path.of(System.getProperty("benchmark.cdsDir"));
+        String jarName = System.getProperty("benchmark.jarName");
+
+        long plainMillis = median(() -> timeToFirstRequest(fatJar.getParent(),
+                List.of("-jar", fatJar.toString()), profile));
+        long fastMillis = median(() -> timeToFirstRequest(cdsDir,
+                List.of("-XX:SharedArchiveFile=application.jsa", "-Xlog:cds=off", "-Xlog:cds+dynamic=off",
+                        "-Dspring.aot.enabled=true", "-jar", jarName), profile));
+
+        Properties results = new Properties();
+        results.setProperty("runs", Integer.toString(RUNS));
+        results.setProperty("plain.time-to-first-request.ms", Long.toString(plainMillis));
+        results.setProperty("fast-start.time-to-first-request.ms", Long.toString(fastMillis));
+        results.setProperty("fast-start.ratio", String.format("%.2f", (double) fastMillis / plainMillis));
+        try (OutputStream out = Files.newOutputStream(Path.of(System.getProperty("benchmark.output")))) {
+            results.store(out, "Median time from JVM launch to first HTTP response");
+        }
+
+        assertTrue(fastMillis < plainMillis,
+                "fast-start took " + fastMillis + " ms, plain jar " + plainMillis + " ms");
+    }
+
+    private long median(StartupRun run) throws Exception {
+        long[] samples = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            samples[i] = run.millis();
+        }
+        Arrays.sort(samples);
+        return samples[RUNS / 2];
+    }
+
+    private long timeToFirstRequest(Path workingDir, List<String> launch, String profile) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(launch);
+        command.addAll(List.of(
+                "--spring.profiles.active=" + profile,
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:benchmark",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.hibernate.ddl-auto=create-drop"));
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(workingDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.to(new File(
+                        System.getProperty("os.name").startsWith("Windows") ? "NUL" : "/dev/null")))
+                .start();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health"))
+                    .timeout(Duration.ofSeconds(5))
+                    .build();
+            long deadline = started + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() - deadline < 0) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with " + process.exitValue());
+                }
+                try {
+                    httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                    return Duration.ofNanos(System.nanoTime() - started).toMillis();
+                } catch (IOException notListeningYet) {
+                    Thread.sleep(20);
+                }
+            }
+            throw new IllegalStateException("No response within " + STARTUP_TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @FunctionalInterface
+    private interface StartupRun {
+        long millis() throws Exception;
+    }
+}
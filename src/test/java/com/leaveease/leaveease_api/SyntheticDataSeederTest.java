@@ -0,0 +1,119 @@
+package com.leaveease.leaveease_api;
+
+import com.leaveease.leaveease_api.config.AppProperties;
+import com.leaveease.leaveease_api.service.SyntheticDataSeeder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.profiles.active=dev,seed",
+        "app.seed.organization-prefix=seedtest",
+        "app.seed.organizations=2",
+        "app.seed.users-per-organization=40",
+        "app.seed.leaves-per-user=6",
+        "app.seed.manager-span=3",
+        "app.seed.history=P2Y",
+        "app.seed.anchor-date=2031-06-01",
+        "app.seed.batch-size=50"
+})
+class SyntheticDataSeederTest {
+
+    private static final String LEAVES_SQL = """
+            SELECT u.username, lr.leave_type, lr.start_date, lr.end_date, lr.reason, lr.status,
+                   a.username AS approved_by, lr.created_at, lr.updated_at
+            FROM leave_requests lr
+            JOIN users u ON u.id = lr.user_id
+            JOIN organizations o ON o.id = lr.organization_id
+            LEFT JOIN users a ON a.id = lr.approved_by_id
+            WHERE o.slug = ?
+            ORDER BY u.username, lr.start_date
+            """;
+
+    @Autowired
+    private SyntheticDataSeeder seeder;
+
+    @Autowired
+    private AppProperties appProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("seed profile → organizations, a complete reporting tree and non-overlapping leave history")
+    void seed_buildsConsistentDataset() {
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM organizations WHERE slug IN ('seedtest-1', 'seedtest-2')", Integer.class));
+        assertEquals(40, jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM users u JOIN organizations o ON o.id = u.organization_id WHERE o.slug = 'seedtest-1'
+                """, Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM users u JOIN organizations o ON o.id = u.organization_id
+                WHERE o.slug = 'seedtest-1' AND u.manager_id IS NULL
+                """, Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM users u JOIN organizations o ON o.id = u.organization_id
+                WHERE o.slug LIKE 'seedtest-%' AND (
+                    NOT EXISTS (SELECT 1 FROM user_hierarchy h
+                                WHERE h.ancestor_id = u.id AND h.descendant_id = u.id AND h.depth = 0)
+                    OR (u.manager_id IS NOT NULL AND NOT EXISTS (SELECT 1 FROM user_hierarchy h
+                                WHERE h.ancestor_id = u.manager_id AND h.descendant_id = u.id AND h.depth = 1)))
+                """, Integer.class));
+
+        List<Map<String, Object>> leaves = jdbcTemplate.queryForList(LEAVES_SQL, "seedtest-1");
+        assertFalse(leaves.isEmpty());
+        assertTrue(leaves.stream().map(row -> row.get("STATUS")).distinct().count() >= 3);
+        assertTrue(leaves.stream().map(row -> row.get("LEAVE_TYPE")).distinct().count() >= 3);
+        assertEquals(0, jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM leave_requests a
+                JOIN leave_requests b ON b.user_id = a.user_id AND b.id > a.id
+                JOIN organizations o ON o.id = a.organization_id
+                WHERE o.slug LIKE 'seedtest-%' AND a.start_date <= b.end_date AND b.start_date <= a.end_date
+                """, Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM leave_requests lr JOIN organizations o ON o.id = lr.organization_id
+                WHERE o.slug LIKE 'seedtest-%' AND (lr.end_date < lr.start_date OR lr.updated_at < lr.created_at)
+                """, Integer.class));
+
+        assertFalse(seeder.seed());
+    }
+
+    @Test
+    @DisplayName("Same seed and anchor date → identical leave history under another prefix")
+    void seed_isDeterministic() {
+        AppProperties.Seed config = appProperties.getSeed();
+        config.setOrganizationPrefix("seedtwin");
+        config.setOrganizations(1);
+        try {
+            assertTrue(seeder.seed());
+        } finally {
+            config.setOrganizationPrefix("seedtest");
+            config.setOrganizations(2);
+        }
+
+        List<Map<String, Object>> original = jdbcTemplate.queryForList(LEAVES_SQL, "seedtest-1");
+        List<Map<String, Object>> twin = jdbcTemplate.queryForList(LEAVES_SQL, "seedtwin-1");
+        assertEquals(original.size(), twin.size());
+        for (int i = 0; i < original.size(); i++) {
+            Map<String, Object> expected = original.get(i);
+            Map<String, Object> actual = twin.get(i);
+            for (String column : expected.keySet()) {
+                Object value = expected.get(column);
+                Object other = actual.get(column);
+                if (value instanceof String text && other instanceof String otherText
+                        && (column.equals("USERNAME") || column.equals("APPROVED_BY"))) {
+                    assertEquals(text.replace("seedtest", ""), otherText.replace("seedtwin", ""), column);
+                } else {
+                    assertEquals(value, other, column);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.leaveease.leaveease_api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leaveease.leaveease_api.service.LeaveSearchIndexer;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TenantIsolationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LeaveSearchIndexer leaveSearchIndexer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+    private String acmeAdminToken;
+    private String globexAdminToken;
+    private long globexLeaveId;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        acmeAdminToken = TestAccounts.registerAdmin(mockMvc, "acme-" + suffix, "ten_acme_adm_" + suffix);
+        globexAdminToken = TestAccounts.registerAdmin(mockMvc, "globex-" + suffix, "ten_glx_adm_" + suffix);
+        String globexEmployeeToken = TestAccounts.provision(mockMvc, globexAdminToken, "ten_glx_emp_" + suffix, "EMPLOYEE");
+
+        LocalDate start = LocalDate.now().plusDays(70);
+        MvcResult created = mockMvc.perform(post("/api/leaves")
+                        .header("Authorization", "Bearer " + globexEmployeeToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "leaveType": "ANNUAL",
+                                    "startDate": "%s",
+                                    "endDate": "%s",
+                                    "reason": "Globex offsite"
+                                }
+                                """.formatted(start, start.plusDays(2))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        globexLeaveId = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+        leaveSearchIndexer.rebuild();
+    }
+
+    @Test
+    @DisplayName("ADMIN: GET /api/leaves and /search → only requests of the admin's own organization")
+    void admin_seesOnlyOwnOrganization() throws Exception {
+        mockMvc.perform(get("/api/leaves")
+                        .header("Authorization", "Bearer " + acmeAdminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        mockMvc.perform(get("/api/leaves")
+                        .header("Authorization", "Bearer " + globexAdminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", contains((int) globexLeaveId)));
+
+        mockMvc.perform(get("/api/leaves/search")
+                        .param("q", "offsite")
+                        .header("Authorization", "Bearer " + acmeAdminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    @DisplayName("ADMIN: PUT /api/leaves/{id}/approve on another organization's request → 404")
+    void admin_cannotApproveOtherOrganization() throws Exception {
+        mockMvc.perform(put("/api/leaves/" + globexLeaveId + "/approve")
+                        .header("Authorization", "Bearer " + acmeAdminToken))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(put("/api/leaves/" + globexLeaveId + "/approve")
+                        .header("Authorization", "Bearer " + globexAdminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("APPROVED"));
+    }
+}
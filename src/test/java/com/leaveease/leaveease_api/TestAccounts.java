@@ -0,0 +1,112 @@
+package com.leaveease.leaveease_api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Creates accounts the way clients do: registering opens an organization with the registrant as its
+ * admin, and that admin provisions everybody else, who then log in. Every call comes from its own
+ * client address, so test classes sharing a context do not share the per-IP auth budget.
+ */
+final class TestAccounts {
+
+    static final String PASSWORD = "Test@12345";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final AtomicInteger clients = new AtomicInteger();
+
+    private TestAccounts() {
+    }
+
+    static RequestPostProcessor newClient() {
+        int client = clients.incrementAndGet();
+        return request -> {
+            request.setRemoteAddr("10.250." + (client >> 8 & 0xff) + "." + (client & 0xff));
+            return request;
+        };
+    }
+
+    /**
+     * Registers {@code organization} with {@code username} as its admin; returns the token response.
+     */
+    static JsonNode registerOrganization(MockMvc mockMvc, String organization, String username) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .with(newClient())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "username": "%s",
+                                    "email": "%s@test.com",
+                                    "password": "%s",
+                                    "organization": "%s"
+                                }
+                                """.formatted(username, username, PASSWORD, organization)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    static String registerAdmin(MockMvc mockMvc, String organization, String username) throws Exception {
+        return registerOrganization(mockMvc, organization, username).get("token").asText();
+    }
+
+    /**
+     * Has the admin behind {@code adminToken} provision {@code username} with {@code role} in their
+     * organization, then logs the new account in; returns its access token.
+     */
+    static String provision(MockMvc mockMvc, String adminToken, String username, String role) throws Exception {
+        add(mockMvc, adminToken, username, role);
+        return login(mockMvc, username).get("token").asText();
+    }
+
+    static void add(MockMvc mockMvc, String adminToken, String username, String role) throws Exception {
+        mockMvc.perform(post("/api/users/bulk")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [{"username": "%s", "email": "%s@test.com", "password": "%s", "role": "%s"}]
+                                """.formatted(username, username, PASSWORD, role)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1));
+    }
+
+    static JsonNode login(MockMvc mockMvc, String username) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/login")
+                        .with(newClient())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username": "%s", "password": "%s"}
+                                """.formatted(username, PASSWORD)))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    /**
+     * Opens a throwaway organization for a single employee and logs the employee in; returns the
+     * token response.
+     */
+    static JsonNode employeeLogin(MockMvc mockMvc, String username) throws Exception {
+        String adminToken = registerAdmin(mockMvc, orgFor(username), username + "_a");
+        add(mockMvc, adminToken, username, "EMPLOYEE");
+        return login(mockMvc, username);
+    }
+
+    static String employee(MockMvc mockMvc, String username) throws Exception {
+        return employeeLogin(mockMvc, username).get("token").asText();
+    }
+
+    static String orgFor(String username) {
+        return "org-" + username.toLowerCase().replace('_', '-');
+    }
+}
@@ -0,0 +1,40 @@
+package com.leaveease.leaveease_api;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.leaveease.leaveease_api.util.ThrottledLogger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ThrottledLoggerTest {
+
+    @Test
+    @DisplayName("Repeated warnings with the same key → logged once per window, suppressed count reported")
+    void repeatedWarnings_areDeduplicated() throws Exception {
+        Logger logger = (Logger) LoggerFactory.getLogger("throttled-logger-test");
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+
+        ThrottledLogger throttled = new ThrottledLogger(logger, Duration.ofMillis(200), 10);
+        for (int i = 0; i < 5; i++) {
+            throttled.warn("expired", "JWT authentication failed: {}", "expired " + i);
+        }
+        throttled.warn("malformed", "JWT authentication failed: {}", "malformed");
+        assertEquals(2, appender.list.size());
+
+        Thread.sleep(250);
+        throttled.warn("expired", "JWT authentication failed: {}", "expired again");
+
+        assertEquals(3, appender.list.size());
+        assertEquals("JWT authentication failed: expired again (4 similar messages suppressed)",
+                appender.list.get(2).getFormattedMessage());
+        logger.detachAppender(appender);
+    }
+}
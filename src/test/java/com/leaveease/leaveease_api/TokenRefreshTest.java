@@ -0,0 +1,153 @@
+package com.leaveease.leaveease_api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leaveease.leaveease_api.security.TokenRevocationService;
+import com.leaveease.leaveease_api.util.BloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TokenRefreshTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JsonNode register() throws Exception {
+        JsonNode tokens = TestAccounts.employeeLogin(mockMvc, "tok_" + UUID.randomUUID().toString().substring(0, 8));
+        assertFalse(tokens.get("refreshToken").asText().isEmpty());
+        assertEquals(900, tokens.get("expiresIn").asInt());
+        return tokens;
+    }
+
+    private String refreshBody(String refreshToken) {
+        return "{\"refreshToken\": \"" + refreshToken + "\"}";
+    }
+
+    @Test
+    @DisplayName("POST /api/auth/refresh → new pair; the old refresh token cannot be used twice")
+    void refresh_rotatesAndRejectsReuse() throws Exception {
+        String refreshToken = register().get("refreshToken").asText();
+
+        MvcResult refreshed = mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(refreshToken)))
+                .andExpect(status().isOk())
+                .andReturn();
+        String accessToken = objectMapper.readTree(refreshed.getResponse().getContentAsString()).get("token").asText();
+
+        mockMvc.perform(get("/api/leaves/my")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(refreshToken)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Refresh tokens are not accepted as access tokens, nor access tokens as refresh tokens")
+    void tokenTypes_areNotInterchangeable() throws Exception {
+        JsonNode tokens = register();
+
+        mockMvc.perform(get("/api/leaves/my")
+                        .header("Authorization", "Bearer " + tokens.get("refreshToken").asText()))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(tokens.get("token").asText())))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("POST /api/auth/logout → access token and refresh token are revoked")
+    void logout_revokesTokens() throws Exception {
+        JsonNode tokens = register();
+        String accessToken = tokens.get("token").asText();
+        String refreshToken = tokens.get("refreshToken").asText();
+
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(refreshToken)))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/leaves/my")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(refreshToken)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("A revocation committed after a higher id was synced → still picked up")
+    void lateRevocation_isSynced() throws Exception {
+        String lateJti = UUID.randomUUID().toString();
+        Instant expiresAt = Instant.now().plus(Duration.ofHours(1));
+        LateCommit late = LateCommit.insert(transactionManager, jdbcTemplate,
+                "INSERT INTO revoked_tokens (jti, expires_at, revoked_at) VALUES (?, ?, ?)",
+                lateJti, Timestamp.from(expiresAt), Timestamp.from(Instant.now()));
+
+        assertTrue(tokenRevocationService.revoke(UUID.randomUUID().toString(), expiresAt));
+        tokenRevocationService.sync();
+        assertFalse(tokenRevocationService.isRevoked(lateJti));
+
+        late.commit();
+        tokenRevocationService.sync();
+        assertTrue(tokenRevocationService.isRevoked(lateJti));
+    }
+
+    @Test
+    @DisplayName("BloomFilter: no false negatives and roughly the configured false-positive rate")
+    void bloomFilter_behaves() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("in-" + i);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("in-" + i));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("out-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+}
@@ -0,0 +1,168 @@
+package com.leaveease.leaveease_api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserProvisioningTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+    private String adminToken;
+    private String employeeToken;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        adminToken = TestAccounts.registerAdmin(mockMvc, "prov-" + suffix, "prv_adm_" + suffix);
+        employeeToken = TestAccounts.provision(mockMvc, adminToken, "prv_emp_" + suffix, "EMPLOYEE");
+    }
+
+    @Test
+    @DisplayName("POST /api/users/bulk (JSON) → valid rows created in the caller's organization, others rejected per row")
+    void provisionJson_reportsPerRowResults() throws Exception {
+        String created = "prv_j1_" + suffix;
+        mockMvc.perform(post("/api/users/bulk")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [
+                                    {"username": "%s", "email": "%s@test.com", "password": "Test@12345", "role": "ADMIN"},
+                                    {"username": "prv_j2_%s", "email": "not-an-email", "password": "Test@12345"},
+                                    {"username": "prv_emp_%s", "email": "prv_j3_%s@test.com", "password": "Test@12345"}
+                                ]
+                                """.formatted(created, created, suffix, suffix, suffix)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.results[?(@.row == 1)].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[?(@.row == 2)].error").value("email: must be a well-formed email address"))
+                .andExpect(jsonPath("$.results[?(@.row == 3)].error").value("Username already taken"));
+
+        assertEquals("prov-" + suffix, jdbcTemplate.queryForObject("""
+                SELECT o.slug FROM users u JOIN organizations o ON o.id = u.organization_id WHERE u.username = ?
+                """, String.class, created));
+        assertEquals(1, jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM user_hierarchy h JOIN users u ON u.id = h.descendant_id
+                WHERE u.username = ? AND h.ancestor_id = u.id AND h.depth = 0
+                """, Integer.class, created));
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username": "%s", "password": "Test@12345"}
+                                """.formatted(created)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.role").value("ADMIN"));
+    }
+
+    @Test
+    @DisplayName("POST /api/users/bulk (CSV) → report job whose result rejects duplicates and bad roles by line number")
+    void provisionCsv_runsAsJob() throws Exception {
+        String csv = """
+                username,email,password,role
+                prv_c1_%1$s,prv_c1_%1$s@test.com,"Pass,word1",EMPLOYEE
+                prv_c2_%1$s,prv_c2_%1$s@test.com,Test@12345,
+                prv_c1_%1$s,prv_c3_%1$s@test.com,Test@12345,EMPLOYEE
+                prv_c4_%1$s,prv_c4_%1$s@test.com,Test@12345,MANAGER
+                """.formatted(suffix);
+
+        MvcResult submitted = mockMvc.perform(post("/api/users/bulk")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", containsString("/api/reports/")))
+                .andExpect(jsonPath("$.type").value("USER_PROVISIONING"))
+                .andReturn();
+        String id = objectMapper.readTree(submitted.getResponse().getContentAsString()).get("id").asText();
+
+        String status = "QUEUED";
+        for (int attempt = 0; attempt < 100 && ("QUEUED".equals(status) || "RUNNING".equals(status)); attempt++) {
+            Thread.sleep(100);
+            MvcResult job = mockMvc.perform(get("/api/reports/" + id)
+                            .header("Authorization", "Bearer " + adminToken))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            status = objectMapper.readTree(job.getResponse().getContentAsString()).get("status").asText();
+        }
+        assertEquals("SUCCEEDED", status);
+
+        mockMvc.perform(get("/api/reports/" + id + "/result")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(content().string(startsWith("row,username,status,error\r\n")))
+                .andExpect(content().string(containsString("2,prv_c1_" + suffix + ",CREATED,\r\n")))
+                .andExpect(content().string(containsString("3,prv_c2_" + suffix + ",CREATED,\r\n")))
+                .andExpect(content().string(containsString(
+                        "4,prv_c1_" + suffix + ",REJECTED,username appears more than once in this upload\r\n")))
+                .andExpect(content().string(containsString("5,prv_c4_" + suffix + ",REJECTED,")));
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username": "prv_c1_%s", "password": "Pass,word1"}
+                                """.formatted(suffix)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("POST /api/users/bulk (JSON) past max-json-rows → 400 as soon as the extra row is reached")
+    void provisionJson_tooManyRows_returns400() throws Exception {
+        String rows = String.join(",", Collections.nCopies(1_001, "{}"));
+        mockMvc.perform(post("/api/users/bulk")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + rows + ", the rest is never parsed"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.type").value("/problems/invalid-provisioning-request"))
+                .andExpect(jsonPath("$.detail", containsString("at most 1000 rows")));
+    }
+
+    @Test
+    @DisplayName("POST /api/users/bulk (CSV) without the required header → 400 problem")
+    void provisionCsv_missingHeader_returns400() throws Exception {
+        mockMvc.perform(post("/api/users/bulk")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType("text/csv")
+                        .content("username,password\nsomeone,Test@12345\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.type").value("/problems/invalid-provisioning-request"));
+    }
+
+    @Test
+    @DisplayName("EMPLOYEE: POST /api/users/bulk → 403 Forbidden")
+    void employee_cannotProvision() throws Exception {
+        mockMvc.perform(post("/api/users/bulk")
+                        .header("Authorization", "Bearer " + employeeToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isForbidden());
+    }
+}